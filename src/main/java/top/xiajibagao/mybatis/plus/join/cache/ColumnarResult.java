@@ -0,0 +1,444 @@
+package top.xiajibagao.mybatis.plus.join.cache;
+
+import cn.hutool.core.util.ReflectUtil;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 按列序列化的查询结果。<br />
+ * 结果中的对象类型与字段名仅记录一次，字段值按列依次写入字节数组，超过{@link #COMPRESS_THRESHOLD}字节时使用Deflate压缩，
+ * 字节数组可存放在堆外内存中。每次调用{@link #decode()}都将重新创建结果中的对象。
+ *
+ * <p>支持以下三种结果：
+ * <ul>
+ *     <li>基本类型、字符串、数字与日期等值组成的列表；</li>
+ *     <li>键均为字符串的同一类型的Map组成的列表；</li>
+ *     <li>同一类型、具有无参构造器且不含final字段的对象组成的列表，按全部非静态非transient的字段序列化；</li>
+ * </ul>
+ * 字段值不是上述值类型时，将通过java序列化写入，无法序列化时{@link #encode}返回null。
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:20
+ */
+public class ColumnarResult {
+
+    /**
+     * 超过该字节数时压缩
+     */
+    public static final int COMPRESS_THRESHOLD = 512;
+
+    private static final byte NULL = 0;
+    private static final byte ABSENT = 1;
+    private static final byte STRING = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte SHORT = 5;
+    private static final byte BYTE = 6;
+    private static final byte BOOLEAN = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte FLOAT = 9;
+    private static final byte CHARACTER = 10;
+    private static final byte BIG_DECIMAL = 11;
+    private static final byte BIG_INTEGER = 12;
+    private static final byte DATE = 13;
+    private static final byte TIMESTAMP = 14;
+    private static final byte SQL_DATE = 15;
+    private static final byte LOCAL_DATE = 16;
+    private static final byte LOCAL_DATE_TIME = 17;
+    private static final byte LOCAL_TIME = 18;
+    private static final byte BYTES = 19;
+    private static final byte SERIALIZED = 20;
+
+    private final RowType rowType;
+    private final Class<?> rowClass;
+    private final String[] columns;
+    private final Field[] fields;
+    @Getter
+    private final int rowCount;
+    @Getter
+    private final boolean compressed;
+    private final ByteBuffer buffer;
+
+    private ColumnarResult(
+        RowType rowType, Class<?> rowClass, String[] columns, Field[] fields, int rowCount, boolean compressed, ByteBuffer buffer) {
+        this.rowType = rowType;
+        this.rowClass = rowClass;
+        this.columns = columns;
+        this.fields = fields;
+        this.rowCount = rowCount;
+        this.compressed = compressed;
+        this.buffer = buffer;
+    }
+
+    /**
+     * 序列化查询结果
+     *
+     * @param rows 查询结果
+     * @param compress 超过{@link #COMPRESS_THRESHOLD}字节时是否压缩
+     * @param direct 是否存放在堆外内存中
+     * @return top.xiajibagao.mybatis.plus.join.cache.ColumnarResult 结果中包含不支持的对象时返回null
+     * @author huangchengxing
+     * @date 2026/10/19 21:20
+     */
+    @Nullable
+    public static ColumnarResult encode(@Nonnull List<?> rows, boolean compress, boolean direct) {
+        Object first = rows.stream().filter(Objects::nonNull).findFirst().orElse(null);
+        RowType rowType = Objects.isNull(first) || isValue(first) ? RowType.VALUE : first instanceof Map ? RowType.MAP : RowType.BEAN;
+        Class<?> rowClass = Objects.isNull(first) ? null : first.getClass();
+        if (rowType != RowType.VALUE && !isSameClass(rows, rowClass)) {
+            return null;
+        }
+
+        String[] columns;
+        Field[] fields = null;
+        if (rowType == RowType.BEAN) {
+            fields = getFields(rowClass);
+            if (Objects.isNull(fields)) {
+                return null;
+            }
+            columns = Arrays.stream(fields).map(Field::getName).toArray(String[]::new);
+        } else if (rowType == RowType.MAP) {
+            columns = getKeys(rows);
+            if (Objects.isNull(columns) || Objects.isNull(ReflectUtil.getConstructor(rowClass))) {
+                return null;
+            }
+        } else {
+            columns = new String[1];
+        }
+
+        try {
+            byte[] bytes = writeColumns(rows, rowType, columns, fields);
+            boolean compressed = false;
+            if (compress && bytes.length > COMPRESS_THRESHOLD) {
+                byte[] deflated = deflate(bytes);
+                compressed = deflated.length < bytes.length;
+                bytes = compressed ? deflated : bytes;
+            }
+            ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+            buffer.put(bytes).flip();
+            return new ColumnarResult(rowType, rowClass, columns, fields, rows.size(), compressed, buffer.asReadOnlyBuffer());
+        } catch (NotSerializableException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 反序列化查询结果，每次调用都将创建新的列表与对象
+     *
+     * @return java.util.List<java.lang.Object>
+     * @author huangchengxing
+     * @date 2026/10/19 21:20
+     */
+    public List<Object> decode() {
+        ByteBuffer source = buffer.duplicate();
+        byte[] bytes = new byte[source.remaining()];
+        source.get(bytes);
+        InputStream input = new ByteArrayInputStream(bytes);
+        if (compressed) {
+            input = new InflaterInputStream(input);
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(input))) {
+            return readRows(in);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("无法读取缓存的查询结果", e);
+        }
+    }
+
+    /**
+     * 获取序列化后占用的字节数
+     *
+     * @return int
+     * @author huangchengxing
+     * @date 2026/10/19 21:20
+     */
+    public int getByteSize() {
+        return buffer.capacity();
+    }
+
+    // ============================== write ==============================
+
+    private static byte[] writeColumns(List<?> rows, RowType rowType, String[] columns, Field[] fields) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (int i = 0; i < columns.length; i++) {
+                for (Object row : rows) {
+                    if (rowType == RowType.VALUE) {
+                        writeValue(out, row);
+                    } else if (rowType == RowType.MAP) {
+                        Map<?, ?> map = (Map<?, ?>) row;
+                        if (map.containsKey(columns[i])) {
+                            writeValue(out, map.get(columns[i]));
+                        } else {
+                            out.writeByte(ABSENT);
+                        }
+                    } else {
+                        writeValue(out, ReflectUtil.getFieldValue(row, fields[i]));
+                    }
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (Objects.isNull(value)) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else if (value.getClass() == BigDecimal.class) {
+            out.writeByte(BIG_DECIMAL);
+            out.writeInt(((BigDecimal) value).scale());
+            writeBytes(out, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value.getClass() == BigInteger.class) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value.getClass() == java.sql.Timestamp.class) {
+            out.writeByte(TIMESTAMP);
+            out.writeLong(((java.sql.Timestamp) value).getTime());
+            out.writeInt(((java.sql.Timestamp) value).getNanos());
+        } else if (value.getClass() == java.sql.Date.class) {
+            out.writeByte(SQL_DATE);
+            out.writeLong(((java.sql.Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            out.writeByte(LOCAL_DATE);
+            out.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalDateTime) {
+            out.writeByte(LOCAL_DATE_TIME);
+            out.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            out.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof LocalTime) {
+            out.writeByte(LOCAL_TIME);
+            out.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (value instanceof Serializable) {
+            out.writeByte(SERIALIZED);
+            ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(serialized)) {
+                objectOut.writeObject(value);
+            }
+            writeBytes(out, serialized.toByteArray());
+        } else {
+            throw new NotSerializableException(value.getClass().getName());
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] deflate(byte[] bytes) throws IOException {
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream(bytes.length / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(deflated, deflater)) {
+            out.write(bytes);
+        } finally {
+            deflater.end();
+        }
+        return deflated.toByteArray();
+    }
+
+    // ============================== read ==============================
+
+    private List<Object> readRows(DataInputStream in) throws IOException, ClassNotFoundException {
+        Object[][] values = new Object[columns.length][rowCount];
+        for (int i = 0; i < columns.length; i++) {
+            for (int j = 0; j < rowCount; j++) {
+                values[i][j] = readValue(in);
+            }
+        }
+        List<Object> rows = new ArrayList<>(rowCount);
+        for (int j = 0; j < rowCount; j++) {
+            rows.add(rowType == RowType.VALUE ? values[0][j] : createRow(values, j));
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object createRow(Object[][] values, int index) {
+        Object row = ReflectUtil.newInstance(rowClass);
+        for (int i = 0; i < columns.length; i++) {
+            Object value = values[i][index];
+            if (rowType == RowType.BEAN) {
+                ReflectUtil.setFieldValue(row, fields[i], value);
+            } else if (value != Absent.INSTANCE) {
+                ((Map<String, Object>) row).put(columns[i], value);
+            }
+        }
+        return row;
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException, ClassNotFoundException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case ABSENT:
+                return Absent.INSTANCE;
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case BOOLEAN:
+                return in.readBoolean();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case CHARACTER:
+                return in.readChar();
+            case BIG_DECIMAL:
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case DATE:
+                return new Date(in.readLong());
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            case SQL_DATE:
+                return new java.sql.Date(in.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case LOCAL_DATE_TIME:
+                LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(in.readLong());
+            case BYTES:
+                return readBytes(in);
+            case SERIALIZED:
+                try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                    return objectIn.readObject();
+                }
+            default:
+                throw new StreamCorruptedException("未知的字段类型：" + type);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    // ============================== schema ==============================
+
+    private static boolean isValue(Object row) {
+        return row instanceof CharSequence || row instanceof Number || row instanceof Boolean || row instanceof Character
+            || row instanceof Date || row instanceof LocalDate || row instanceof LocalDateTime || row instanceof LocalTime
+            || row instanceof byte[];
+    }
+
+    private static boolean isSameClass(List<?> rows, Class<?> rowClass) {
+        return rows.stream().allMatch(row -> Objects.nonNull(row) && row.getClass() == rowClass);
+    }
+
+    /**
+     * 获取对象的全部非静态非transient字段，对象没有无参构造器、没有字段、包含final字段或同名字段时返回null
+     */
+    @Nullable
+    private static Field[] getFields(Class<?> rowClass) {
+        if (Objects.isNull(ReflectUtil.getConstructor(rowClass))) {
+            return null;
+        }
+        Field[] fields = Arrays.stream(ReflectUtil.getFields(rowClass))
+            .filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+            .toArray(Field[]::new);
+        boolean writable = Arrays.stream(fields).noneMatch(field -> Modifier.isFinal(field.getModifiers()));
+        boolean unique = Arrays.stream(fields).map(Field::getName).distinct().count() == fields.length;
+        return fields.length > 0 && writable && unique ? fields : null;
+    }
+
+    /**
+     * 获取全部Map中出现过的键，存在不为字符串的键时返回null
+     */
+    @Nullable
+    private static String[] getKeys(List<?> rows) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (Object row : rows) {
+            for (Object key : ((Map<?, ?>) row).keySet()) {
+                if (!(key instanceof String)) {
+                    return null;
+                }
+                keys.add((String) key);
+            }
+        }
+        return keys.toArray(new String[0]);
+    }
+
+    private enum RowType {
+
+        /**
+         * 值、Map或对象
+         */
+        VALUE, MAP, BEAN
+
+    }
+
+    /**
+     * Map中不存在的键
+     */
+    private enum Absent {
+
+        INSTANCE
+
+    }
+
+}
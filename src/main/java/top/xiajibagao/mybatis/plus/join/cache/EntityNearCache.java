@@ -0,0 +1,318 @@
+package top.xiajibagao.mybatis.plus.join.cache;
+
+import cn.hutool.core.bean.BeanUtil;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import lombok.Getter;
+import top.xiajibagao.mybatis.plus.join.helper.BatchUtils;
+import top.xiajibagao.mybatis.plus.join.helper.TableNameUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 实体的本地近端缓存，用于缓存{@link top.xiajibagao.mybatis.plus.join.extend.ExtendBaseMapper}中根据key字段查询的结果。<br />
+ * 缓存按“字段-key值”保存查询到的全部数据，未查询到数据的key也会被缓存，
+ * 缓存数量超过上限时淘汰最久未访问的缓存，缓存在写入指定时间后过期。
+ * 通过MyBatis写入实体对应的表后，该实体的缓存将被全部删除，需要注册{@link top.xiajibagao.mybatis.plus.join.interceptor.EntityNearCacheInterceptor}。
+ *
+ * <p>存入与取出缓存时都将通过属性复制创建新的实体，调用方修改返回的实体不会影响缓存。
+ * 当前线程已写入但尚未提交或回滚的表，其对应实体的查询将直接访问数据库。
+ * 近端缓存适用于课程目录等很少变化的数据，不经过MyBatis的写入无法被感知，此时需要手动调用{@link #clear()}。
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 20:50
+ */
+public class EntityNearCache {
+
+    /**
+     * 实体类型-近端缓存
+     */
+    private static final Map<Class<?>, EntityNearCache> CACHES = new ConcurrentHashMap<>();
+
+    /**
+     * 当前线程已写入但尚未提交或回滚的表
+     */
+    private static final ThreadLocal<Set<String>> WRITTEN_TABLES = new ThreadLocal<>();
+
+    @Getter
+    private final Class<?> entityClass;
+    private final LocalJoinCacheStorage storage;
+
+    /**
+     * 删除缓存的次数，查询期间若有缓存被删除，则查询结果可能已过期，此时不缓存该结果
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    private EntityNearCache(Class<?> entityClass, int maxSize, long ttlMillis) {
+        this.entityClass = entityClass;
+        this.storage = new LocalJoinCacheStorage(maxSize, ttlMillis);
+    }
+
+    // ============================== registry ==============================
+
+    /**
+     * 为实体开启近端缓存，使用默认的最大缓存数量与过期时间
+     *
+     * @param entityClass 实体类型
+     * @return top.xiajibagao.mybatis.plus.join.cache.EntityNearCache
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public static EntityNearCache register(@Nonnull Class<?> entityClass) {
+        return register(entityClass, LocalJoinCacheStorage.DEFAULT_MAX_SIZE, LocalJoinCacheStorage.DEFAULT_TTL_MILLIS);
+    }
+
+    /**
+     * 为实体开启近端缓存，若已开启则替换原有的缓存
+     *
+     * @param entityClass 实体类型
+     * @param maxSize 最大缓存数量
+     * @param ttlMillis 缓存写入后的过期毫秒数
+     * @return top.xiajibagao.mybatis.plus.join.cache.EntityNearCache
+     * @throws IllegalArgumentException 当maxSize或ttlMillis小于等于0时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public static EntityNearCache register(@Nonnull Class<?> entityClass, int maxSize, long ttlMillis) {
+        EntityNearCache cache = new EntityNearCache(entityClass, maxSize, ttlMillis);
+        CACHES.put(entityClass, cache);
+        return cache;
+    }
+
+    /**
+     * 关闭实体的近端缓存
+     *
+     * @param entityClass 实体类型
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public static void unregister(@Nonnull Class<?> entityClass) {
+        CACHES.remove(entityClass);
+    }
+
+    /**
+     * 获取当前线程可用的近端缓存，若实体未开启近端缓存，或当前线程已写入实体对应的表但尚未提交，则返回null
+     *
+     * @param entityClass 实体类型
+     * @return top.xiajibagao.mybatis.plus.join.cache.EntityNearCache
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    @Nullable
+    public static EntityNearCache lookup(@Nonnull Class<?> entityClass) {
+        EntityNearCache cache = CACHES.get(entityClass);
+        if (Objects.isNull(cache)) {
+            return null;
+        }
+        Set<String> written = WRITTEN_TABLES.get();
+        if (Objects.nonNull(written)
+            && (written.contains(TableNameUtils.ALL_TABLES) || written.contains(cache.getTableName()))) {
+            return null;
+        }
+        return cache;
+    }
+
+    /**
+     * 是否有实体开启了近端缓存
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public static boolean isEnabled() {
+        return !CACHES.isEmpty();
+    }
+
+    /**
+     * 删除读取了指定表的实体的缓存，表包含{@link TableNameUtils#ALL_TABLES}时删除全部缓存
+     *
+     * @param tables 表名
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public static void evictTables(@Nullable Collection<String> tables) {
+        if (Objects.isNull(tables) || tables.isEmpty()) {
+            return;
+        }
+        boolean all = tables.contains(TableNameUtils.ALL_TABLES);
+        CACHES.values().stream()
+            .filter(cache -> all || tables.contains(cache.getTableName()))
+            .forEach(EntityNearCache::clear);
+    }
+
+    /**
+     * 记录当前线程写入了指定的表，在调用{@link #releaseWrittenTables()}前，这些表对应实体的查询将不使用缓存
+     *
+     * @param tables 表名
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public static void markWrittenTables(@Nonnull Collection<String> tables) {
+        Set<String> written = WRITTEN_TABLES.get();
+        if (Objects.isNull(written)) {
+            written = new HashSet<>();
+            WRITTEN_TABLES.set(written);
+        }
+        written.addAll(tables);
+    }
+
+    /**
+     * 清除并返回当前线程已写入的表
+     *
+     * @return java.util.Set<java.lang.String>
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    @Nullable
+    public static Set<String> releaseWrittenTables() {
+        Set<String> written = WRITTEN_TABLES.get();
+        WRITTEN_TABLES.remove();
+        return written;
+    }
+
+    // ============================== cache ==============================
+
+    /**
+     * 获取实体对应的表名
+     *
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    @Nullable
+    public String getTableName() {
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        return Objects.isNull(tableInfo) ? null : TableNameUtils.normalizeTable(tableInfo.getTableName());
+    }
+
+    /**
+     * 根据key字段查询数据，优先从缓存中获取
+     *
+     * @param column key字段名
+     * @param key key值
+     * @param loader 缓存未命中时的查询方法
+     * @return java.util.List<T>
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public <T> List<T> select(@Nonnull String column, @Nonnull Object key, @Nonnull Supplier<List<T>> loader) {
+        List<T> cached = get(column, key);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        long evictionsBeforeQuery = evictions.get();
+        List<T> records = loader.get();
+        put(column, key, records, evictionsBeforeQuery);
+        return records;
+    }
+
+    /**
+     * 根据key字段批量查询数据，已缓存的key直接从缓存中获取，仅查询未缓存的key。<br />
+     * 返回的数据按去重后的key的顺序排列。若数据库按大小写不敏感等规则匹配key，导致部分数据的key与查询的key不相等，
+     * 则无法确定这些数据对应的key，此时不缓存本次查询的结果，查询到的数据将直接排列在已缓存的数据之后
+     *
+     * @param keys key值
+     * @param column key字段名
+     * @param keyGetter 从数据中获取key字段值的方法
+     * @param loader 查询未缓存的key的方法
+     * @return java.util.List<T>
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public <K, T> List<T> selectBatch(
+        Collection<K> keys, @Nonnull String column, @Nonnull Function<T, K> keyGetter, @Nonnull Function<List<K>, List<T>> loader) {
+        List<K> distinctKeys = BatchUtils.distinct(keys);
+        Map<K, List<T>> found = new HashMap<>(distinctKeys.size());
+        List<K> missingKeys = new ArrayList<>();
+        for (K key : distinctKeys) {
+            List<T> cached = get(column, key);
+            if (Objects.isNull(cached)) {
+                missingKeys.add(key);
+            } else {
+                found.put(key, cached);
+            }
+        }
+        if (!missingKeys.isEmpty()) {
+            long evictionsBeforeQuery = evictions.get();
+            List<T> rows = loader.apply(missingKeys);
+            Map<K, List<T>> loaded = rows.stream()
+                .collect(Collectors.groupingBy(keyGetter));
+            int matched = missingKeys.stream()
+                .mapToInt(key -> loaded.getOrDefault(key, Collections.emptyList()).size())
+                .sum();
+            if (matched < rows.size()) {
+                List<T> results = distinctKeys.stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+                results.addAll(rows);
+                return results;
+            }
+            for (K key : missingKeys) {
+                List<T> records = loaded.getOrDefault(key, Collections.emptyList());
+                put(column, key, records, evictionsBeforeQuery);
+                found.put(key, records);
+            }
+        }
+        return distinctKeys.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 删除该实体的全部缓存
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public void clear() {
+        evictions.incrementAndGet();
+        storage.clear();
+    }
+
+    /**
+     * 获取当前缓存数量，包括已过期但尚未删除的缓存
+     *
+     * @return int
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public int size() {
+        return storage.size();
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private <T> List<T> get(String column, Object key) {
+        List<T> cached = (List<T>) storage.get(toCacheKey(column, key));
+        return Objects.isNull(cached) ? null : copy(cached);
+    }
+
+    private void put(String column, Object key, List<?> records, long evictionsBeforeQuery) {
+        if (evictions.get() == evictionsBeforeQuery) {
+            storage.put(toCacheKey(column, key), copy(records), Collections.emptySet());
+        }
+    }
+
+    private static String toCacheKey(String column, Object key) {
+        return column + "=" + key.getClass().getName() + ":" + key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> copy(List<T> records) {
+        return records.stream()
+            .map(record -> Objects.isNull(record) ? null : (T) BeanUtil.copyProperties(record, record.getClass()))
+            .collect(Collectors.toList());
+    }
+
+}
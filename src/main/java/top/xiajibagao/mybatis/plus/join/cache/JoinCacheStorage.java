@@ -0,0 +1,60 @@
+package top.xiajibagao.mybatis.plus.join.cache;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 关联查询结果缓存的存储，可以实现该接口以将结果存放到本地内存以外的位置。<br />
+ * 每条缓存都记录了其查询读取的表，当任意一张表被写入时，相关的缓存都应当被删除。
+ * 实现类需要保证线程安全，并自行处理过期与容量限制
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 20:20
+ * @see LocalJoinCacheStorage
+ * @see SerializedJoinCacheStorage
+ * @see top.xiajibagao.mybatis.plus.join.interceptor.JoinResultCacheInterceptor
+ */
+public interface JoinCacheStorage {
+
+    /**
+     * 获取缓存
+     *
+     * @param key 缓存key
+     * @return java.lang.Object 缓存值，不存在或已过期时返回null
+     * @author huangchengxing
+     * @date 2026/10/19 20:20
+     */
+    @Nullable
+    Object get(@Nonnull String key);
+
+    /**
+     * 添加缓存
+     *
+     * @param key 缓存key
+     * @param value 缓存值
+     * @param tables 查询读取的表，表名均为小写且不包含库名与引号
+     * @author huangchengxing
+     * @date 2026/10/19 20:20
+     */
+    void put(@Nonnull String key, @Nonnull Object value, @Nonnull Set<String> tables);
+
+    /**
+     * 删除读取了指定表的缓存
+     *
+     * @param tables 被写入的表，表名均为小写且不包含库名与引号
+     * @author huangchengxing
+     * @date 2026/10/19 20:20
+     */
+    void evictTables(@Nonnull Collection<String> tables);
+
+    /**
+     * 删除全部缓存
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 20:20
+     */
+    void clear();
+
+}
@@ -0,0 +1,252 @@
+package top.xiajibagao.mybatis.plus.join.cache;
+
+import cn.hutool.core.bean.BeanUtil;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import top.xiajibagao.mybatis.plus.join.helper.BatchUtils;
+import top.xiajibagao.mybatis.plus.join.helper.TableNameUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 工作单元范围内的实体身份映射，同一工作单元中主键相同的实体只保留一个实例。<br />
+ * 在通过{@link #open()}开启至{@link #close()}关闭期间，当前线程中：
+ * <ul>
+ *     <li>查询主表完整实体的关联查询与BaseMapper查询，其结果中已加载过的实体将被替换为已有的实例，
+ *     需要注册{@link top.xiajibagao.mybatis.plus.join.interceptor.JoinIdentityMapInterceptor}；</li>
+ *     <li>{@link top.xiajibagao.mybatis.plus.join.extend.ExtendBaseMapper}中按主键字段查询时，将仅查询尚未加载的主键；</li>
+ *     <li>通过MyBatis写入表后，将删除该表对应实体的全部实例，回滚时删除全部实例；</li>
+ * </ul>
+ * 工作单元可以嵌套开启，嵌套开启时共享最外层的身份映射，最外层关闭时清空。
+ * 身份映射不是线程安全的，仅在开启的线程中生效，在其他线程中执行的查询不会使用身份映射。
+ * 由于实体实例在工作单元内共享，调用方对实体的修改将对后续查询可见。
+ *
+ * <pre>{@code
+ * try (JoinIdentityMap identityMap = JoinIdentityMap.open()) {
+ *     List<ScoreDO> scores = scoreMapper.selectListJoin(wrapper);
+ *     List<CourseDO> courses = courseMapper.selectBatchByKeys(courseIds, CourseDO::getId);
+ * }
+ * }</pre>
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:00
+ */
+public class JoinIdentityMap implements AutoCloseable {
+
+    private static final ThreadLocal<JoinIdentityMap> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 实体类型-主键值-实体
+     */
+    private final Map<Class<?>, Map<Object, Object>> entities = new HashMap<>();
+
+    /**
+     * 嵌套开启的次数
+     */
+    private int depth;
+
+    private JoinIdentityMap() {
+    }
+
+    /**
+     * 在当前线程中开启工作单元，若已开启则返回已有的身份映射
+     *
+     * @return top.xiajibagao.mybatis.plus.join.cache.JoinIdentityMap
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    public static JoinIdentityMap open() {
+        JoinIdentityMap identityMap = CURRENT.get();
+        if (Objects.isNull(identityMap)) {
+            identityMap = new JoinIdentityMap();
+            CURRENT.set(identityMap);
+        }
+        identityMap.depth++;
+        return identityMap;
+    }
+
+    /**
+     * 获取当前线程已开启的身份映射
+     *
+     * @return top.xiajibagao.mybatis.plus.join.cache.JoinIdentityMap
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    @Nullable
+    public static JoinIdentityMap current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 若当前线程已开启身份映射，且字段为实体的主键字段，则返回身份映射，否则返回null
+     *
+     * @param entityClass 实体类型
+     * @param column 字段名
+     * @return top.xiajibagao.mybatis.plus.join.cache.JoinIdentityMap
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    @Nullable
+    public static JoinIdentityMap lookup(@Nonnull Class<?> entityClass, @Nonnull String column) {
+        JoinIdentityMap identityMap = CURRENT.get();
+        if (Objects.isNull(identityMap)) {
+            return null;
+        }
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        return Objects.nonNull(tableInfo) && column.equals(tableInfo.getKeyColumn()) ? identityMap : null;
+    }
+
+    /**
+     * 若当前线程已开启身份映射，则将查询结果中已加载的实体替换为已有的实例
+     *
+     * @param records 查询结果
+     * @return java.util.List<T> 传入的查询结果
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     * @see #merge(List)
+     */
+    public static <T> List<T> mergeIfOpen(@Nonnull List<T> records) {
+        JoinIdentityMap identityMap = CURRENT.get();
+        if (Objects.nonNull(identityMap)) {
+            identityMap.merge(records);
+        }
+        return records;
+    }
+
+    /**
+     * 获取已加载的实体
+     *
+     * @param entityClass 实体类型
+     * @param id 主键值
+     * @return T
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@Nonnull Class<T> entityClass, @Nonnull Object id) {
+        Map<Object, Object> loaded = entities.get(entityClass);
+        return Objects.isNull(loaded) ? null : (T) loaded.get(id);
+    }
+
+    /**
+     * 将查询结果中已加载的实体替换为已有的实例，并记录尚未加载的实体。<br />
+     * 结果中的对象不是带有主键的实体时不做处理
+     *
+     * @param records 查询结果
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    @SuppressWarnings("unchecked")
+    public void merge(@Nonnull List<?> records) {
+        ListIterator<Object> iterator = ((List<Object>) records).listIterator();
+        while (iterator.hasNext()) {
+            Object record = iterator.next();
+            if (Objects.isNull(record)) {
+                continue;
+            }
+            TableInfo tableInfo = TableInfoHelper.getTableInfo(record.getClass());
+            if (Objects.isNull(tableInfo) || !tableInfo.havePK()) {
+                return;
+            }
+            Object id = BeanUtil.getFieldValue(record, tableInfo.getKeyProperty());
+            if (Objects.isNull(id)) {
+                continue;
+            }
+            Object existing = entities.computeIfAbsent(record.getClass(), c -> new HashMap<>()).putIfAbsent(id, record);
+            if (Objects.nonNull(existing)) {
+                iterator.set(existing);
+            }
+        }
+    }
+
+    /**
+     * 根据主键批量获取实体，仅查询尚未加载的主键，返回的实体按去重后的主键的顺序排列
+     *
+     * @param entityClass 实体类型
+     * @param ids 主键值
+     * @param loader 查询尚未加载的主键的方法
+     * @return java.util.List<T>
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    public <K, T> List<T> selectByIds(@Nonnull Class<?> entityClass, Collection<K> ids, @Nonnull Function<List<K>, List<T>> loader) {
+        List<K> distinctIds = BatchUtils.distinct(ids);
+        List<K> missingIds = new ArrayList<>();
+        distinctIds.stream()
+            .filter(id -> Objects.isNull(get(entityClass, id)))
+            .forEach(missingIds::add);
+        if (!missingIds.isEmpty()) {
+            merge(loader.apply(missingIds));
+        }
+        List<T> results = new ArrayList<>(distinctIds.size());
+        for (K id : distinctIds) {
+            @SuppressWarnings("unchecked")
+            T entity = (T) get(entityClass, id);
+            if (Objects.nonNull(entity)) {
+                results.add(entity);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 删除读取了指定表的实体，表包含{@link TableNameUtils#ALL_TABLES}时删除全部实体
+     *
+     * @param tables 表名
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    public void evictTables(@Nonnull Collection<String> tables) {
+        if (tables.contains(TableNameUtils.ALL_TABLES)) {
+            clear();
+            return;
+        }
+        entities.keySet().removeIf(entityClass -> {
+            TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+            return Objects.isNull(tableInfo) || tables.contains(TableNameUtils.normalizeTable(tableInfo.getTableName()));
+        });
+    }
+
+    /**
+     * 删除全部实体
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    public void clear() {
+        entities.clear();
+    }
+
+    /**
+     * 获取已加载的实体数量
+     *
+     * @return int
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    public int size() {
+        return entities.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * 关闭工作单元，嵌套开启时仅在最外层关闭时清空身份映射
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    @Override
+    public void close() {
+        if (--depth > 0) {
+            return;
+        }
+        clear();
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+}
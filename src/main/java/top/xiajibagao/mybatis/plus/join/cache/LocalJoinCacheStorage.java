@@ -0,0 +1,176 @@
+package top.xiajibagao.mybatis.plus.join.cache;
+
+import cn.hutool.core.lang.Assert;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * 基于本地内存的关联查询结果缓存，缓存数量超过上限时淘汰最久未访问的缓存，缓存在写入指定时间后过期。<br />
+ * 按列序列化的结果{@link ColumnarResult}还将按其占用的字节数计入总字节数，超过上限时同样淘汰最久未访问的缓存，
+ * 单个结果超过上限时不缓存
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 20:20
+ */
+public class LocalJoinCacheStorage implements JoinCacheStorage {
+
+    /**
+     * 默认最大缓存数量、默认过期时间与默认最大字节数
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+    public static final long DEFAULT_TTL_MILLIS = 60_000L;
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    @Getter
+    private final int maxSize;
+    @Getter
+    private final long ttlMillis;
+    @Getter
+    private final long maxBytes;
+    private final LinkedHashMap<String, CacheEntry> entries;
+    private long totalBytes;
+
+    public LocalJoinCacheStorage() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TTL_MILLIS);
+    }
+
+    /**
+     * 创建缓存，最大字节数为{@link #DEFAULT_MAX_BYTES}
+     *
+     * @param maxSize 最大缓存数量
+     * @param ttlMillis 缓存写入后的过期毫秒数
+     * @throws IllegalArgumentException 当maxSize或ttlMillis小于等于0时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 20:20
+     */
+    public LocalJoinCacheStorage(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * 创建缓存
+     *
+     * @param maxSize 最大缓存数量
+     * @param ttlMillis 缓存写入后的过期毫秒数
+     * @param maxBytes 按列序列化的结果占用的最大总字节数
+     * @throws IllegalArgumentException 当maxSize、ttlMillis或maxBytes小于等于0时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 23:20
+     */
+    public LocalJoinCacheStorage(int maxSize, long ttlMillis, long maxBytes) {
+        Assert.isTrue(maxSize > 0, "最大缓存数量必须大于0");
+        Assert.isTrue(ttlMillis > 0, "缓存过期时间必须大于0");
+        Assert.isTrue(maxBytes > 0, "最大缓存字节数必须大于0");
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() <= LocalJoinCacheStorage.this.maxSize) {
+                    return false;
+                }
+                totalBytes -= eldest.getValue().bytes;
+                return true;
+            }
+        };
+    }
+
+    @Nullable
+    @Override
+    public synchronized Object get(@Nonnull String key) {
+        CacheEntry entry = entries.get(key);
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+        if (entry.expireAt <= System.currentTimeMillis()) {
+            remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public synchronized void put(@Nonnull String key, @Nonnull Object value, @Nonnull Set<String> tables) {
+        remove(key);
+        long bytes = value instanceof ColumnarResult ? ((ColumnarResult) value).getByteSize() : 0L;
+        if (bytes > maxBytes) {
+            return;
+        }
+        // 按访问顺序淘汰，直到总字节数不超过上限
+        Iterator<CacheEntry> iterator = entries.values().iterator();
+        while (totalBytes + bytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+        totalBytes += bytes;
+        entries.put(key, new CacheEntry(value, new HashSet<>(tables), System.currentTimeMillis() + ttlMillis, bytes));
+    }
+
+    @Override
+    public synchronized void evictTables(@Nonnull Collection<String> tables) {
+        Iterator<CacheEntry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            CacheEntry entry = iterator.next();
+            if (!Collections.disjoint(entry.tables, tables)) {
+                totalBytes -= entry.bytes;
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0L;
+    }
+
+    /**
+     * 获取当前缓存数量，包括已过期但尚未删除的缓存
+     *
+     * @return int
+     * @author huangchengxing
+     * @date 2026/10/19 20:20
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 获取当前缓存的按列序列化结果占用的总字节数，包括已过期但尚未删除的缓存
+     *
+     * @return long
+     * @author huangchengxing
+     * @date 2026/10/19 23:20
+     */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private void remove(String key) {
+        CacheEntry entry = entries.remove(key);
+        if (Objects.nonNull(entry)) {
+            totalBytes -= entry.bytes;
+        }
+    }
+
+    private static class CacheEntry {
+
+        private final Object value;
+        private final Set<String> tables;
+        private final long expireAt;
+        private final long bytes;
+
+        private CacheEntry(Object value, Set<String> tables, long expireAt, long bytes) {
+            this.value = value;
+            this.tables = tables;
+            this.expireAt = expireAt;
+            this.bytes = bytes;
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+package top.xiajibagao.mybatis.plus.join.cache;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 将查询结果按列序列化后再存放的缓存存储，缓存的淘汰与过期由被装饰的存储处理。<br />
+ * 相比直接缓存结果对象，序列化后的结果仅记录一次对象类型与字段名，并可被压缩，因此相同的内存可以缓存更多的结果。
+ * 默认不使用堆外内存，若开启，则需要通过{@link LocalJoinCacheStorage#getMaxBytes()}等方式限制缓存的总字节数，
+ * 以免堆外内存在GC回收缓冲区前持续增长。每次读取缓存时都将重新创建结果中的对象，调用方修改查询结果不会影响缓存。
+ * 无法序列化的结果将原样存放。
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:20
+ * @see ColumnarResult
+ */
+public class SerializedJoinCacheStorage implements JoinCacheStorage {
+
+    @Getter
+    private final JoinCacheStorage delegate;
+    @Getter
+    private final boolean compress;
+    @Getter
+    private final boolean direct;
+
+    public SerializedJoinCacheStorage() {
+        this(new LocalJoinCacheStorage(), true, false);
+    }
+
+    /**
+     * 创建缓存
+     *
+     * @param delegate 实际存放序列化结果的存储，需要能够存放{@link ColumnarResult}
+     * @param compress 是否压缩较大的结果
+     * @param direct 是否将序列化后的结果存放在堆外内存中
+     * @author huangchengxing
+     * @date 2026/10/19 21:20
+     */
+    public SerializedJoinCacheStorage(@Nonnull JoinCacheStorage delegate, boolean compress, boolean direct) {
+        this.delegate = delegate;
+        this.compress = compress;
+        this.direct = direct;
+    }
+
+    @Nullable
+    @Override
+    public Object get(@Nonnull String key) {
+        Object value = delegate.get(key);
+        return value instanceof ColumnarResult ? ((ColumnarResult) value).decode() : value;
+    }
+
+    @Override
+    public void put(@Nonnull String key, @Nonnull Object value, @Nonnull Set<String> tables) {
+        ColumnarResult result = value instanceof List ? ColumnarResult.encode((List<?>) value, compress, direct) : null;
+        delegate.put(key, Objects.isNull(result) ? value : result, tables);
+    }
+
+    @Override
+    public void evictTables(@Nonnull Collection<String> tables) {
+        delegate.evictTables(tables);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+}
@@ -0,0 +1,90 @@
+package top.xiajibagao.mybatis.plus.join.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialect;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialects;
+
+/**
+ * 扩展功能的全局配置
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 15:45
+ */
+public class ExtendGlobalConfig {
+
+    private ExtendGlobalConfig() {
+    }
+
+    /**
+     * 默认数据库方言
+     */
+    @Getter
+    @Setter
+    private static volatile JoinDialect dialect = JoinDialects.MYSQL;
+
+    /**
+     * 根据key批量查询时，每次查询的key数量
+     */
+    @Getter
+    @Setter
+    private static volatile int batchKeySize = 1000;
+
+    /**
+     * 根据key批量查询时，同时执行查询的最大线程数，小于等于1时在当前线程中依次查询
+     */
+    @Getter
+    @Setter
+    private static volatile int batchParallelism = 1;
+
+    /**
+     * 是否将IN条件的值补齐到2的幂次个，使不同数量的值生成相同的sql，以便复用预编译语句与执行计划
+     */
+    @Getter
+    @Setter
+    private static volatile boolean padInList = false;
+
+    /**
+     * 使用临时表代替IN条件的key数量阈值
+     */
+    @Getter
+    @Setter
+    private static volatile int tempTableThreshold = 10000;
+
+    /**
+     * 多行批量插入时，每条语句的最大行数
+     */
+    @Getter
+    @Setter
+    private static volatile int insertBatchSize = 500;
+
+    /**
+     * 多行批量插入时，每条语句的最大预估字节数，应小于数据库允许的最大包大小（比如MySQL的max_allowed_packet）
+     */
+    @Getter
+    @Setter
+    private static volatile long insertBatchBytes = 1024L * 1024L;
+
+    /**
+     * 批量执行多个查询时，是否允许将查询合并为一次多语句执行。<br />
+     * 开启前需确认数据库连接支持多语句，比如MySQL需要在连接参数中指定“allowMultiQueries=true”
+     */
+    @Getter
+    @Setter
+    private static volatile boolean multiStatementEnabled = false;
+
+    /**
+     * 条件构造器未指定时，关联查询的结果是否默认由{@link top.xiajibagao.mybatis.plus.join.interceptor.JoinResultCacheInterceptor}缓存
+     */
+    @Getter
+    @Setter
+    private static volatile boolean resultCacheEnabled = false;
+
+    /**
+     * 条件构造器未指定时，同时执行的相同关联查询是否默认由{@link top.xiajibagao.mybatis.plus.join.interceptor.JoinSingleFlightInterceptor}合并
+     */
+    @Getter
+    @Setter
+    private static volatile boolean singleFlightEnabled = false;
+
+}
@@ -41,6 +41,17 @@ public interface ExtendConstants extends Constants {
     String JOIN = "JOIN";
     String ON = "ON";
     String LIMIT = "LIMIT";
+    String OFFSET = "OFFSET";
+    String PARTITION_BY = "PARTITION BY";
+    String ROW_NUM = "row_num";
+    String EQ_ANY = "= ANY";
+    String UNION = "UNION";
+    String UNION_ALL = "UNION ALL";
+    String WITH = "WITH";
+    String MATERIALIZED = "MATERIALIZED";
+    String TEMP_TABLE_PREFIX = "tmp_join_keys_";
+    String TEMP_TABLE_COLUMN = "key_value";
+    String MATERIALIZED_TABLE_PREFIX = "tmp_join_logic_";
 
     // ================================== 扩展常量 ==================================
 
@@ -56,5 +67,21 @@ public interface ExtendConstants extends Constants {
     String Q_WRAPPER_SQL_LAST = WRAPPER_DOT + "sqlLast";
     String Q_WRAPPER_SQL_TABLE_WITH_ALISA = WRAPPER_DOT + "tableWithAlisa";
     String Q_WRAPPER_SQL_TABLE_IF_NON_ALISA = WRAPPER_DOT + "tableIfNonAlisa";
+    String Q_WRAPPER_SQL_SEGMENT_WITHOUT_LIMIT = WRAPPER_DOT + "sqlSegmentWithoutLimit";
+    String Q_WRAPPER_SQL_COUNT_LIMIT = WRAPPER_DOT + "sqlCountLimit";
+    String Q_WRAPPER_SQL_UPDATE_JOIN = WRAPPER_DOT + "sqlUpdateJoin";
+    String Q_WRAPPER_SQL_DELETE_JOIN = WRAPPER_DOT + "sqlDeleteJoin";
+    String Q_WRAPPER_SQL_INSERT_COLUMNS = WRAPPER_DOT + "sqlInsertColumns";
+    String WRAPPER_PARAM_PREFIX = HASH_LEFT_BRACE + WRAPPER_DOT + "paramNameValuePairs" + DOT;
+
+    // ================================== Mapper参数 ==================================
+
+    String COUNT_LIMIT = "countLimit";
+    String LIST = "list";
+    String DIALECT = "dialect";
+    String TARGET_TABLE = "targetTable";
+    String WRAPPERS = "wrappers";
+    String COUNTS = "counts";
+    String INDEX = "index";
 
 }
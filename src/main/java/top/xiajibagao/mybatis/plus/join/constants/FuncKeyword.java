@@ -45,6 +45,16 @@ public enum FuncKeyword implements ISqlSegment {
     LOWER("LOWER"),
     UPPER("UPPER"),
 
+    /**
+     * 窗口函数
+     */
+    ROW_NUMBER("ROW_NUMBER"),
+    RANK("RANK"),
+    DENSE_RANK("DENSE_RANK"),
+    LAG("LAG"),
+    LEAD("LEAD"),
+    OVER("OVER"),
+
     /**
      * 函数
      */
@@ -0,0 +1,27 @@
+package top.xiajibagao.mybatis.plus.join.constants;
+
+/**
+ * 物理表在查询中的访问角色
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 20:30
+ * @see top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper#getTableDependencies()
+ */
+public enum TableRole {
+
+    /**
+     * 最外层查询的主表
+     */
+    MAIN,
+
+    /**
+     * 最外层查询关联的表
+     */
+    JOINED,
+
+    /**
+     * 子查询、逻辑表、公用表或合并查询中读取的表
+     */
+    SUBQUERY
+
+}
@@ -0,0 +1,117 @@
+package top.xiajibagao.mybatis.plus.join.dialect;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
+
+import java.util.List;
+
+/**
+ * H2方言
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 15:35
+ */
+public class H2Dialect implements JoinDialect {
+
+    @Override
+    public DbType getDbType() {
+        return DbType.H2;
+    }
+
+    @Override
+    public boolean isSupportCte() {
+        return true;
+    }
+
+    @Override
+    public boolean isSupportArrayParam() {
+        return true;
+    }
+
+    @Override
+    public boolean isSupportTempTable() {
+        return true;
+    }
+
+    /**
+     * 获取“CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS table (column type PRIMARY KEY) TRANSACTIONAL”格式的语句，
+     * 指定TRANSACTIONAL以避免建表时隐式提交事务
+     *
+     * @param table 表名
+     * @param column 字段名
+     * @param keyType 字段值的java类型
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 22:30
+     */
+    @Override
+    public String getCreateTempTableSql(String table, String column, Class<?> keyType) {
+        return String.format(
+            "CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS %s (%s %s PRIMARY KEY) TRANSACTIONAL",
+            table, column, getTempTableColumnType(keyType)
+        );
+    }
+
+    /**
+     * H2中删除表将隐式提交事务，因此在事务中创建的临时表需要在提交或回滚时由数据库删除
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 21:10
+     */
+    @Override
+    public boolean isSupportDropTempTableOnCommit() {
+        return true;
+    }
+
+    /**
+     * 获取“CREATE LOCAL TEMPORARY TABLE table [ON COMMIT DROP] TRANSACTIONAL AS query”格式的语句，
+     * 指定TRANSACTIONAL以避免建表时隐式提交事务
+     *
+     * @param table 表名
+     * @param query 查询语句
+     * @param dropOnCommit 是否在事务提交或回滚时自动删除
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 21:10
+     */
+    @Override
+    public String getCreateTempTableAsSelectSql(String table, String query, boolean dropOnCommit) {
+        return String.format(
+            "CREATE LOCAL TEMPORARY TABLE %s%s TRANSACTIONAL AS %s", table, dropOnCommit ? " ON COMMIT DROP" : "", query
+        );
+    }
+
+    @Override
+    public boolean isSupportUpsert() {
+        return true;
+    }
+
+    /**
+     * 获取“MERGE INTO table (...) KEY (id) VALUES (...), (...)”格式的语句
+     *
+     * @param table 表名
+     * @param columns 插入字段
+     * @param values 多行值语句
+     * @param keyColumn 主键字段
+     * @param updateColumns 冲突时要更新的字段
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    @Override
+    public String getUpsertSql(String table, String columns, String values, String keyColumn, List<String> updateColumns) {
+        return SqlUtils.space("MERGE INTO", table, columns, "KEY", SqlUtils.concatBrackets(keyColumn), "VALUES", values);
+    }
+
+    @Override
+    public boolean isSupportExplain() {
+        return true;
+    }
+
+    @Override
+    public String getExplainSql(String sql) {
+        return "EXPLAIN " + sql;
+    }
+
+}
@@ -0,0 +1,255 @@
+package top.xiajibagao.mybatis.plus.join.dialect;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
+import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 数据库方言，用于生成不同数据库间存在差异的sql片段
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 15:30
+ * @see JoinDialects
+ */
+public interface JoinDialect {
+
+    /**
+     * 获取数据库类型
+     *
+     * @return com.baomidou.mybatisplus.annotation.DbType
+     * @author huangchengxing
+     * @date 2026/10/19 15:30
+     */
+    DbType getDbType();
+
+    /**
+     * 获取分页语句，默认返回“LIMIT limit OFFSET offset”格式的语句
+     *
+     * @param limit 条数，通常为参数占位符
+     * @param offset 偏移量，通常为参数占位符，为空时不偏移
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 15:30
+     */
+    default String getLimitSql(@Nonnull String limit, @Nullable String offset) {
+        return Objects.isNull(offset) ?
+            SqlUtils.space(ExtendConstants.LIMIT, limit) :
+            SqlUtils.space(ExtendConstants.LIMIT, limit, ExtendConstants.OFFSET, offset);
+    }
+
+    /**
+     * 是否支持“WITH name AS (...)”格式的公用表表达式，默认不支持
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 22:50
+     */
+    default boolean isSupportCte() {
+        return false;
+    }
+
+    /**
+     * 是否支持“WITH name AS MATERIALIZED (...)”格式的公用表表达式物化提示，默认不支持
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 20:10
+     */
+    default boolean isSupportMaterializedCte() {
+        return false;
+    }
+
+    /**
+     * 是否支持以单个数组参数进行“字段 = ANY(?)”查询，默认不支持
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 18:20
+     */
+    default boolean isSupportArrayParam() {
+        return false;
+    }
+
+    /**
+     * 是否支持“UPDATE A a JOIN B b ON ... SET ...”与“DELETE a FROM A a JOIN B b ON ...”格式的多表更新与删除，默认不支持。<br />
+     * 不支持时，关联更新与删除将通过主键子查询实现
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 19:20
+     */
+    default boolean isSupportMultiTableUpdate() {
+        return false;
+    }
+
+    /**
+     * 是否支持在一次执行中发送以“;”分隔的多条查询语句并依次读取多个结果集，默认不支持。<br />
+     * 部分数据库还需要在连接参数中开启，比如MySQL的“allowMultiQueries=true”
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 19:50
+     * @see top.xiajibagao.mybatis.plus.join.config.ExtendGlobalConfig#isMultiStatementEnabled()
+     */
+    default boolean isSupportMultiStatement() {
+        return false;
+    }
+
+    /**
+     * 是否支持会话级别的临时表，默认不支持
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 18:40
+     */
+    default boolean isSupportTempTable() {
+        return false;
+    }
+
+    /**
+     * 获取创建仅有一个主键字段的会话级临时表的语句，若表已存在则不创建
+     *
+     * @param table 表名
+     * @param column 字段名
+     * @param keyType 字段值的java类型
+     * @return java.lang.String
+     * @throws UnsupportedOperationException 当不支持临时表时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 18:40
+     */
+    default String getCreateTempTableSql(String table, String column, Class<?> keyType) {
+        throw new UnsupportedOperationException("当前数据库不支持临时表：" + getDbType().getDb());
+    }
+
+    /**
+     * 获取清空临时表的语句，默认返回“DELETE FROM table”。<br />
+     * 不使用TRUNCATE，以免在部分数据库中隐式提交事务
+     *
+     * @param table 表名
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 22:30
+     */
+    default String getClearTempTableSql(String table) {
+        return "DELETE FROM " + table;
+    }
+
+    /**
+     * 是否支持创建在事务提交或回滚时由数据库自动删除的临时表，默认不支持。<br />
+     * 若删除表的语句会隐式提交事务，则需要支持该特性，才能在事务中安全地使用临时表
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 21:10
+     */
+    default boolean isSupportDropTempTableOnCommit() {
+        return false;
+    }
+
+    /**
+     * 获取根据查询结果创建会话级临时表的语句
+     *
+     * @param table 表名
+     * @param query 查询语句
+     * @param dropOnCommit 是否在事务提交或回滚时自动删除，仅在{@link #isSupportDropTempTableOnCommit()}时生效
+     * @return java.lang.String
+     * @throws UnsupportedOperationException 当不支持临时表时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 21:10
+     */
+    default String getCreateTempTableAsSelectSql(String table, String query, boolean dropOnCommit) {
+        throw new UnsupportedOperationException("当前数据库不支持临时表：" + getDbType().getDb());
+    }
+
+    /**
+     * 获取删除临时表的语句，默认返回“DROP TABLE IF EXISTS table”
+     *
+     * @param table 表名
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 18:40
+     */
+    default String getDropTempTableSql(String table) {
+        return "DROP TABLE IF EXISTS " + table;
+    }
+
+    /**
+     * 是否支持批量插入或更新，默认不支持
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    default boolean isSupportUpsert() {
+        return false;
+    }
+
+    /**
+     * 获取多行批量插入或更新的语句，主键冲突时更新除主键外的字段
+     *
+     * @param table 表名
+     * @param columns 插入字段，比如“(id,name)”
+     * @param values 多行值语句，比如“(#{et.id},#{et.name}),(...)”的foreach脚本
+     * @param keyColumn 主键字段
+     * @param updateColumns 冲突时要更新的字段
+     * @return java.lang.String
+     * @throws UnsupportedOperationException 当不支持批量插入或更新时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    default String getUpsertSql(String table, String columns, String values, String keyColumn, List<String> updateColumns) {
+        throw new UnsupportedOperationException("当前数据库不支持批量插入或更新：" + getDbType().getDb());
+    }
+
+    /**
+     * 是否支持通过一条语句直接获取查询的执行计划，默认不支持
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    default boolean isSupportExplain() {
+        return false;
+    }
+
+    /**
+     * 获取查询执行计划的语句，语句中的参数占位符与原查询一致
+     *
+     * @param sql 查询语句
+     * @return java.lang.String
+     * @throws UnsupportedOperationException 当不支持获取执行计划时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    default String getExplainSql(String sql) {
+        throw new UnsupportedOperationException("当前数据库不支持获取执行计划：" + getDbType().getDb());
+    }
+
+    /**
+     * 获取临时表字段类型，支持整数与字符串
+     *
+     * @param keyType 字段值的java类型
+     * @return java.lang.String
+     * @throws UnsupportedOperationException 当字段值类型不受支持时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 18:40
+     */
+    default String getTempTableColumnType(Class<?> keyType) {
+        if (keyType == Integer.class || keyType == Short.class) {
+            return "INT";
+        }
+        if (keyType == Long.class) {
+            return "BIGINT";
+        }
+        if (CharSequence.class.isAssignableFrom(keyType)) {
+            return "VARCHAR(255)";
+        }
+        throw new UnsupportedOperationException("临时表不支持类型：" + keyType.getName());
+    }
+
+}
@@ -0,0 +1,65 @@
+package top.xiajibagao.mybatis.plus.join.dialect;
+
+import cn.hutool.core.lang.Assert;
+import com.baomidou.mybatisplus.annotation.DbType;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * 数据库方言工厂
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 15:40
+ */
+public class JoinDialects {
+
+    private JoinDialects() {
+    }
+
+    public static final JoinDialect MYSQL = new MySqlDialect();
+    public static final JoinDialect MYSQL_8 = new MySqlDialect(true);
+    public static final JoinDialect H2 = new H2Dialect();
+    public static final JoinDialect POSTGRE_SQL = new PostgreSqlDialect();
+    public static final JoinDialect ORACLE = new OracleDialect();
+
+    private static final Map<DbType, JoinDialect> DIALECTS = new EnumMap<>(DbType.class);
+
+    static {
+        DIALECTS.put(DbType.MYSQL, MYSQL);
+        DIALECTS.put(DbType.MARIADB, MYSQL);
+        DIALECTS.put(DbType.H2, H2);
+        DIALECTS.put(DbType.POSTGRE_SQL, POSTGRE_SQL);
+        DIALECTS.put(DbType.ORACLE_12C, ORACLE);
+    }
+
+    /**
+     * 获取全部已注册的方言
+     *
+     * @return java.util.Collection<top.xiajibagao.mybatis.plus.join.dialect.JoinDialect>
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    public static Collection<JoinDialect> getDialects() {
+        return new LinkedHashSet<>(DIALECTS.values());
+    }
+
+    /**
+     * 根据数据库类型获取方言
+     *
+     * @param dbType 数据库类型
+     * @return top.xiajibagao.mybatis.plus.join.dialect.JoinDialect
+     * @throws IllegalArgumentException 当不支持该数据库类型时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 15:40
+     */
+    public static JoinDialect of(@Nonnull DbType dbType) {
+        JoinDialect dialect = DIALECTS.get(dbType);
+        Assert.notNull(dialect, "不支持的数据库类型：{}", dbType.getDb());
+        return dialect;
+    }
+
+}
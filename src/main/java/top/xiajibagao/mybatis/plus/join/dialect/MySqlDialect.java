@@ -0,0 +1,118 @@
+package top.xiajibagao.mybatis.plus.join.dialect;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
+import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL方言
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 15:35
+ */
+public class MySqlDialect implements JoinDialect {
+
+    /**
+     * 是否支持公用表表达式，MySQL 8.0起支持
+     */
+    private final boolean supportCte;
+
+    /**
+     * 创建兼容MySQL 5.7的方言，不支持公用表表达式
+     */
+    public MySqlDialect() {
+        this(false);
+    }
+
+    /**
+     * 创建方言
+     *
+     * @param supportCte 是否支持公用表表达式，MySQL 8.0起支持
+     * @author huangchengxing
+     * @date 2026/10/19 22:50
+     */
+    public MySqlDialect(boolean supportCte) {
+        this.supportCte = supportCte;
+    }
+
+    @Override
+    public DbType getDbType() {
+        return DbType.MYSQL;
+    }
+
+    @Override
+    public boolean isSupportCte() {
+        return supportCte;
+    }
+
+    @Override
+    public boolean isSupportMultiStatement() {
+        return true;
+    }
+
+    @Override
+    public boolean isSupportMultiTableUpdate() {
+        return true;
+    }
+
+    @Override
+    public boolean isSupportTempTable() {
+        return true;
+    }
+
+    @Override
+    public String getCreateTempTableSql(String table, String column, Class<?> keyType) {
+        return String.format("CREATE TEMPORARY TABLE IF NOT EXISTS %s (%s %s PRIMARY KEY)", table, column, getTempTableColumnType(keyType));
+    }
+
+    @Override
+    public String getCreateTempTableAsSelectSql(String table, String query, boolean dropOnCommit) {
+        return String.format("CREATE TEMPORARY TABLE %s AS %s", table, query);
+    }
+
+    @Override
+    public String getDropTempTableSql(String table) {
+        return "DROP TEMPORARY TABLE IF EXISTS " + table;
+    }
+
+    @Override
+    public boolean isSupportUpsert() {
+        return true;
+    }
+
+    /**
+     * 获取“INSERT INTO table (...) VALUES (...), (...) ON DUPLICATE KEY UPDATE a = VALUES(a)”格式的语句
+     *
+     * @param table 表名
+     * @param columns 插入字段
+     * @param values 多行值语句
+     * @param keyColumn 主键字段
+     * @param updateColumns 冲突时要更新的字段
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    @Override
+    public String getUpsertSql(String table, String columns, String values, String keyColumn, List<String> updateColumns) {
+        List<String> columnsToUpdate = updateColumns.isEmpty() ? Collections.singletonList(keyColumn) : updateColumns;
+        String updates = columnsToUpdate.stream()
+            .map(column -> column + " = VALUES(" + column + ")")
+            .collect(Collectors.joining(ExtendConstants.COMMA_SPACE));
+        return SqlUtils.space("INSERT INTO", table, columns, "VALUES", values, "ON DUPLICATE KEY UPDATE", updates);
+    }
+
+    @Override
+    public boolean isSupportExplain() {
+        return true;
+    }
+
+    @Override
+    public String getExplainSql(String sql) {
+        return "EXPLAIN " + sql;
+    }
+
+}
@@ -0,0 +1,43 @@
+package top.xiajibagao.mybatis.plus.join.dialect;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Oracle方言，仅支持12c及以上版本
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 15:35
+ */
+public class OracleDialect implements JoinDialect {
+
+    @Override
+    public DbType getDbType() {
+        return DbType.ORACLE_12C;
+    }
+
+    @Override
+    public boolean isSupportCte() {
+        return true;
+    }
+
+    /**
+     * 获取“OFFSET offset ROWS FETCH NEXT limit ROWS ONLY”格式的分页语句
+     *
+     * @param limit 条数，通常为参数占位符
+     * @param offset 偏移量，通常为参数占位符，为空时不偏移
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 15:35
+     */
+    @Override
+    public String getLimitSql(@Nonnull String limit, @Nullable String offset) {
+        String fetch = SqlUtils.space("FETCH NEXT", limit, "ROWS ONLY");
+        return Objects.isNull(offset) ? fetch : SqlUtils.space("OFFSET", offset, "ROWS", fetch);
+    }
+
+}
@@ -0,0 +1,102 @@
+package top.xiajibagao.mybatis.plus.join.dialect;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
+import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL方言
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 15:35
+ */
+public class PostgreSqlDialect implements JoinDialect {
+
+    @Override
+    public DbType getDbType() {
+        return DbType.POSTGRE_SQL;
+    }
+
+    @Override
+    public boolean isSupportCte() {
+        return true;
+    }
+
+    @Override
+    public boolean isSupportMaterializedCte() {
+        return true;
+    }
+
+    @Override
+    public boolean isSupportMultiStatement() {
+        return true;
+    }
+
+    @Override
+    public boolean isSupportArrayParam() {
+        return true;
+    }
+
+    @Override
+    public boolean isSupportTempTable() {
+        return true;
+    }
+
+    @Override
+    public String getCreateTempTableSql(String table, String column, Class<?> keyType) {
+        return String.format("CREATE TEMPORARY TABLE IF NOT EXISTS %s (%s %s PRIMARY KEY)", table, column, getTempTableColumnType(keyType));
+    }
+
+    @Override
+    public boolean isSupportDropTempTableOnCommit() {
+        return true;
+    }
+
+    @Override
+    public String getCreateTempTableAsSelectSql(String table, String query, boolean dropOnCommit) {
+        return String.format("CREATE TEMPORARY TABLE %s%s AS %s", table, dropOnCommit ? " ON COMMIT DROP" : "", query);
+    }
+
+    @Override
+    public boolean isSupportUpsert() {
+        return true;
+    }
+
+    /**
+     * 获取“INSERT INTO table (...) VALUES (...), (...) ON CONFLICT (id) DO UPDATE SET a = EXCLUDED.a”格式的语句
+     *
+     * @param table 表名
+     * @param columns 插入字段
+     * @param values 多行值语句
+     * @param keyColumn 主键字段
+     * @param updateColumns 冲突时要更新的字段
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    @Override
+    public String getUpsertSql(String table, String columns, String values, String keyColumn, List<String> updateColumns) {
+        String onConflict = SqlUtils.space("ON CONFLICT", SqlUtils.concatBrackets(keyColumn));
+        if (updateColumns.isEmpty()) {
+            return SqlUtils.space("INSERT INTO", table, columns, "VALUES", values, onConflict, "DO NOTHING");
+        }
+        String updates = updateColumns.stream()
+            .map(column -> column + " = EXCLUDED." + column)
+            .collect(Collectors.joining(ExtendConstants.COMMA_SPACE));
+        return SqlUtils.space("INSERT INTO", table, columns, "VALUES", values, onConflict, "DO UPDATE SET", updates);
+    }
+
+    @Override
+    public boolean isSupportExplain() {
+        return true;
+    }
+
+    @Override
+    public String getExplainSql(String sql) {
+        return "EXPLAIN " + sql;
+    }
+
+}
@@ -0,0 +1,82 @@
+package top.xiajibagao.mybatis.plus.join.extend;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 分块处理进度，可在多个线程中并发更新
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 14:40
+ * @see JoinMapper#forEachChunk
+ */
+public class ChunkProgress {
+
+    private final long startTime = System.nanoTime();
+    private final AtomicLong chunks = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+
+    /**
+     * 记录一个已处理完毕的分块
+     *
+     * @param size 分块条数
+     * @author huangchengxing
+     * @date 2026/10/19 14:40
+     */
+    void record(int size) {
+        rows.addAndGet(size);
+        chunks.incrementAndGet();
+    }
+
+    /**
+     * 获取已处理的分块数
+     *
+     * @return long
+     * @author huangchengxing
+     * @date 2026/10/19 14:40
+     */
+    public long getChunks() {
+        return chunks.get();
+    }
+
+    /**
+     * 获取已处理的数据条数
+     *
+     * @return long
+     * @author huangchengxing
+     * @date 2026/10/19 14:40
+     */
+    public long getRows() {
+        return rows.get();
+    }
+
+    /**
+     * 获取已耗费的毫秒数
+     *
+     * @return long
+     * @author huangchengxing
+     * @date 2026/10/19 14:40
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    /**
+     * 获取每秒处理的数据条数
+     *
+     * @return double
+     * @author huangchengxing
+     * @date 2026/10/19 14:40
+     */
+    public double getRowsPerSecond() {
+        long elapsed = System.nanoTime() - startTime;
+        return elapsed > 0 ? getRows() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed : 0D;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("chunks=%d, rows=%d, elapsed=%dms, throughput=%.1f rows/s",
+            getChunks(), getRows(), getElapsedMillis(), getRowsPerSecond());
+    }
+
+}
@@ -0,0 +1,57 @@
+package top.xiajibagao.mybatis.plus.join.extend;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * 总数可为近似值的分页条件。<br />
+ * 配合{@link JoinMapper#selectEstimatedPageJoin}使用时，总数最多只统计到{@link #estimateThreshold}条，
+ * 超过阈值时{@link #getTotal()}为阈值或{@link #estimator}给出的估算值，且{@link #isExactTotal()}为false，
+ * 即页面可展示为“10000+”。
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 10:24
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+public class EstimatedPage<T> extends Page<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 默认统计阈值
+     */
+    public static final int DEFAULT_ESTIMATE_THRESHOLD = 10000;
+
+    /**
+     * 统计阈值，总数超过该值时不再精确统计
+     */
+    private int estimateThreshold = DEFAULT_ESTIMATE_THRESHOLD;
+
+    /**
+     * 总数是否为精确值
+     */
+    private boolean exactTotal = true;
+
+    /**
+     * 超过阈值时使用的行数估算器，为空时总数即为阈值
+     */
+    private transient RowCountEstimator estimator;
+
+    public EstimatedPage() {
+        super();
+    }
+
+    public EstimatedPage(long current, long size) {
+        super(current, size);
+    }
+
+    public EstimatedPage(long current, long size, int estimateThreshold) {
+        super(current, size);
+        this.estimateThreshold = estimateThreshold;
+    }
+
+}
@@ -9,15 +9,24 @@ import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.conditions.query.LambdaQueryChainWrapper;
 import com.baomidou.mybatisplus.extension.conditions.update.LambdaUpdateChainWrapper;
+import top.xiajibagao.mybatis.plus.join.cache.EntityNearCache;
+import top.xiajibagao.mybatis.plus.join.cache.JoinIdentityMap;
+import top.xiajibagao.mybatis.plus.join.config.ExtendGlobalConfig;
+import top.xiajibagao.mybatis.plus.join.helper.BatchUtils;
+import top.xiajibagao.mybatis.plus.join.helper.ColumnUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
+ * 扩展的BaseMapper。<br />
+ * 若实体通过{@link EntityNearCache#register}开启了近端缓存，则根据key字段查询数据、查询单条数据、查询条数与批量查询数据时将优先从缓存中获取；
+ * 若当前线程通过{@link JoinIdentityMap#open()}开启了工作单元，则按主键字段查询时将优先从身份映射中获取已加载的实体
+ *
  * @author huangchengxing
  * @date 2022/02/14 15:06
  */
@@ -26,7 +35,9 @@ public interface ExtendBaseMapper<T> extends BaseMapper<T> {
     // ==================== 扩展方法 ====================
 
     /**
-     * 根据key字段查询数据，若key为空则返回空集合
+     * 根据key字段查询数据，若key为空则返回空集合。<br />
+     * key将去重后按{@link ExtendGlobalConfig#getBatchKeySize()}分块查询，
+     * 并按{@link ExtendGlobalConfig#getBatchParallelism()}决定是否并行查询
      *
      * @param keys key值
      * @param column key字段
@@ -37,8 +48,68 @@ public interface ExtendBaseMapper<T> extends BaseMapper<T> {
      */
     @Nonnull
     default <K> List<T> selectBatchByKeys(Collection<K> keys, @Nonnull SFunction<T, K> column) {
-        return CollUtil.isEmpty(keys) ?
-            new ArrayList<>() : selectList(wrapper().in(column, keys));
+        return selectBatchByKeys(keys, column, ExtendGlobalConfig.getBatchKeySize(), ExtendGlobalConfig.getBatchParallelism());
+    }
+
+    /**
+     * 根据key字段查询数据，若key为空则返回空集合。<br />
+     * key将去重后分块查询，查询结果按分块顺序合并。当parallelism大于1时分块将并行查询，此时查询不会加入当前线程的事务。<br />
+     * 若实体开启了近端缓存，或key字段为主键且当前线程开启了工作单元，则仅查询未缓存或未加载的key，查询结果按去重后的key的顺序排列
+     *
+     * @param keys key值
+     * @param column key字段
+     * @param chunkSize 每次查询的key数量
+     * @param parallelism 同时执行查询的最大线程数，小于等于1时在当前线程中依次查询
+     * @param <K> key字段类型
+     * @return java.util.List<T>
+     * @author huangchengxing
+     * @date 2026/10/19 17:50
+     * @see BatchUtils#selectInChunks
+     */
+    @Nonnull
+    default <K> List<T> selectBatchByKeys(Collection<K> keys, @Nonnull SFunction<T, K> column, int chunkSize, int parallelism) {
+        Function<Collection<K>, List<T>> query = ks -> BatchUtils.selectInChunks(
+            ks, chunkSize, parallelism, chunk -> selectList(wrapper().in(column, BatchUtils.padInValuesIfNecessary(chunk)))
+        );
+        Class<?> entityClass = ColumnUtils.getEntityClass(column);
+        String columnName = ColumnUtils.getColumnName(column);
+        EntityNearCache cache = EntityNearCache.lookup(entityClass);
+        Function<Collection<K>, List<T>> loader = Objects.isNull(cache) ?
+            query : ks -> JoinIdentityMap.mergeIfOpen(cache.selectBatch(ks, columnName, column, query::apply));
+        JoinIdentityMap identityMap = JoinIdentityMap.lookup(entityClass, columnName);
+        return Objects.isNull(identityMap) ? loader.apply(keys) : identityMap.selectByIds(entityClass, keys, loader::apply);
+    }
+
+    /**
+     * 根据key字段查询数据，并按key字段值建立索引，若存在key字段值相同的数据则保留第一条
+     *
+     * @param keys key值
+     * @param column key字段
+     * @param <K> key字段类型
+     * @return java.util.Map<K,T>
+     * @author huangchengxing
+     * @date 2026/10/19 17:50
+     */
+    @Nonnull
+    default <K> Map<K, T> selectMapByKeys(Collection<K> keys, @Nonnull SFunction<T, K> column) {
+        return selectBatchByKeys(keys, column).stream()
+            .collect(Collectors.toMap(column, Function.identity(), (prev, next) -> prev, LinkedHashMap::new));
+    }
+
+    /**
+     * 根据key字段查询数据，并按key字段值分组
+     *
+     * @param keys key值
+     * @param column key字段
+     * @param <K> key字段类型
+     * @return java.util.Map<K,java.util.List<T>>
+     * @author huangchengxing
+     * @date 2026/10/19 17:50
+     */
+    @Nonnull
+    default <K> Map<K, List<T>> selectGroupByKeys(Collection<K> keys, @Nonnull SFunction<T, K> column) {
+        return selectBatchByKeys(keys, column).stream()
+            .collect(Collectors.groupingBy(column, LinkedHashMap::new, Collectors.toList()));
     }
 
     /**
@@ -68,8 +139,11 @@ public interface ExtendBaseMapper<T> extends BaseMapper<T> {
      */
     @Nonnull
     default <K> List<T> selectSomeColumnsBatchByKeys(Collection<K> keys, @Nonnull SFunction<T, K> column, SFunction<T, ?>... selectColumns) {
-        return CollUtil.isEmpty(keys) || ArrayUtil.isEmpty(selectColumns) ?
-            new ArrayList<>() : selectList(wrapper().select(selectColumns).in(column, keys));
+        return ArrayUtil.isEmpty(selectColumns) ?
+            new ArrayList<>() : BatchUtils.selectInChunks(
+                keys, ExtendGlobalConfig.getBatchKeySize(), ExtendGlobalConfig.getBatchParallelism(),
+                chunk -> selectList(wrapper().select(selectColumns).in(column, BatchUtils.padInValuesIfNecessary(chunk)))
+            );
     }
 
     /**
@@ -93,8 +167,7 @@ public interface ExtendBaseMapper<T> extends BaseMapper<T> {
             return new ArrayList<>();
         }
         List<K> keys = CollUtil.map(entities, keyGenerator, true);
-        return keys.isEmpty() ?
-            new ArrayList<>() : selectList(wrapper().in(column, keys));
+        return selectBatchByKeys(keys, column);
     }
 
     /**
@@ -109,7 +182,15 @@ public interface ExtendBaseMapper<T> extends BaseMapper<T> {
      */
     @Nonnull
     default <K> List<T> selectByKey(@Nonnull K key, @Nonnull SFunction<T, K> column) {
-        return selectList(wrapper().eq(column, key));
+        Class<?> entityClass = ColumnUtils.getEntityClass(column);
+        String columnName = ColumnUtils.getColumnName(column);
+        EntityNearCache cache = EntityNearCache.lookup(entityClass);
+        Supplier<List<T>> loader = Objects.isNull(cache) ?
+            () -> selectList(wrapper().eq(column, key)) :
+            () -> JoinIdentityMap.mergeIfOpen(cache.select(columnName, key, () -> selectList(wrapper().eq(column, key))));
+        JoinIdentityMap identityMap = JoinIdentityMap.lookup(entityClass, columnName);
+        return Objects.isNull(identityMap) ?
+            loader.get() : identityMap.selectByIds(entityClass, Collections.singletonList(key), ks -> loader.get());
     }
 
     /**
@@ -141,7 +222,7 @@ public interface ExtendBaseMapper<T> extends BaseMapper<T> {
      */
     @Nullable
     default <K> T selectOneByKey(@Nonnull K key, @Nonnull SFunction<T, K> column) {
-        List<T> results = selectList(wrapper().eq(column, key));
+        List<T> results = selectByKey(key, column);
         Assert.isFalse(results.size() > 1, "期望查询1数据，但实际返回{}条", results.size());
         return CollUtil.getFirst(results);
     }
@@ -166,7 +247,7 @@ public interface ExtendBaseMapper<T> extends BaseMapper<T> {
     }
 
     /**
-     * 根据key查询条数
+     * 根据key查询条数，若实体开启了近端缓存，则通过缓存的数据计算条数
      *
      * @param key key值
      * @param column key字段
@@ -176,7 +257,8 @@ public interface ExtendBaseMapper<T> extends BaseMapper<T> {
      * @date 2021/9/29 9:26
      */
     default <K> int countByKey(@Nonnull K key, @Nonnull SFunction<T, K> column) {
-        return selectCount(wrapper().eq(column, key));
+        return Objects.isNull(EntityNearCache.lookup(ColumnUtils.getEntityClass(column))) ?
+            selectCount(wrapper().eq(column, key)) : selectByKey(key, column).size();
     }
 
     // ==================== 条件构造器 ====================
@@ -0,0 +1,185 @@
+package top.xiajibagao.mybatis.plus.join.extend;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.lang.Assert;
+import top.xiajibagao.mybatis.plus.join.config.ExtendGlobalConfig;
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 批量查询，用于一次执行多个相互独立的关联查询。<br />
+ * 若开启了{@link ExtendGlobalConfig#isMultiStatementEnabled()}，且全部条件构造器的方言都支持多语句，
+ * 则全部查询将合并为一次多语句执行，每个结果集按各自条件构造器的返回值类型映射；
+ * 否则全部查询将在当前线程中依次执行。无论哪种方式，查询均在调用方的会话中执行，因此会加入当前线程的事务。<br />
+ * 使用{@link JoinWrapper#inTempTable}的查询需要单独创建临时表，因此不会合并执行。
+ *
+ * <pre>
+ *     JoinBatch batch = new JoinBatch();
+ *     JoinBatch.Query&lt;List&lt;ExampleResult&gt;&gt; list = batch.list(wrapper1);
+ *     JoinBatch.Query&lt;Integer&gt; count = batch.count(wrapper2);
+ *     scoreMapper.selectBatchJoin(batch);
+ *     list.get();
+ *     count.get();
+ * </pre>
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 19:50
+ * @see JoinMapper#selectBatchJoin(JoinBatch)
+ */
+public class JoinBatch {
+
+    private final List<Query<?>> queries = new ArrayList<>();
+
+    /**
+     * 添加一个列表查询
+     *
+     * @param wrapper 条件构造器
+     * @return top.xiajibagao.mybatis.plus.join.extend.JoinBatch.Query<java.util.List<R>>
+     * @author huangchengxing
+     * @date 2026/10/19 19:50
+     */
+    public <T, R> Query<List<R>> list(@Nonnull JoinWrapper<T, R> wrapper) {
+        return addQuery(wrapper, false);
+    }
+
+    /**
+     * 添加一个统计查询
+     *
+     * @param wrapper 条件构造器
+     * @return top.xiajibagao.mybatis.plus.join.extend.JoinBatch.Query<java.lang.Integer>
+     * @author huangchengxing
+     * @date 2026/10/19 19:50
+     */
+    public Query<Integer> count(@Nonnull JoinWrapper<?, ?> wrapper) {
+        return addQuery(wrapper, true);
+    }
+
+    /**
+     * 获取已添加的查询数
+     *
+     * @return int
+     * @author huangchengxing
+     * @date 2026/10/19 19:50
+     */
+    public int size() {
+        return queries.size();
+    }
+
+    /**
+     * 执行全部查询，执行完毕后可以通过{@link Query#get()}获取各查询的结果
+     *
+     * @param mapper mapper
+     * @author huangchengxing
+     * @date 2026/10/19 19:50
+     */
+    void execute(@Nonnull JoinMapper<?> mapper) {
+        if (queries.isEmpty()) {
+            return;
+        }
+        if (queries.size() == 1) {
+            queries.get(0).complete(mapper);
+            return;
+        }
+        if (isMultiStatementSupported()) {
+            executeMultiStatement(mapper);
+        } else {
+            executeSequentially(mapper);
+        }
+    }
+
+    private boolean isMultiStatementSupported() {
+        return ExtendGlobalConfig.isMultiStatementEnabled() && queries.stream()
+            .map(Query::getWrapper)
+            .allMatch(wrapper -> wrapper.getDialect().isSupportMultiStatement() && wrapper.getTempKeyTables().isEmpty());
+    }
+
+    private void executeMultiStatement(JoinMapper<?> mapper) {
+        List<JoinWrapper<?, ?>> wrappers = queries.stream()
+            .map(Query::getWrapper)
+            .collect(Collectors.toList());
+        List<Boolean> counts = queries.stream()
+            .map(query -> query.count)
+            .collect(Collectors.toList());
+        List<Object> results = mapper.selectMultiStatementJoin(wrappers, counts);
+        Assert.isTrue(results.size() == queries.size(), "结果集数量[{}]与查询数量[{}]不一致", results.size(), queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            queries.get(i).complete((List<?>) results.get(i));
+        }
+    }
+
+    /**
+     * 条件构造器在生成sql时会修改参数等内部状态，因此不能在其他线程中执行查询，
+     * 否则不仅存在并发问题，查询也将脱离调用方的会话与事务
+     */
+    private void executeSequentially(JoinMapper<?> mapper) {
+        queries.forEach(query -> query.complete(mapper));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> Query<V> addQuery(JoinWrapper<?, ?> wrapper, boolean count) {
+        Function<JoinMapper<?>, Object> executor = count ?
+            mapper -> mapper.selectCountJoin(wrapper) : mapper -> mapper.selectListJoin(wrapper);
+        Query<V> query = new Query<>(wrapper, count, (Function<JoinMapper<?>, V>) executor);
+        queries.add(query);
+        return query;
+    }
+
+    /**
+     * 批量查询中的单个查询
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 19:50
+     */
+    public static class Query<V> {
+
+        private final JoinWrapper<?, ?> wrapper;
+        private final boolean count;
+        private final Function<JoinMapper<?>, V> executor;
+        private volatile boolean done;
+        private volatile V result;
+
+        private Query(JoinWrapper<?, ?> wrapper, boolean count, Function<JoinMapper<?>, V> executor) {
+            this.wrapper = wrapper;
+            this.count = count;
+            this.executor = executor;
+        }
+
+        /**
+         * 获取查询结果
+         *
+         * @return V
+         * @throws IllegalArgumentException 当批量查询尚未执行时抛出
+         * @author huangchengxing
+         * @date 2026/10/19 19:50
+         */
+        public V get() {
+            Assert.isTrue(done, "批量查询尚未执行");
+            return result;
+        }
+
+        JoinWrapper<?, ?> getWrapper() {
+            return wrapper;
+        }
+
+        private void complete(JoinMapper<?> mapper) {
+            this.result = executor.apply(mapper);
+            this.done = true;
+        }
+
+        /**
+         * 使用多语句执行返回的结果集作为查询结果，统计查询的结果集中只有一个值
+         */
+        @SuppressWarnings("unchecked")
+        private void complete(List<?> rows) {
+            this.result = count ? (V) CollUtil.getFirst(rows) : (V) rows;
+            this.done = true;
+        }
+
+    }
+
+}
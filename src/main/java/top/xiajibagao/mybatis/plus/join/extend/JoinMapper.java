@@ -4,12 +4,22 @@ import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.lang.Assert;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
 import com.baomidou.mybatisplus.core.toolkit.Constants;
 import org.apache.ibatis.annotations.Param;
+import top.xiajibagao.mybatis.plus.join.config.ExtendGlobalConfig;
+import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialect;
+import top.xiajibagao.mybatis.plus.join.helper.BatchUtils;
 import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
 
+import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * 提供join的查询方法
@@ -54,6 +64,17 @@ public interface JoinMapper<T> extends BaseMapper<T> {
      */
     <R> Integer selectCountJoin(@Param(Constants.WRAPPER) JoinWrapper<?, R> wrapper);
 
+    /**
+     * 关联查询条数，最多只统计到limit条，当实际条数大于limit时返回limit
+     *
+     * @param wrapper 条件
+     * @param limit 最大统计条数
+     * @return java.lang.Integer
+     * @author huangchengxing
+     * @date 2026/10/19 10:30
+     */
+    <R> Integer selectLimitedCountJoin(@Param(Constants.WRAPPER) JoinWrapper<?, R> wrapper, @Param(ExtendConstants.COUNT_LIMIT) int limit);
+
     /**
      * 关联查询指定数据是否存在
      *
@@ -74,6 +95,219 @@ public interface JoinMapper<T> extends BaseMapper<T> {
      */
     <R, E extends IPage<R>> E selectPageJoin(E page, @Param(Constants.WRAPPER) JoinWrapper<?, R> queryWrapper);
 
+    /**
+     * 关联分页查询，总数最多只精确统计到{@link EstimatedPage#getEstimateThreshold()}条。<br />
+     * 若当前页未填满，则总数直接由偏移量与本页条数得出；
+     * 否则以阈值+1为上限统计条数，超过阈值时总数取阈值或{@link RowCountEstimator}的估算值，
+     * 并将{@link EstimatedPage#isExactTotal()}置为false。
+     *
+     * @param page 分页查询条件
+     * @param queryWrapper 实体对象封装操作类
+     * @return E
+     * @author huangchengxing
+     * @date 2026/10/19 10:35
+     */
+    default <R, E extends EstimatedPage<R>> E selectEstimatedPageJoin(E page, JoinWrapper<?, R> queryWrapper) {
+        Assert.isTrue(page.getEstimateThreshold() > 0, "统计阈值必须大于0");
+        page.setSearchCount(false);
+        E result = selectPageJoin(page, queryWrapper);
+        int records = result.getRecords().size();
+        // 当前页未填满，或已是首页且不分页时，总数可直接得出
+        if (records > 0 && (result.getSize() < 0 || records < result.getSize())) {
+            result.setTotal(result.offset() + records);
+            result.setExactTotal(true);
+            return result;
+        }
+
+        int threshold = result.getEstimateThreshold();
+        long count = selectLimitedCountJoin(queryWrapper, threshold + 1);
+        if (count <= threshold) {
+            result.setTotal(count);
+            result.setExactTotal(true);
+            return result;
+        }
+        Long estimated = Objects.isNull(result.getEstimator()) ? null : result.getEstimator().estimate(queryWrapper);
+        result.setTotal(Objects.nonNull(estimated) && estimated > threshold ? estimated : threshold);
+        result.setExactTotal(false);
+        return result;
+    }
+
+    /**
+     * 按主表主键范围分块遍历查询结果，每块通过“id > lastId ORDER BY id LIMIT chunkSize”查询，
+     * 下一块将在当前块处理时于后台预读。返回数据中需要包含与主表主键同名的属性
+     *
+     * @param wrapper 条件
+     * @param chunkSize 每块条数
+     * @param consumer 分块数据处理器
+     * @return top.xiajibagao.mybatis.plus.join.extend.ChunkProgress 最终进度
+     * @author huangchengxing
+     * @date 2026/10/19 14:50
+     * @see JoinPageIterator#primaryKey
+     */
+    default <R> ChunkProgress forEachChunk(JoinWrapper<?, R> wrapper, int chunkSize, Consumer<List<R>> consumer) {
+        return forEachChunk(wrapper, chunkSize, 1, consumer, null);
+    }
+
+    /**
+     * 按主表主键范围分块遍历查询结果，并使用指定线程数并行处理
+     *
+     * @param wrapper 条件
+     * @param chunkSize 每块条数
+     * @param workers 并行处理的线程数，小于等于1时在当前线程中处理
+     * @param consumer 分块数据处理器
+     * @param listener 进度监听器，每处理完一个分块后调用，可以为空
+     * @return top.xiajibagao.mybatis.plus.join.extend.ChunkProgress 最终进度
+     * @author huangchengxing
+     * @date 2026/10/19 14:50
+     * @see JoinPageIterator#forEachChunk
+     */
+    default <R> ChunkProgress forEachChunk(
+        JoinWrapper<?, R> wrapper, int chunkSize, int workers, Consumer<List<R>> consumer, @Nullable Consumer<ChunkProgress> listener) {
+        return JoinPageIterator.primaryKey(this, wrapper)
+            .setPageSize(chunkSize)
+            .forEachChunk(workers, consumer, listener);
+    }
+
+    /**
+     * 关联更新，通过一条语句更新满足关联条件的主表数据，赋值字段通过{@link JoinWrapper#set}指定
+     *
+     * @param wrapper 条件
+     * @return int 影响行数
+     * @author huangchengxing
+     * @date 2026/10/19 19:20
+     * @see JoinWrapper#getSqlUpdateJoin()
+     */
+    int updateJoin(@Param(Constants.WRAPPER) JoinWrapper<?, ?> wrapper);
+
+    /**
+     * 关联删除，通过一条语句删除满足关联条件的主表数据。注意，该方法为物理删除
+     *
+     * @param wrapper 条件
+     * @return int 影响行数
+     * @author huangchengxing
+     * @date 2026/10/19 19:20
+     * @see JoinWrapper#getSqlDeleteJoin()
+     */
+    int deleteJoin(@Param(Constants.WRAPPER) JoinWrapper<?, ?> wrapper);
+
+    /**
+     * 通过一次多语句执行依次查询多组数据，每个条件构造器对应一个结果集
+     *
+     * @param wrappers 条件构造器
+     * @param counts 各条件构造器是否为统计查询
+     * @return java.util.List<java.lang.Object> 各结果集的数据
+     * @author huangchengxing
+     * @date 2026/10/19 19:50
+     * @see JoinBatch
+     */
+    List<Object> selectMultiStatementJoin(
+        @Param(ExtendConstants.WRAPPERS) List<JoinWrapper<?, ?>> wrappers, @Param(ExtendConstants.COUNTS) List<Boolean> counts);
+
+    /**
+     * 执行批量查询，若条件允许则合并为一次多语句执行，否则在当前线程中依次执行
+     *
+     * @param batch 批量查询
+     * @author huangchengxing
+     * @date 2026/10/19 19:50
+     * @see JoinBatch
+     */
+    default void selectBatchJoin(JoinBatch batch) {
+        batch.execute(this);
+    }
+
+    /**
+     * 将关联查询结果插入指定实体对应的表，即“INSERT INTO targetTable (...) SELECT ... FROM ...”，
+     * 插入字段为查询字段的别名，未指定别名的表字段则使用字段名。<br />
+     * 目标表名在生成sql时通过实体对应的TableInfo获取，不接受外部传入的表名
+     *
+     * @param targetTable 目标表实体类型
+     * @param source 查询条件
+     * @return int 插入行数
+     * @throws IllegalArgumentException 当找不到目标表实体对应的TableInfo时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 22:40
+     * @see JoinWrapper#getSqlInsertColumns()
+     * @see top.xiajibagao.mybatis.plus.join.injector.methods.InsertFromJoin#getTargetTableName(Class)
+     */
+    int insertFromJoin(@Param(ExtendConstants.TARGET_TABLE) Class<?> targetTable, @Param(Constants.WRAPPER) JoinWrapper<?, ?> source);
+
+    /**
+     * 通过一条“INSERT INTO ... VALUES (...), (...)”语句插入多行数据，自增主键将回填到实体中
+     *
+     * @param entities 实体，不能为空
+     * @return int 影响行数
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    int insertBatchValues(@Param(ExtendConstants.LIST) List<T> entities);
+
+    /**
+     * 通过一条语句插入多行数据，主键冲突时更新除主键外的字段
+     *
+     * @param entities 实体，不能为空
+     * @param dialect 数据库类型，即{@link com.baomidou.mybatisplus.annotation.DbType#getDb()}
+     * @return int 影响行数
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     * @see JoinDialect#getUpsertSql
+     */
+    int upsertBatchValues(@Param(ExtendConstants.LIST) List<T> entities, @Param(ExtendConstants.DIALECT) String dialect);
+
+    /**
+     * 多行批量插入。<br />
+     * 数据将按{@link ExtendGlobalConfig#getInsertBatchSize()}与{@link ExtendGlobalConfig#getInsertBatchBytes()}分块，
+     * 每块通过一条语句插入
+     *
+     * @param entities 实体
+     * @return int 影响行数
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    default int insertBatch(List<T> entities) {
+        return splitBatch(entities).stream()
+            .mapToInt(this::insertBatchValues)
+            .sum();
+    }
+
+    /**
+     * 多行批量插入或更新，主键冲突时更新除主键外的字段，分块规则同{@link #insertBatch}。<br />
+     * 语句由{@link ExtendGlobalConfig#getDialect()}决定，MySQL为“ON DUPLICATE KEY UPDATE”，H2为“MERGE”，
+     * PostgreSQL为“ON CONFLICT DO UPDATE”。注意，MySQL中更新的行将计为2行影响行数
+     *
+     * @param entities 实体
+     * @return int 影响行数
+     * @throws IllegalArgumentException 当前方言不支持批量插入或更新时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    default int upsertBatch(List<T> entities) {
+        JoinDialect dialect = ExtendGlobalConfig.getDialect();
+        Assert.isTrue(dialect.isSupportUpsert(), "当前数据库不支持批量插入或更新：{}", dialect.getDbType().getDb());
+        return splitBatch(entities).stream()
+            .mapToInt(chunk -> upsertBatchValues(chunk, dialect.getDbType().getDb()))
+            .sum();
+    }
+
+    /**
+     * 将实体按条数与预估字节数分块
+     *
+     * @param entities 实体
+     * @return java.util.List<java.util.List<T>>
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    default List<List<T>> splitBatch(List<T> entities) {
+        if (CollUtil.isEmpty(entities)) {
+            return Collections.emptyList();
+        }
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entities.get(0).getClass());
+        Assert.notNull(tableInfo, "找不到类型[{}]对应的TableInfo缓存", entities.get(0).getClass().getName());
+        return BatchUtils.splitByRowsAndBytes(
+            entities, ExtendGlobalConfig.getInsertBatchSize(), ExtendGlobalConfig.getInsertBatchBytes(),
+            entity -> BatchUtils.estimateRowBytes(entity, tableInfo)
+        );
+    }
+
     /**
      * 关联查询
      *
@@ -0,0 +1,431 @@
+package top.xiajibagao.mybatis.plus.join.extend;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadUtil;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import top.xiajibagao.mybatis.plus.join.helper.ThreadPoolUtils;
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 关联查询分页遍历器。<br />
+ * 遍历时将在后台线程中预先查询后续的分页数据，最多预读{@link #prefetch}页，
+ * 当预读队列已满时后台线程将等待当前页被取走，若超过{@link #idleTimeoutMillis}仍未被取走，则视为遍历已被放弃并停止后台查询。
+ * 遍历结束、出现异常或调用{@link #close()}时，后台查询将被停止。
+ *
+ * <p>支持两种分页方式：
+ * <ul>
+ *     <li>{@link #keyset}：按游标字段升序遍历，每页通过“column > lastKey”查询，不需要扫描偏移量；</li>
+ *     <li>{@link #primaryKey}：按主表主键升序遍历，同上；</li>
+ *     <li>{@link #offset}：按页码遍历，适用于没有合适游标字段的查询；</li>
+ * </ul>
+ * 分页依赖于{@code PaginationInnerInterceptor}。
+ * 由于查询在后台线程中执行，因此不会加入当前线程的事务。
+ * <b>注意：遍历过程中将修改传入的条件构造器，遍历期间不应再修改或复用该条件构造器</b>
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 13:30
+ */
+@Accessors(chain = true)
+public class JoinPageIterator<T, R> implements Iterable<List<R>>, AutoCloseable {
+
+    /**
+     * 默认每页条数与默认预读页数
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+    public static final int DEFAULT_PREFETCH = 1;
+
+    /**
+     * 默认的预读数据最长等待时间，单位为毫秒
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60_000L;
+
+    /**
+     * 等待预读数据时检查后台查询是否已停止的间隔，单位为毫秒
+     */
+    private static final long POLL_INTERVAL_MILLIS = 500L;
+
+    private static final Object END = new Object();
+
+    private static final String CHUNK_THREAD_NAME_PREFIX = "mybatis-plus-join-chunk-";
+
+    private final JoinMapper<?> mapper;
+    private final JoinWrapper<T, R> wrapper;
+
+    /**
+     * 游标值获取方法，为空时按页码遍历
+     */
+    private final Function<R, ?> keyGetter;
+
+    /**
+     * 每页条数与预读页数
+     */
+    @Getter
+    @Setter
+    private int pageSize = DEFAULT_PAGE_SIZE;
+    @Getter
+    @Setter
+    private int prefetch = DEFAULT_PREFETCH;
+
+    /**
+     * 预读数据最长等待被取走的时间，单位为毫秒。
+     * 遍历中途跳出循环而未调用{@link #close()}时，后台查询将在超时后停止，避免一直占用线程池中的线程
+     */
+    @Getter
+    @Setter
+    private long idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+
+    /**
+     * 执行后台查询的线程池
+     */
+    @Getter
+    @Setter
+    private ExecutorService executor = ThreadPoolUtils.getSharedExecutor();
+
+    private BlockingQueue<Object> queue;
+    private Future<?> producer;
+    private volatile boolean closed;
+
+    private JoinPageIterator(JoinMapper<?> mapper, JoinWrapper<T, R> wrapper, Function<R, ?> keyGetter) {
+        this.mapper = mapper;
+        this.wrapper = wrapper;
+        this.keyGetter = keyGetter;
+    }
+
+    /**
+     * 创建一个按游标字段遍历的分页遍历器
+     *
+     * @param mapper mapper
+     * @param wrapper 条件
+     * @param column 游标字段，应当唯一且非空，通常为主表主键
+     * @param keyGetter 从返回数据中获取游标字段值的方法
+     * @return top.xiajibagao.mybatis.plus.join.extend.JoinPageIterator<T,R>
+     * @author huangchengxing
+     * @date 2026/10/19 13:30
+     */
+    public static <T, R> JoinPageIterator<T, R> keyset(
+        @Nonnull JoinMapper<?> mapper, @Nonnull JoinWrapper<T, R> wrapper, @Nonnull SFunction<T, ?> column, @Nonnull Function<R, ?> keyGetter) {
+        wrapper.keyset(column);
+        return new JoinPageIterator<>(mapper, wrapper, keyGetter);
+    }
+
+    /**
+     * 创建一个按主表主键遍历的分页遍历器，返回数据中需要包含与主表主键同名的属性
+     *
+     * @param mapper mapper
+     * @param wrapper 条件
+     * @return top.xiajibagao.mybatis.plus.join.extend.JoinPageIterator<T,R>
+     * @throws IllegalArgumentException 当主表为逻辑表或没有主键时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 14:30
+     */
+    public static <T, R> JoinPageIterator<T, R> primaryKey(@Nonnull JoinMapper<?> mapper, @Nonnull JoinWrapper<T, R> wrapper) {
+        wrapper.keysetByPrimaryKey();
+        String keyProperty = wrapper.getTableInfo().getKeyProperty();
+        return new JoinPageIterator<>(mapper, wrapper, r -> {
+            Object key = BeanUtil.getFieldValue(r, keyProperty);
+            Assert.notNull(key, "返回数据中缺少主键属性[{}]", keyProperty);
+            return key;
+        });
+    }
+
+    /**
+     * 创建一个按页码遍历的分页遍历器
+     *
+     * @param mapper mapper
+     * @param wrapper 条件
+     * @return top.xiajibagao.mybatis.plus.join.extend.JoinPageIterator<T,R>
+     * @author huangchengxing
+     * @date 2026/10/19 13:30
+     */
+    public static <T, R> JoinPageIterator<T, R> offset(@Nonnull JoinMapper<?> mapper, @Nonnull JoinWrapper<T, R> wrapper) {
+        return new JoinPageIterator<>(mapper, wrapper, null);
+    }
+
+    /**
+     * 获取逐页遍历的迭代器，只能获取一次
+     *
+     * @return java.util.Iterator<java.util.List<R>>
+     * @throws IllegalArgumentException 当重复获取时抛出
+     * @throws java.util.concurrent.RejectedExecutionException 当线程池已满，无法执行后台查询时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 13:30
+     */
+    @Override
+    public Iterator<List<R>> iterator() {
+        Assert.isNull(queue, "分页遍历器只能遍历一次");
+        Assert.isTrue(pageSize > 0, "每页条数必须大于0");
+        Assert.isTrue(prefetch > 0, "预读页数必须大于0");
+        Assert.isTrue(idleTimeoutMillis > 0, "预读数据的等待时间必须大于0");
+        queue = new ArrayBlockingQueue<>(prefetch);
+        producer = executor.submit(this::produce);
+        return new PageIterator();
+    }
+
+    /**
+     * 获取逐条遍历的流，流关闭时将同时关闭遍历器
+     *
+     * @return java.util.stream.Stream<R>
+     * @author huangchengxing
+     * @date 2026/10/19 13:30
+     */
+    public Stream<R> stream() {
+        return StreamSupport.stream(spliterator(), false)
+            .flatMap(List::stream)
+            .onClose(this::close);
+    }
+
+    /**
+     * 逐页处理数据。当workers大于1时，将在专用的线程池中并行处理，同时处理中的分块数不超过workers，
+     * 且预读页数将至少为workers。任意分块处理失败时将停止后续的查询与处理，并抛出异常。
+     *
+     * @param workers 并行处理的线程数，小于等于1时在当前线程中处理
+     * @param consumer 分块数据处理器
+     * @param listener 进度监听器，每处理完一个分块后调用，可以为空
+     * @return top.xiajibagao.mybatis.plus.join.extend.ChunkProgress 最终进度
+     * @author huangchengxing
+     * @date 2026/10/19 14:45
+     */
+    public ChunkProgress forEachChunk(int workers, @Nonnull Consumer<List<R>> consumer, @Nullable Consumer<ChunkProgress> listener) {
+        if (workers <= 1) {
+            ChunkProgress progress = new ChunkProgress();
+            try {
+                forEach(chunk -> process(chunk, consumer, listener, progress));
+            } finally {
+                close();
+            }
+            return progress;
+        }
+        ExecutorService chunkExecutor = Executors.newFixedThreadPool(
+            workers, ThreadUtil.newNamedThreadFactory(CHUNK_THREAD_NAME_PREFIX, true)
+        );
+        try {
+            return forEachChunk(workers, chunkExecutor, consumer, listener);
+        } finally {
+            chunkExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 逐页处理数据，并在指定的线程池中并行处理，同时处理中的分块数不超过workers，且预读页数将至少为workers。
+     * 任意分块处理失败时将停止后续的查询与处理，并抛出异常。<br />
+     * 处理分块的线程池不能与执行后台查询的{@link #executor}相同，
+     * 否则当线程池中的线程均被等待数据被取走的后台查询占用时，分块将无法被处理。
+     * 线程池拒绝执行时，分块将在当前线程中处理
+     *
+     * @param workers 同时处理中的分块数，必须大于0
+     * @param chunkExecutor 处理分块的线程池
+     * @param consumer 分块数据处理器
+     * @param listener 进度监听器，每处理完一个分块后调用，可以为空
+     * @return top.xiajibagao.mybatis.plus.join.extend.ChunkProgress 最终进度
+     * @throws IllegalArgumentException 当workers小于1，或处理分块的线程池与执行后台查询的线程池相同时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 23:40
+     */
+    public ChunkProgress forEachChunk(
+        int workers, @Nonnull ExecutorService chunkExecutor, @Nonnull Consumer<List<R>> consumer, @Nullable Consumer<ChunkProgress> listener) {
+        Assert.isTrue(workers > 0, "并行处理的线程数必须大于0");
+        Assert.isFalse(chunkExecutor == executor, "处理分块的线程池不能与执行后台查询的线程池相同");
+        ChunkProgress progress = new ChunkProgress();
+        prefetch = Math.max(prefetch, workers);
+        Semaphore semaphore = new Semaphore(workers);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        try {
+            for (List<R> chunk : this) {
+                semaphore.acquire();
+                if (Objects.nonNull(error.get())) {
+                    semaphore.release();
+                    break;
+                }
+                Runnable task = () -> {
+                    try {
+                        process(chunk, consumer, listener, progress);
+                    } catch (Throwable e) {
+                        error.compareAndSet(null, e);
+                    } finally {
+                        semaphore.release();
+                    }
+                };
+                try {
+                    chunkExecutor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    // 线程池已满时在当前线程中处理
+                    task.run();
+                }
+            }
+            // 等待全部分块处理完毕
+            semaphore.acquire(workers);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtils.mpe("等待分块处理时被中断", e);
+        } finally {
+            close();
+        }
+        Throwable cause = error.get();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (Objects.nonNull(cause)) {
+            throw ExceptionUtils.mpe("分块处理失败", cause);
+        }
+        return progress;
+    }
+
+    private void process(List<R> chunk, Consumer<List<R>> consumer, @Nullable Consumer<ChunkProgress> listener, ChunkProgress progress) {
+        consumer.accept(chunk);
+        progress.record(chunk.size());
+        if (Objects.nonNull(listener)) {
+            listener.accept(progress);
+        }
+    }
+
+    /**
+     * 停止后台查询，并丢弃已预读的数据
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 13:30
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (Objects.nonNull(producer)) {
+            producer.cancel(true);
+        }
+        if (Objects.nonNull(queue)) {
+            queue.clear();
+        }
+    }
+
+    private void produce() {
+        try {
+            for (long current = 1; !closed; current++) {
+                Page<R> page = new Page<>(Objects.isNull(keyGetter) ? current : 1, pageSize, false);
+                List<R> records = mapper.selectPageJoin(page, wrapper).getRecords();
+                if (CollUtil.isNotEmpty(records) && !enqueue(records)) {
+                    return;
+                }
+                if (records.size() < pageSize) {
+                    break;
+                }
+                if (Objects.nonNull(keyGetter)) {
+                    wrapper.keysetAfter(keyGetter.apply(CollUtil.getLast(records)));
+                }
+            }
+            enqueue(END);
+        } catch (Exception e) {
+            enqueue(e);
+        }
+    }
+
+    /**
+     * 将数据放入预读队列，若超时仍未被取走，则视为遍历已被放弃
+     *
+     * @param element 数据
+     * @return boolean 是否成功放入
+     * @author huangchengxing
+     * @date 2026/10/19 22:00
+     */
+    private boolean enqueue(Object element) {
+        try {
+            if (closed) {
+                return false;
+            }
+            if (queue.offer(element, idleTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            closed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private class PageIterator implements Iterator<List<R>> {
+
+        private Object next;
+        private boolean finished;
+
+        @Override
+        public boolean hasNext() {
+            if (finished) {
+                return false;
+            }
+            if (Objects.isNull(next)) {
+                next = take();
+            }
+            if (next == END) {
+                finished = true;
+                close();
+                return false;
+            }
+            if (next instanceof Exception) {
+                finished = true;
+                close();
+                throw ExceptionUtils.mpe("分页查询失败", (Exception) next);
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<R> records = (List<R>) next;
+            next = null;
+            return records;
+        }
+
+        private Object take() {
+            try {
+                Object element;
+                while (Objects.isNull(element = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS))) {
+                    // 后台查询已停止但未放入结束标记，即等待预读数据被取走超时
+                    if (producer.isDone() && queue.isEmpty()) {
+                        finished = true;
+                        close();
+                        throw ExceptionUtils.mpe("后台查询已停止，预读数据等待超过%sms未被取走", idleTimeoutMillis);
+                    }
+                }
+                return element;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                finished = true;
+                close();
+                throw ExceptionUtils.mpe("等待分页数据时被中断", e);
+            }
+        }
+
+    }
+
+}
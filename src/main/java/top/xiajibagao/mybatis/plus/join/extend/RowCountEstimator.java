@@ -0,0 +1,28 @@
+package top.xiajibagao.mybatis.plus.join.extend;
+
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+
+import javax.annotation.Nullable;
+
+/**
+ * 行数估算器，用于在统计条数超过阈值时，获取数据库执行计划中的预估行数等近似值
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 10:20
+ * @see EstimatedPage
+ */
+@FunctionalInterface
+public interface RowCountEstimator {
+
+    /**
+     * 估算查询的数据条数
+     *
+     * @param wrapper 条件
+     * @return java.lang.Long 估算条数，若无法估算则返回null
+     * @author huangchengxing
+     * @date 2026/10/19 10:20
+     */
+    @Nullable
+    Long estimate(JoinWrapper<?, ?> wrapper);
+
+}
@@ -0,0 +1,101 @@
+package top.xiajibagao.mybatis.plus.join.handler;
+
+import cn.hutool.core.collection.CollUtil;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 将集合参数绑定为JDBC数组的类型处理器，用于“字段 = ANY(?)”条件。<br />
+ * 数组元素的数据库类型根据第一个非空元素的类型推断，集合为空时按varchar数组绑定
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 18:20
+ * @see top.xiajibagao.mybatis.plus.join.wrapper.AbstractDynamicResultWrapper#inArray
+ */
+public class CollectionArrayTypeHandler extends BaseTypeHandler<Collection<?>> {
+
+    private static final String DEFAULT_ELEMENT_TYPE = "varchar";
+
+    /**
+     * java类型-数组元素的数据库类型名称
+     */
+    private static final Map<Class<?>, String> ELEMENT_TYPES = new HashMap<>();
+
+    static {
+        ELEMENT_TYPES.put(Short.class, "smallint");
+        ELEMENT_TYPES.put(Integer.class, "integer");
+        ELEMENT_TYPES.put(Long.class, "bigint");
+        ELEMENT_TYPES.put(Float.class, "float4");
+        ELEMENT_TYPES.put(Double.class, "float8");
+        ELEMENT_TYPES.put(BigInteger.class, "numeric");
+        ELEMENT_TYPES.put(BigDecimal.class, "numeric");
+        ELEMENT_TYPES.put(Boolean.class, "boolean");
+        ELEMENT_TYPES.put(String.class, DEFAULT_ELEMENT_TYPE);
+        ELEMENT_TYPES.put(UUID.class, "uuid");
+        ELEMENT_TYPES.put(LocalDate.class, "date");
+        ELEMENT_TYPES.put(LocalDateTime.class, "timestamp");
+        ELEMENT_TYPES.put(java.util.Date.class, "timestamp");
+        ELEMENT_TYPES.put(Timestamp.class, "timestamp");
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, Collection<?> parameter, JdbcType jdbcType) throws SQLException {
+        ps.setArray(i, ps.getConnection().createArrayOf(getElementType(parameter), parameter.toArray()));
+    }
+
+    @Override
+    public Collection<?> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toList(rs.getArray(columnName));
+    }
+
+    @Override
+    public Collection<?> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toList(rs.getArray(columnIndex));
+    }
+
+    @Override
+    public Collection<?> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toList(cs.getArray(columnIndex));
+    }
+
+    /**
+     * 根据第一个非空元素推断数组元素的数据库类型
+     *
+     * @param parameter 参数
+     * @return java.lang.String
+     * @throws com.baomidou.mybatisplus.core.exceptions.MybatisPlusException 当元素类型无法映射为数据库类型时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 18:20
+     */
+    protected String getElementType(Collection<?> parameter) {
+        Object first = CollUtil.findOne(parameter, Objects::nonNull);
+        if (Objects.isNull(first)) {
+            return DEFAULT_ELEMENT_TYPE;
+        }
+        String type = ELEMENT_TYPES.get(first.getClass());
+        if (Objects.isNull(type)) {
+            throw ExceptionUtils.mpe("无法将类型[%s]绑定为数组参数", first.getClass().getName());
+        }
+        return type;
+    }
+
+    private List<Object> toList(Array array) throws SQLException {
+        if (Objects.isNull(array)) {
+            return null;
+        }
+        try {
+            return new ArrayList<>(Arrays.asList((Object[]) array.getArray()));
+        } finally {
+            array.free();
+        }
+    }
+
+}
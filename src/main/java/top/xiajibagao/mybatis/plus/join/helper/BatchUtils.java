@@ -0,0 +1,211 @@
+package top.xiajibagao.mybatis.plus.join.helper;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ReflectUtil;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import top.xiajibagao.mybatis.plus.join.config.ExtendGlobalConfig;
+import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 批量查询工具类
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 17:40
+ */
+public class BatchUtils {
+
+    private BatchUtils() {
+    }
+
+    /**
+     * 将key去重并去除null值后分块查询，按分块顺序合并查询结果。<br />
+     * 当parallelism大于1且存在多个分块时，将在共享线程池中最多同时执行parallelism个查询，
+     * 此时查询不会加入当前线程的事务。
+     *
+     * @param keys key值
+     * @param chunkSize 每次查询的key数量
+     * @param parallelism 同时执行查询的最大线程数
+     * @param query 查询方法
+     * @return java.util.List<T>
+     * @throws IllegalArgumentException 当chunkSize小于等于0时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 17:40
+     */
+    public static <K, T> List<T> selectInChunks(
+        Collection<K> keys, int chunkSize, int parallelism, Function<List<K>, List<T>> query) {
+        Assert.isTrue(chunkSize > 0, "每次查询的key数量必须大于0");
+        List<K> distinctKeys = distinct(keys);
+        if (distinctKeys.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<List<K>> chunks = CollUtil.split(distinctKeys, chunkSize);
+        if (chunks.size() == 1) {
+            return new ArrayList<>(query.apply(chunks.get(0)));
+        }
+        List<List<T>> results = parallelism <= 1 ?
+            chunks.stream().map(query).collect(Collectors.toList()) :
+            selectInParallel(chunks, parallelism, query);
+        return results.stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 按顺序去重并去除null值
+     *
+     * @param keys key值
+     * @return java.util.List<K>
+     * @author huangchengxing
+     * @date 2026/10/19 17:40
+     */
+    public static <K> List<K> distinct(Collection<K> keys) {
+        if (CollUtil.isEmpty(keys)) {
+            return new ArrayList<>();
+        }
+        Set<K> distinctKeys = new LinkedHashSet<>(keys);
+        distinctKeys.remove(null);
+        return new ArrayList<>(distinctKeys);
+    }
+
+    /**
+     * 重复最后一个值，将值补齐到不小于原数量的2的幂次个，但补齐后的数量不超过maxSize。<br />
+     * 补齐后不同数量的值只会对应少数几种IN语句，重复的值不影响查询结果
+     *
+     * @param values 值
+     * @param maxSize 补齐后的最大数量，原数量已超过该值时不补齐
+     * @return java.util.List<K>
+     * @author huangchengxing
+     * @date 2026/10/19 18:00
+     */
+    public static <K> List<K> padToPowerOfTwo(Collection<K> values, int maxSize) {
+        List<K> padded = new ArrayList<>(values);
+        int size = padded.size();
+        if (size <= 1) {
+            return padded;
+        }
+        int bucket = Math.min(Integer.highestOneBit(size - 1) << 1, maxSize);
+        K last = padded.get(size - 1);
+        for (int i = size; i < bucket; i++) {
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    /**
+     * 若开启了{@link ExtendGlobalConfig#isPadInList()}，则按{@link ExtendGlobalConfig#getBatchKeySize()}补齐IN条件的值
+     *
+     * @param values 值
+     * @return java.util.Collection<K>
+     * @author huangchengxing
+     * @date 2026/10/19 18:00
+     * @see #padToPowerOfTwo
+     */
+    public static <K> Collection<K> padInValuesIfNecessary(Collection<K> values) {
+        return ExtendGlobalConfig.isPadInList() && CollUtil.isNotEmpty(values) ?
+            padToPowerOfTwo(values, ExtendGlobalConfig.getBatchKeySize()) : values;
+    }
+
+    /**
+     * 将数据分块，每块不超过maxRows条，且每块的预估字节数之和不超过maxBytes。<br />
+     * 单条数据的预估字节数已超过maxBytes时，该条数据单独作为一块
+     *
+     * @param rows 数据
+     * @param maxRows 每块最大条数
+     * @param maxBytes 每块最大字节数
+     * @param sizer 单条数据的字节数估算方法
+     * @return java.util.List<java.util.List<T>>
+     * @throws IllegalArgumentException 当maxRows小于等于0时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    public static <T> List<List<T>> splitByRowsAndBytes(Collection<T> rows, int maxRows, long maxBytes, ToLongFunction<T> sizer) {
+        Assert.isTrue(maxRows > 0, "每块最大条数必须大于0");
+        List<List<T>> chunks = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        long chunkBytes = 0;
+        for (T row : rows) {
+            long rowBytes = sizer.applyAsLong(row);
+            if (!chunk.isEmpty() && (chunk.size() >= maxRows || chunkBytes + rowBytes > maxBytes)) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(row);
+            chunkBytes += rowBytes;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * 预估实体插入时在sql中所占的字节数，字符串按每个字符3字节计算
+     *
+     * @param entity 实体
+     * @param tableInfo 表信息
+     * @return long
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    public static long estimateRowBytes(Object entity, TableInfo tableInfo) {
+        long bytes = ExtendConstants.BRACKETS.length();
+        if (tableInfo.havePK()) {
+            bytes += estimateValueBytes(ReflectUtil.getFieldValue(entity, tableInfo.getKeyProperty()));
+        }
+        for (TableFieldInfo field : tableInfo.getFieldList()) {
+            bytes += estimateValueBytes(ReflectUtil.getFieldValue(entity, field.getField()));
+        }
+        return bytes;
+    }
+
+    private static long estimateValueBytes(Object value) {
+        if (Objects.isNull(value)) {
+            return 5L;
+        }
+        // 引号与逗号
+        return value instanceof CharSequence ? ((CharSequence) value).length() * 3L + 3L : String.valueOf(value).length() + 1L;
+    }
+
+    private static <K, T> List<List<T>> selectInParallel(
+        List<List<K>> chunks, int parallelism, Function<List<K>, List<T>> query) {
+        List<List<T>> results = new ArrayList<>(Collections.nCopies(chunks.size(), null));
+        AtomicInteger next = new AtomicInteger();
+        // 每个任务依次领取未查询的分块，保证同时执行的查询不超过parallelism个
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(parallelism, chunks.size())];
+        for (int i = 0; i < workers.length; i++) {
+            // 线程池已满时在当前线程中执行
+            workers[i] = ThreadPoolUtils.runAsyncOrInline(() -> {
+                try {
+                    for (int index = next.getAndIncrement(); index < chunks.size(); index = next.getAndIncrement()) {
+                        results.set(index, query.apply(chunks.get(index)));
+                    }
+                } catch (RuntimeException e) {
+                    // 出现异常时不再领取新的分块
+                    next.set(chunks.size());
+                    throw e;
+                }
+            });
+        }
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException e) {
+            Throwable cause = Objects.isNull(e.getCause()) ? e : e.getCause();
+            throw cause instanceof RuntimeException ?
+                (RuntimeException) cause : ExceptionUtils.mpe("分块查询失败", cause);
+        }
+        return results;
+    }
+
+}
@@ -51,4 +51,16 @@ public class ColumnUtils {
         );
     }
 
+    /**
+     * 获取lambda表达式对应的实体类型，对于父类中声明的方法，返回实际引用的子类
+     *
+     * @param column 字段
+     * @return java.lang.Class<?>
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public static <T, R> Class<?> getEntityClass(@Nonnull SFunction<T, R> column) {
+        return LambdaUtils.resolve(column).getInstantiatedType();
+    }
+
 }
@@ -109,7 +109,7 @@ public class SqlUtils implements ExtendConstants {
     }
 
     /**
-     * 将wrapper转为可执行的sql片段
+     * 将wrapper转为可执行的sql片段，未指定查询字段时与直接查询一样查询全部字段
      *
      * @param wrapper wrapper
      * @return java.lang.String
@@ -118,7 +118,7 @@ public class SqlUtils implements ExtendConstants {
      */
     public static <W extends JoinWrapper<?, ?>> String wrapperToSql(@Nonnull W wrapper) {
         return space(
-            SELECT, wrapper.getSqlSelect(),
+            SELECT, CharSequenceUtil.blankToDefault(wrapper.getSqlSelect(), ASTERISK),
             FROM, space(wrapper.getTable(), wrapper.getAlisa()), NEWLINE,
             wrapper.getSqlJoin(), NEWLINE, wrapper.getCustomSqlSegment()
         );
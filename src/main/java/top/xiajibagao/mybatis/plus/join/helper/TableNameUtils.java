@@ -0,0 +1,73 @@
+package top.xiajibagao.mybatis.plus.join.helper;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 表名工具类
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 20:50
+ */
+public class TableNameUtils {
+
+    private TableNameUtils() {
+    }
+
+    /**
+     * 表示无法确定语句涉及了哪些表
+     */
+    public static final String ALL_TABLES = "*";
+
+    /**
+     * 解析语句涉及的表，包括子查询中读取的表，无法解析时返回{@link #ALL_TABLES}
+     *
+     * @param sql 语句
+     * @return java.util.Set<java.lang.String>
+     * @author huangchengxing
+     * @date 2026/10/19 20:20
+     */
+    public static Set<String> parseTables(String sql) {
+        try {
+            return normalizeTables(new TablesNamesFinder().getTableList(CCJSqlParserUtil.parse(sql)));
+        } catch (JSQLParserException | RuntimeException e) {
+            return Collections.singleton(ALL_TABLES);
+        }
+    }
+
+    /**
+     * 将表名统一为不包含库名与引号的小写格式，比如“`db`.`Score`”转为“score”
+     *
+     * @param tables 表名
+     * @return java.util.Set<java.lang.String>
+     * @author huangchengxing
+     * @date 2026/10/19 20:20
+     */
+    public static Set<String> normalizeTables(Collection<String> tables) {
+        return tables.stream()
+            .map(TableNameUtils::normalizeTable)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * 将表名统一为不包含库名与引号的小写格式
+     *
+     * @param table 表名
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    public static String normalizeTable(String table) {
+        String name = CharSequenceUtil.removeAll(table.substring(table.lastIndexOf('.') + 1), '`', '"', '[', ']');
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
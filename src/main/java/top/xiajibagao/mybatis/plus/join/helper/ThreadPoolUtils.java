@@ -0,0 +1,93 @@
+package top.xiajibagao.mybatis.plus.join.helper;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadUtil;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池工具类
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 13:20
+ */
+public class ThreadPoolUtils {
+
+    private ThreadPoolUtils() {
+    }
+
+    /**
+     * 默认共享线程池的线程数与等待队列容量
+     */
+    public static final int DEFAULT_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final String THREAD_NAME_PREFIX = "mybatis-plus-join-";
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private static volatile ExecutorService sharedExecutor;
+
+    /**
+     * 获取共享线程池，若未指定则创建默认线程池。<br />
+     * 默认线程池最多同时执行{@link #DEFAULT_POOL_SIZE}个任务，最多等待{@link #DEFAULT_QUEUE_CAPACITY}个任务，
+     * 超出后提交的任务将被拒绝并抛出{@link RejectedExecutionException}。线程均为守护线程，空闲时将被回收，不会阻止应用关闭
+     *
+     * @return java.util.concurrent.ExecutorService
+     * @author huangchengxing
+     * @date 2026/10/19 13:20
+     */
+    public static ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            synchronized (ThreadPoolUtils.class) {
+                if (sharedExecutor == null) {
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                        DEFAULT_POOL_SIZE, DEFAULT_POOL_SIZE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(DEFAULT_QUEUE_CAPACITY),
+                        ThreadUtil.newNamedThreadFactory(THREAD_NAME_PREFIX, true)
+                    );
+                    executor.allowCoreThreadTimeOut(true);
+                    sharedExecutor = executor;
+                }
+            }
+        }
+        return sharedExecutor;
+    }
+
+    /**
+     * 指定共享线程池，比如与应用共用的有界线程池。<br />
+     * 替换前已提交到原线程池中的任务不受影响，原线程池也不会被关闭
+     *
+     * @param executor 线程池
+     * @author huangchengxing
+     * @date 2026/10/19 22:00
+     */
+    public static void setSharedExecutor(@Nonnull ExecutorService executor) {
+        Assert.notNull(executor, "线程池不能为空");
+        synchronized (ThreadPoolUtils.class) {
+            sharedExecutor = executor;
+        }
+    }
+
+    /**
+     * 在共享线程池中异步执行任务，若线程池已满则在当前线程中执行
+     *
+     * @param task 任务
+     * @return java.util.concurrent.CompletableFuture<java.lang.Void>
+     * @author huangchengxing
+     * @date 2026/10/19 22:00
+     */
+    public static CompletableFuture<Void> runAsyncOrInline(Runnable task) {
+        try {
+            return CompletableFuture.runAsync(task, getSharedExecutor());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.runAsync(task, Runnable::run);
+        }
+    }
+
+}
@@ -1,6 +1,8 @@
 package top.xiajibagao.mybatis.plus.join.injector;
 
 import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import cn.hutool.core.text.CharSequenceUtil;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
 import com.baomidou.mybatisplus.core.metadata.TableInfo;
 import com.baomidou.mybatisplus.core.toolkit.sql.SqlScriptUtils;
 import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
@@ -47,7 +49,23 @@ public abstract class AbstractJoinMethod extends AbstractMethod implements Exten
      */
     @Override
     protected String sqlWhereEntityWrapper(boolean newLine, TableInfo table) {
-        String sqlSegment = String.format("${%s}", WRAPPER_SQLSEGMENT);
+        return sqlWhereWrapper(newLine, WRAPPER_SQLSEGMENT);
+    }
+
+    /**
+     * 拼接不包含分页语句的where条件，用于统计或由分页插件分页的查询
+     *
+     * @param newLine 是否换行
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 16:30
+     */
+    protected String sqlWhereWithoutLimit(boolean newLine) {
+        return sqlWhereWrapper(newLine, Q_WRAPPER_SQL_SEGMENT_WITHOUT_LIMIT);
+    }
+
+    private String sqlWhereWrapper(boolean newLine, String sqlSegmentProperty) {
+        String sqlSegment = String.format("${%s}", sqlSegmentProperty);
         String sqlScript = SqlScriptUtils.convertChoose(
             String.format("%s", WRAPPER_NONEMPTYOFWHERE),
             SqlScriptUtils.convertWhere(sqlSegment),
@@ -55,12 +73,44 @@ public abstract class AbstractJoinMethod extends AbstractMethod implements Exten
         );
         sqlScript = SqlScriptUtils.convertIf(
             sqlScript,
-            String.format("%s != null and %s != null and %s != ''", WRAPPER, WRAPPER_SQLSEGMENT, WRAPPER_SQLSEGMENT),
+            String.format("%s != null and %s != null and %s != ''", WRAPPER, sqlSegmentProperty, sqlSegmentProperty),
             true
         );
         return newLine ? NEWLINE + sqlScript + NEWLINE: sqlScript;
     }
 
+    /**
+     * 获取批量插入的字段，比如“(id,name)”
+     *
+     * @param table 表信息
+     * @param withKey 是否必须包含主键，为false时自增主键将被忽略
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    protected String sqlBatchInsertColumns(TableInfo table, boolean withKey) {
+        String keyColumn = withKey && table.havePK() ? table.getKeyColumn() + COMMA : table.getKeyInsertSqlColumn(false);
+        String columns = keyColumn + filterTableFieldInfo(table.getFieldList(), null, TableFieldInfo::getInsertSqlColumn, EMPTY);
+        return LEFT_BRACKET + CharSequenceUtil.removeSuffix(columns, COMMA) + RIGHT_BRACKET;
+    }
+
+    /**
+     * 获取遍历“list”参数生成多行值的脚本，比如“(#{et.id},#{et.name}),(...)”
+     *
+     * @param table 表信息
+     * @param withKey 是否必须包含主键，为false时自增主键将被忽略
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    protected String sqlBatchInsertValues(TableInfo table, boolean withKey) {
+        String keyProperty = withKey && table.havePK() ?
+            SqlScriptUtils.safeParam(ENTITY_DOT + table.getKeyProperty()) + COMMA : table.getKeyInsertSqlProperty(ENTITY_DOT, false);
+        String properties = keyProperty + filterTableFieldInfo(table.getFieldList(), null, field -> field.getInsertSqlProperty(ENTITY_DOT), EMPTY);
+        String row = LEFT_BRACKET + CharSequenceUtil.removeSuffix(properties, COMMA) + RIGHT_BRACKET;
+        return SqlScriptUtils.convertForeach(row, LIST, null, ENTITY, COMMA);
+    }
+
     /**
      * 拼接查询字段 <br />
      * 与父类方法区别在于为字段添加了表别名
@@ -23,10 +23,17 @@ public class JoinMethodInjector extends DefaultSqlInjector {
     public static List<AbstractMethod> getMethods() {
         return Arrays.asList(new SelectListJoin(),
             new SelectCountJoin(),
+            new SelectLimitedCountJoin(),
             new SelectExistsJoin(),
             new SelectPageJoin(),
             new SelectMapsJoin(),
-            new SelectMapsPageJoin());
+            new SelectMapsPageJoin(),
+            new InsertBatchValues(),
+            new UpsertBatchValues(),
+            new UpdateJoin(),
+            new DeleteJoin(),
+            new InsertFromJoin(),
+            new SelectMultiStatementJoin());
     }
 
 }
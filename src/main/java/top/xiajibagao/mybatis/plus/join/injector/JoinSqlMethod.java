@@ -20,7 +20,14 @@ public enum JoinSqlMethod {
     SELECT_LIST_JOIN("selectListJoin", "查询数据", "<script>\n%s \nSELECT %s \nFROM %s %s %s %s\n</script>"),
     SELECT_PAGE_JOIN("selectPageJoin", "查询数据（并翻页）", "<script>\n%s \nSELECT %s \nFROM %s %s %s %s\n</script>"),
     EXISTS_JOIN("selectExistsJoin", "查询数据是否存在", "<script>\n%s \nSELECT EXISTS (SELECT 1 FROM %s %s %s)%s\n</script>"),
-    SELECT_COUNT_JOIN("selectCountJoin", "查询数据", "<script>\n%s \nSELECT count(1) \nFROM %s %s %s %s\n</script>");
+    SELECT_COUNT_JOIN("selectCountJoin", "查询数据", "<script>\n%s \nSELECT count(1) \nFROM %s %s %s %s\n</script>"),
+    SELECT_LIMITED_COUNT_JOIN("selectLimitedCountJoin", "查询数据条数，最多统计到指定条数", "<script>\n%s \nSELECT count(1) FROM (SELECT 1 \nFROM %s %s %s ${%s}) tmp %s\n</script>"),
+    INSERT_BATCH_VALUES("insertBatchValues", "多行批量插入数据", "<script>\nINSERT INTO %s %s VALUES %s\n</script>"),
+    UPSERT_BATCH_VALUES("upsertBatchValues", "多行批量插入或更新数据", "<script>\n<choose>%s</choose>\n</script>"),
+    UPDATE_JOIN("updateJoin", "关联更新数据", "<script>\n%s ${%s} %s\n</script>"),
+    DELETE_JOIN("deleteJoin", "关联删除数据", "<script>\n%s ${%s} %s\n</script>"),
+    INSERT_FROM_JOIN("insertFromJoin", "将关联查询结果插入指定表", "<script>\n%s INSERT INTO ${%s} ${%s} \nSELECT %s \nFROM %s %s %s %s\n</script>"),
+    SELECT_MULTI_STATEMENT_JOIN("selectMultiStatementJoin", "通过一次多语句执行查询多组数据", "<script>\n%s\n</script>");
 
     private final String method;
     private final String desc;
@@ -0,0 +1,43 @@
+package top.xiajibagao.mybatis.plus.join.injector.methods;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
+import org.apache.ibatis.executor.keygen.KeyGenerator;
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import top.xiajibagao.mybatis.plus.join.injector.AbstractJoinMethod;
+import top.xiajibagao.mybatis.plus.join.injector.JoinSqlMethod;
+
+/**
+ * 通过一条“INSERT INTO table (...) VALUES (...), (...)”语句插入多行数据，自增主键将回填到实体中
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 19:00
+ */
+public class InsertBatchValues extends AbstractJoinMethod {
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        JoinSqlMethod method = JoinSqlMethod.INSERT_BATCH_VALUES;
+        String sql = String.format(
+            method.getSql(),
+            tableInfo.getTableName(),
+            sqlBatchInsertColumns(tableInfo, false),
+            sqlBatchInsertValues(tableInfo, false)
+        );
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+
+        KeyGenerator keyGenerator = new NoKeyGenerator();
+        String keyProperty = null;
+        String keyColumn = null;
+        if (tableInfo.havePK() && tableInfo.getIdType() == IdType.AUTO) {
+            keyGenerator = new Jdbc3KeyGenerator();
+            keyProperty = tableInfo.getKeyProperty();
+            keyColumn = tableInfo.getKeyColumn();
+        }
+        return addInsertMappedStatement(mapperClass, modelClass, method.getMethod(), sqlSource, keyGenerator, keyProperty, keyColumn);
+    }
+
+}
@@ -0,0 +1,63 @@
+package top.xiajibagao.mybatis.plus.join.injector.methods;
+
+import cn.hutool.core.lang.Assert;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import top.xiajibagao.mybatis.plus.join.injector.AbstractJoinMethod;
+import top.xiajibagao.mybatis.plus.join.injector.JoinSqlMethod;
+
+/**
+ * 将关联查询结果插入指定表，即“INSERT INTO target (...) SELECT ... FROM ...”。<br />
+ * 参数中仅传入目标表的实体类型，表名在生成sql时由{@link #getTargetTableName(Class)}从TableInfo中获取
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 19:40
+ * @see top.xiajibagao.mybatis.plus.join.wrapper.AbstractDynamicResultWrapper#getSqlInsertColumns()
+ */
+public class InsertFromJoin extends AbstractJoinMethod {
+
+    /**
+     * 在sql中通过OGNL调用{@link #getTargetTableName(Class)}获取目标表名
+     */
+    private static final String TARGET_TABLE_NAME = String.format(
+        "@%s@getTargetTableName(%s)", InsertFromJoin.class.getName(), TARGET_TABLE
+    );
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        JoinSqlMethod method = JoinSqlMethod.INSERT_FROM_JOIN;
+        String sql = String.format(
+            method.getSql(),
+            sqlFirst(),
+            TARGET_TABLE_NAME,
+            Q_WRAPPER_SQL_INSERT_COLUMNS,
+            sqlSelectColumns(tableInfo, true),
+            sqlFromTable(),
+            sqlJoin(),
+            sqlWhereEntityWrapper(true, tableInfo),
+            sqlComment()
+        );
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+        return addInsertMappedStatement(mapperClass, modelClass, method.getMethod(), sqlSource, new NoKeyGenerator(), null, null);
+    }
+
+    /**
+     * 获取目标表实体对应的表名
+     *
+     * @param targetTable 目标表实体类型
+     * @return java.lang.String
+     * @throws IllegalArgumentException 当找不到目标表实体对应的TableInfo时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 22:40
+     */
+    public static String getTargetTableName(Class<?> targetTable) {
+        Assert.notNull(targetTable, "目标表实体类型不能为空");
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(targetTable);
+        Assert.notNull(tableInfo, "找不到类型[{}]对应的TableInfo缓存", targetTable.getName());
+        return tableInfo.getTableName();
+    }
+
+}
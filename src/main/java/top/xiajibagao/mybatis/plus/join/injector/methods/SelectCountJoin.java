@@ -20,7 +20,7 @@ public class SelectCountJoin extends AbstractJoinMethod {
             sqlFirst(),
             sqlFromTable(),
             sqlJoin(),
-            sqlWhereEntityWrapper(true, tableInfo),
+            sqlWhereWithoutLimit(true),
             sqlComment()
         );
         SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
@@ -0,0 +1,33 @@
+package top.xiajibagao.mybatis.plus.join.injector.methods;
+
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import top.xiajibagao.mybatis.plus.join.injector.AbstractJoinMethod;
+import top.xiajibagao.mybatis.plus.join.injector.JoinSqlMethod;
+
+/**
+ * 查询条数，最多只扫描到指定行数，用于估算大结果集的总数
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 10:12
+ */
+public class SelectLimitedCountJoin extends AbstractJoinMethod {
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        JoinSqlMethod method = JoinSqlMethod.SELECT_LIMITED_COUNT_JOIN;
+        String sql = String.format(
+            method.getSql(),
+            sqlFirst(),
+            sqlFromTable(),
+            sqlJoin(),
+            sqlWhereWithoutLimit(true),
+            Q_WRAPPER_SQL_COUNT_LIMIT,
+            sqlComment()
+        );
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+        return addSelectMappedStatementForOther(mapperClass, method.getMethod(), sqlSource, Integer.class);
+    }
+
+}
@@ -23,13 +23,27 @@ public class SelectListJoin extends AbstractJoinMethod {
     }
 
     public String getSql(JoinSqlMethod sqlMethod, TableInfo tableInfo) {
+        return getSql(sqlMethod, tableInfo, true);
+    }
+
+    /**
+     * 获取查询sql
+     *
+     * @param sqlMethod 方法
+     * @param tableInfo 表信息
+     * @param withLimit 是否拼接条件构造器中的分页语句，由分页插件分页的查询不应拼接
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 16:30
+     */
+    public String getSql(JoinSqlMethod sqlMethod, TableInfo tableInfo, boolean withLimit) {
         return String.format(
             sqlMethod.getSql(),
             sqlFirst(),
             sqlSelectColumns(tableInfo, true),
             sqlFromTable(),
             sqlJoin(),
-            sqlWhereEntityWrapper(true, tableInfo),
+            withLimit ? sqlWhereEntityWrapper(true, tableInfo) : sqlWhereWithoutLimit(true),
             sqlComment()
         );
     }
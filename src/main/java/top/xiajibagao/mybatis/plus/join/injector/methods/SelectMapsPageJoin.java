@@ -16,7 +16,7 @@ public class SelectMapsPageJoin extends SelectListJoin {
     @Override
     public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
         JoinSqlMethod method = JoinSqlMethod.SELECT_MAPS_PAGE;
-        SqlSource sqlSource = languageDriver.createSqlSource(configuration, getSql(method, tableInfo), modelClass);
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, getSql(method, tableInfo, false), modelClass);
         return addSelectMappedStatementForOther(mapperClass, method.getMethod(), sqlSource, Map.class);
     }
 
@@ -0,0 +1,40 @@
+package top.xiajibagao.mybatis.plus.join.injector.methods;
+
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.sql.SqlScriptUtils;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import top.xiajibagao.mybatis.plus.join.injector.AbstractJoinMethod;
+import top.xiajibagao.mybatis.plus.join.injector.JoinSqlMethod;
+
+/**
+ * 遍历“wrappers”参数，将每个条件构造器对应的列表查询或统计查询以“;”拼接，通过一次多语句执行查询多组数据。<br />
+ * 每个结果集的返回值类型由{@link top.xiajibagao.mybatis.plus.join.interceptor.DynamicResultInterceptor}按条件构造器分别替换
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 19:50
+ * @see top.xiajibagao.mybatis.plus.join.extend.JoinBatch
+ */
+public class SelectMultiStatementJoin extends AbstractJoinMethod {
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        JoinSqlMethod method = JoinSqlMethod.SELECT_MULTI_STATEMENT_JOIN;
+        String countSql = String.format(
+            "%s \nSELECT count(1) \nFROM %s %s %s",
+            sqlFirst(), sqlFromTable(), sqlJoin(), sqlWhereWithoutLimit(true)
+        );
+        String listSql = String.format(
+            "%s \nSELECT %s \nFROM %s %s %s",
+            sqlFirst(), sqlSelectColumns(tableInfo, true), sqlFromTable(), sqlJoin(), sqlWhereEntityWrapper(true, tableInfo)
+        );
+        String statementSql = SqlScriptUtils.convertChoose(String.format("%s[%s]", COUNTS, INDEX), countSql, listSql);
+        String sql = String.format(
+            method.getSql(),
+            SqlScriptUtils.convertForeach(statementSql, WRAPPERS, INDEX, WRAPPER, SEMICOLON)
+        );
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+        return addSelectMappedStatementForOther(mapperClass, method.getMethod(), sqlSource, Object.class);
+    }
+
+}
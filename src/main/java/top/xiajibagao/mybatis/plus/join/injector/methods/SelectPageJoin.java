@@ -14,7 +14,7 @@ public class SelectPageJoin extends SelectListJoin {
     @Override
     public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
         JoinSqlMethod method = JoinSqlMethod.SELECT_PAGE_JOIN;
-        SqlSource sqlSource = languageDriver.createSqlSource(configuration, getSql(method, tableInfo), modelClass);
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, getSql(method, tableInfo, false), modelClass);
         return addSelectMappedStatementForTable(mapperClass, method.getMethod(), sqlSource, tableInfo);
     }
 
@@ -0,0 +1,26 @@
+package top.xiajibagao.mybatis.plus.join.injector.methods;
+
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import top.xiajibagao.mybatis.plus.join.injector.AbstractJoinMethod;
+import top.xiajibagao.mybatis.plus.join.injector.JoinSqlMethod;
+
+/**
+ * 关联更新，语句由条件构造器按数据库方言生成
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 19:20
+ * @see top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper#getSqlUpdateJoin()
+ */
+public class UpdateJoin extends AbstractJoinMethod {
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        JoinSqlMethod method = JoinSqlMethod.UPDATE_JOIN;
+        String sql = String.format(method.getSql(), sqlFirst(), Q_WRAPPER_SQL_UPDATE_JOIN, sqlComment());
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+        return addUpdateMappedStatement(mapperClass, modelClass, method.getMethod(), sqlSource);
+    }
+
+}
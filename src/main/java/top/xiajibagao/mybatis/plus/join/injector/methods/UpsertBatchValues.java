@@ -0,0 +1,50 @@
+package top.xiajibagao.mybatis.plus.join.injector.methods;
+
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialect;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialects;
+import top.xiajibagao.mybatis.plus.join.injector.AbstractJoinMethod;
+import top.xiajibagao.mybatis.plus.join.injector.JoinSqlMethod;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 通过一条语句插入多行数据，主键冲突时更新除主键外的字段。<br />
+ * 语句由“dialect”参数指定的数据库方言生成，没有主键的表不注入该方法
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 19:00
+ * @see JoinDialect#getUpsertSql
+ */
+public class UpsertBatchValues extends AbstractJoinMethod {
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        if (!tableInfo.havePK()) {
+            return null;
+        }
+        JoinSqlMethod method = JoinSqlMethod.UPSERT_BATCH_VALUES;
+        String columns = sqlBatchInsertColumns(tableInfo, true);
+        String values = sqlBatchInsertValues(tableInfo, true);
+        List<String> updateColumns = tableInfo.getFieldList().stream()
+            .map(TableFieldInfo::getColumn)
+            .collect(Collectors.toList());
+        // 按方言生成“<when test="dialect == 'mysql'">...</when>”
+        String choose = JoinDialects.getDialects().stream()
+            .filter(JoinDialect::isSupportUpsert)
+            .map(dialect -> String.format(
+                "<when test=\"%s == '%s'\">%s</when>", DIALECT, dialect.getDbType().getDb(),
+                dialect.getUpsertSql(tableInfo.getTableName(), columns, values, tableInfo.getKeyColumn(), updateColumns)
+            ))
+            .collect(Collectors.joining(NEWLINE));
+        String sql = String.format(method.getSql(), choose);
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+        return addInsertMappedStatement(mapperClass, modelClass, method.getMethod(), sqlSource, new NoKeyGenerator(), null, null);
+    }
+
+}
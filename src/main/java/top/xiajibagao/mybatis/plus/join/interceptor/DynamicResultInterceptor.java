@@ -4,6 +4,7 @@ import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.util.ClassUtil;
 import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.plugin.Interceptor;
 import org.apache.ibatis.plugin.Intercepts;
 import org.apache.ibatis.plugin.Invocation;
@@ -12,12 +13,17 @@ import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.RowBounds;
 import org.springframework.stereotype.Component;
+import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
 import top.xiajibagao.mybatis.plus.join.helper.StatementResultParser;
 import top.xiajibagao.mybatis.plus.join.wrapper.AbstractDynamicResultWrapper;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 将查询方法的返回值替换为指定的类型
@@ -66,12 +72,24 @@ public class DynamicResultInterceptor implements Interceptor {
      * @author huangchengxing
      * @date 2021/12/29 12:06
      */
+    @SuppressWarnings("unchecked")
     private void redirectMappedStatementResult(Object[] args, MappedStatement originStatement, Map<String, Object> params) {
         // count、exists这类返回基本类型的不做处理
         Class<?> resultType = originStatement.getResultMaps().get(0).getType();
         if (ClassUtil.isBasicType(resultType)) {
             return;
         }
+        // 多语句查询，每个结果集分别对应一个条件构造器
+        if (params.containsKey(ExtendConstants.WRAPPERS) && params.containsKey(ExtendConstants.COUNTS)) {
+            List<AbstractDynamicResultWrapper<?, ?, ?>> wrappers = (List<AbstractDynamicResultWrapper<?, ?, ?>>) params.get(ExtendConstants.WRAPPERS);
+            List<Boolean> counts = (List<Boolean>) params.get(ExtendConstants.COUNTS);
+            List<Class<?>> resultTypes = new ArrayList<>(wrappers.size());
+            for (int i = 0; i < wrappers.size(); i++) {
+                resultTypes.add(Boolean.TRUE.equals(counts.get(i)) ? Integer.class : wrappers.get(i).getResultClass());
+            }
+            args[0] = convertStatement(originStatement, resultTypes);
+            return;
+        }
         params.values().stream()
             .filter(AbstractDynamicResultWrapper.class::isInstance)
             .findFirst()
@@ -91,6 +109,39 @@ public class DynamicResultInterceptor implements Interceptor {
      */
     private MappedStatement convertStatement(MappedStatement originStatement, Class<?> originResultType) {
         String id = originStatement.getId() + "_dynamic_result_" + originResultType.getSimpleName();
+        return convertStatement(originStatement, id, () -> {
+            StatementResultParser<?> parser = StatementResultParser.parse(originStatement.getConfiguration(), originResultType);
+            return Collections.singletonList(parser.getResultMap());
+        });
+    }
+
+    /**
+     * 基于原有方法声明，创建一个返回多个结果集的新方法声明，结果集按顺序分别映射为指定类型，基本类型将直接映射为单个值
+     *
+     * @param originStatement 旧方法声明
+     * @param resultTypes 各结果集的返回值类型
+     * @return org.apache.ibatis.mapping.MappedStatement
+     * @author huangchengxing
+     * @date 2026/10/19 19:50
+     */
+    private MappedStatement convertStatement(MappedStatement originStatement, List<Class<?>> resultTypes) {
+        String id = originStatement.getId() + "_dynamic_results_" + resultTypes.stream()
+            .map(Class::getSimpleName)
+            .collect(Collectors.joining("_"));
+        Configuration configuration = originStatement.getConfiguration();
+        return convertStatement(originStatement, id, () -> {
+            List<ResultMap> resultMaps = new ArrayList<>(resultTypes.size());
+            for (int i = 0; i < resultTypes.size(); i++) {
+                Class<?> resultType = resultTypes.get(i);
+                resultMaps.add(ClassUtil.isBasicType(resultType) ?
+                    new ResultMap.Builder(configuration, id + "-Inline-" + i, resultType, new ArrayList<>()).build() :
+                    StatementResultParser.parse(configuration, resultType).getResultMap());
+            }
+            return resultMaps;
+        });
+    }
+
+    private MappedStatement convertStatement(MappedStatement originStatement, String id, Supplier<List<ResultMap>> resultMapsSupplier) {
         Map<String, MappedStatement> mappedCached = REDIRECTED_STATEMENT_CACHE.computeIfAbsent(
             originStatement.getConfiguration(), config -> new ConcurrentHashMap<>()
         );
@@ -109,8 +160,7 @@ public class DynamicResultInterceptor implements Interceptor {
                 .cache(originStatement.getCache())
                 .flushCacheRequired(originStatement.isFlushCacheRequired())
                 .useCache(originStatement.isUseCache());
-            StatementResultParser<?> parser = StatementResultParser.parse(originStatement.getConfiguration(), originResultType);
-            statementBuilder.resultMaps(Collections.singletonList(parser.getResultMap()));
+            statementBuilder.resultMaps(resultMapsSupplier.get());
             return statementBuilder.build();
         });
     }
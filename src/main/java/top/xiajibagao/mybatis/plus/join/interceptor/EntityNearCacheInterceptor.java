@@ -0,0 +1,56 @@
+package top.xiajibagao.mybatis.plus.join.interceptor;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import top.xiajibagao.mybatis.plus.join.cache.EntityNearCache;
+import top.xiajibagao.mybatis.plus.join.helper.TableNameUtils;
+
+import java.util.Set;
+
+/**
+ * 在表被写入时删除对应实体的近端缓存。<br />
+ * 执行任意写入语句后，将解析语句涉及的表并删除对应实体的缓存，无法解析时删除全部缓存；
+ * 在事务提交或回滚前，当前线程中对已写入表的查询将不使用缓存，提交或回滚后将再次删除相关缓存。
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 20:50
+ * @see EntityNearCache
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "commit", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "rollback", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "close", args = {boolean.class})
+})
+public class EntityNearCacheInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (!"update".equals(invocation.getMethod().getName())) {
+            // 提交、回滚或关闭会话后，再次删除当前线程写入的表的缓存
+            try {
+                return invocation.proceed();
+            } finally {
+                EntityNearCache.evictTables(EntityNearCache.releaseWrittenTables());
+            }
+        }
+        if (!EntityNearCache.isEnabled()) {
+            return invocation.proceed();
+        }
+
+        Object[] args = invocation.getArgs();
+        MappedStatement statement = (MappedStatement) args[0];
+        Set<String> tables = TableNameUtils.parseTables(statement.getBoundSql(args[1]).getSql());
+        try {
+            return invocation.proceed();
+        } finally {
+            EntityNearCache.markWrittenTables(tables);
+            EntityNearCache.evictTables(tables);
+        }
+    }
+
+}
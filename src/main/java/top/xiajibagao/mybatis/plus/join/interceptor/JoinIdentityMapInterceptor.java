@@ -0,0 +1,91 @@
+package top.xiajibagao.mybatis.plus.join.interceptor;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import top.xiajibagao.mybatis.plus.join.cache.JoinIdentityMap;
+import top.xiajibagao.mybatis.plus.join.helper.TableNameUtils;
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+
+import java.util.*;
+
+/**
+ * 将查询结果中已加载的实体替换为当前工作单元中已有的实例，并在表被写入时删除对应的实体。<br />
+ * 仅处理查询结果为完整实体的查询：
+ * <ul>
+ *     <li>使用{@link JoinWrapper}的查询，需要{@link JoinWrapper#isEntityResult()}为true；</li>
+ *     <li>使用其他条件构造器的查询，需要未指定查询字段；</li>
+ *     <li>不使用条件构造器的查询，仅处理BaseMapper的selectById、selectBatchIds与selectByMap；</li>
+ * </ul>
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:00
+ * @see JoinIdentityMap
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "rollback", args = {boolean.class})
+})
+public class JoinIdentityMapInterceptor implements Interceptor {
+
+    private static final Set<String> ENTITY_METHODS = new HashSet<>(Arrays.asList("selectById", "selectBatchIds", "selectByMap"));
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        JoinIdentityMap identityMap = JoinIdentityMap.current();
+        if (Objects.isNull(identityMap)) {
+            return invocation.proceed();
+        }
+        Object[] args = invocation.getArgs();
+        switch (invocation.getMethod().getName()) {
+            case "query":
+                Object result = invocation.proceed();
+                if (result instanceof List && Objects.isNull(args[3]) && isEntityQuery((MappedStatement) args[0], args[1])) {
+                    identityMap.merge((List<?>) result);
+                }
+                return result;
+            case "update":
+                MappedStatement statement = (MappedStatement) args[0];
+                Set<String> tables = TableNameUtils.parseTables(statement.getBoundSql(args[1]).getSql());
+                try {
+                    return invocation.proceed();
+                } finally {
+                    identityMap.evictTables(tables);
+                }
+            default:
+                try {
+                    return invocation.proceed();
+                } finally {
+                    identityMap.clear();
+                }
+        }
+    }
+
+    private static boolean isEntityQuery(MappedStatement statement, Object parameter) {
+        Wrapper<?> wrapper = parameter instanceof Map ? ((Map<?, ?>) parameter).values().stream()
+            .filter(Wrapper.class::isInstance)
+            .map(Wrapper.class::cast)
+            .findFirst()
+            .orElse(null) : null;
+        if (wrapper instanceof JoinWrapper) {
+            return ((JoinWrapper<?, ?>) wrapper).isEntityResult();
+        }
+        if (Objects.nonNull(wrapper)) {
+            return CharSequenceUtil.isBlank(wrapper.getSqlSelect());
+        }
+        String id = statement.getId();
+        return ENTITY_METHODS.contains(id.substring(id.lastIndexOf('.') + 1));
+    }
+
+}
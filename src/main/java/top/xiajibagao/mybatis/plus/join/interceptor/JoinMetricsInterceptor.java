@@ -0,0 +1,177 @@
+package top.xiajibagao.mybatis.plus.join.interceptor;
+
+import lombok.Getter;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import top.xiajibagao.mybatis.plus.join.metrics.JoinMetricsRegistry;
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 按查询指纹统计关联查询的耗时与返回行数。<br />
+ * 一次查询的总耗时将被拆分为三个阶段：
+ * <ul>
+ *     <li>生成sql：从开始查询到准备执行语句，包括生成sql、其他插件的处理与获取连接；</li>
+ *     <li>执行语句：执行语句并读取结果集的耗时，不包括映射结果；</li>
+ *     <li>映射结果：将结果集映射为对象的耗时；</li>
+ * </ul>
+ * 仅统计参数中包含{@link JoinWrapper}的查询，指纹由语句id与{@link JoinWrapper#getShapeId()}组成，
+ * 因此仅参数值不同的查询将被计入同一指纹中。未实际执行语句的查询（比如命中缓存）不会被统计。分页插件的统计查询将被计入同一次查询中。
+ * 统计过程仅包括计时与原子计数，统计数据通过{@link JoinMetricsRegistry}读取或导出。
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:30
+ * @see JoinMetricsRegistry
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class}),
+    @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+    @Signature(type = ResultSetHandler.class, method = "handleResultSets", args = {Statement.class})
+})
+public class JoinMetricsInterceptor implements Interceptor {
+
+    /**
+     * 当前线程中正在执行的查询，不需要统计的查询为{@link Sample#IGNORED}
+     */
+    private static final ThreadLocal<Deque<Sample>> SAMPLES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Getter
+    private final JoinMetricsRegistry registry;
+
+    public JoinMetricsInterceptor() {
+        this(new JoinMetricsRegistry());
+    }
+
+    public JoinMetricsInterceptor(@Nonnull JoinMetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object target = invocation.getTarget();
+        if (target instanceof Executor) {
+            return query(invocation);
+        }
+        Sample sample = SAMPLES.get().peek();
+        if (Objects.isNull(sample) || sample == Sample.IGNORED) {
+            return invocation.proceed();
+        }
+        if (target instanceof ResultSetHandler) {
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                sample.mappingNanos += System.nanoTime() - start;
+            }
+        }
+        if ("prepare".equals(invocation.getMethod().getName())) {
+            if (sample.renderNanos < 0) {
+                sample.renderNanos = System.nanoTime() - sample.startTime;
+            }
+            // 分页插件的统计查询先于实际查询执行，因此以最后执行的sql为准
+            sample.sql = ((StatementHandler) target).getBoundSql().getSql();
+            return invocation.proceed();
+        }
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            sample.statementNanos += System.nanoTime() - start;
+        }
+    }
+
+    private Object query(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement statement = (MappedStatement) args[0];
+        Deque<Sample> samples = SAMPLES.get();
+        JoinWrapper<?, ?> wrapper = findJoinWrapper(args[1]);
+        Sample sample = Objects.nonNull(wrapper) ? new Sample(System.nanoTime()) : Sample.IGNORED;
+        samples.push(sample);
+        boolean failed = true;
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            samples.pop();
+            if (samples.isEmpty()) {
+                SAMPLES.remove();
+            }
+            if (sample != Sample.IGNORED && Objects.nonNull(sample.sql)) {
+                long totalNanos = System.nanoTime() - sample.startTime;
+                int rows = result instanceof List ? ((List<?>) result).size() : 0;
+                registry.getOrCreate(getFingerprint(statement, wrapper), statement.getId()).record(
+                    sample.sql, totalNanos, Math.max(sample.renderNanos, 0L),
+                    sample.statementNanos - sample.mappingNanos, sample.mappingNanos, rows, failed
+                );
+            }
+        }
+    }
+
+    /**
+     * 获取查询的指纹
+     *
+     * @param statement 执行的语句
+     * @param wrapper 查询的条件构造器
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    protected String getFingerprint(MappedStatement statement, JoinWrapper<?, ?> wrapper) {
+        return statement.getId() + ":" + wrapper.getShapeId();
+    }
+
+    @Nullable
+    private static JoinWrapper<?, ?> findJoinWrapper(Object parameter) {
+        if (!(parameter instanceof Map)) {
+            return null;
+        }
+        return ((Map<?, ?>) parameter).values().stream()
+            .filter(JoinWrapper.class::isInstance)
+            .map(value -> (JoinWrapper<?, ?>) value)
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * 一次查询的计时
+     */
+    private static class Sample {
+
+        private static final Sample IGNORED = new Sample(0L);
+
+        private final long startTime;
+        private long renderNanos = -1;
+        private long statementNanos;
+        private long mappingNanos;
+        private String sql;
+
+        private Sample(long startTime) {
+            this.startTime = startTime;
+        }
+
+    }
+
+}
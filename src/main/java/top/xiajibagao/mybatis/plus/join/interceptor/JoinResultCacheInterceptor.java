@@ -0,0 +1,169 @@
+package top.xiajibagao.mybatis.plus.join.interceptor;
+
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import lombok.Getter;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import top.xiajibagao.mybatis.plus.join.cache.JoinCacheStorage;
+import top.xiajibagao.mybatis.plus.join.cache.SerializedJoinCacheStorage;
+import top.xiajibagao.mybatis.plus.join.helper.TableNameUtils;
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 缓存关联查询的结果，并在表被写入时删除相关缓存。<br />
+ * 仅缓存{@link JoinWrapper#isCacheable()}为true的列表查询，缓存key由执行的sql、参数与返回值类型组成，
+ * 每条缓存记录了{@link JoinWrapper#getReadTables()}返回的表。
+ * 执行任意写入语句后，将解析语句涉及的表并删除读取了这些表的缓存，无法解析时删除全部缓存；
+ * 在事务提交或回滚前，当前会话中读取了已写入表的查询将不使用缓存，提交或回滚后将再次删除相关缓存。
+ *
+ * <p>以下查询不会被缓存：
+ * <ul>
+ *     <li>分页查询，因为分页插件需要额外查询总数；</li>
+ *     <li>使用{@link JoinWrapper#inTempTable}的查询，因为临时表中的key不是sql参数；</li>
+ *     <li>指定了{@link ResultHandler}的查询；</li>
+ * </ul>
+ * 默认使用{@link SerializedJoinCacheStorage}按列序列化后缓存结果，每次命中缓存都将重新创建结果中的对象；
+ * 若自定义的存储直接缓存结果对象，则缓存的是查询结果列表的副本，但列表中的对象与调用方共享，调用方不应修改查询结果中的对象。
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 20:20
+ * @see JoinCacheStorage
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "commit", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "rollback", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "close", args = {boolean.class})
+})
+public class JoinResultCacheInterceptor implements Interceptor {
+
+    @Getter
+    private final JoinCacheStorage storage;
+
+    /**
+     * 会话-尚未提交的写入语句涉及的表
+     */
+    private final Map<Executor, Set<String>> pendingTables = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * 删除缓存的次数，查询期间若有缓存被删除，则查询结果可能已过期，此时不缓存该结果
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    public JoinResultCacheInterceptor() {
+        this(new SerializedJoinCacheStorage());
+    }
+
+    public JoinResultCacheInterceptor(@Nonnull JoinCacheStorage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Executor executor = (Executor) invocation.getTarget();
+        switch (invocation.getMethod().getName()) {
+            case "query":
+                return query(invocation, executor);
+            case "update":
+                return update(invocation, executor);
+            default:
+                // 提交、回滚或关闭会话后，再次删除该会话写入的表的缓存
+                try {
+                    return invocation.proceed();
+                } finally {
+                    evict(pendingTables.remove(executor));
+                }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object query(Invocation invocation, Executor executor) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement statement = (MappedStatement) args[0];
+        Object parameter = args[1];
+        JoinWrapper<?, ?> wrapper = getCacheableWrapper(parameter, (ResultHandler<?>) args[3]);
+        if (Objects.isNull(wrapper)) {
+            return invocation.proceed();
+        }
+
+        // 先生成sql，以便记录子查询读取的表
+        BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : statement.getBoundSql(parameter);
+        Set<String> tables = TableNameUtils.normalizeTables(wrapper.getReadTables());
+        Set<String> pending = pendingTables.get(executor);
+        if (Objects.nonNull(pending) && (pending.contains(TableNameUtils.ALL_TABLES) || !Collections.disjoint(pending, tables))) {
+            return invocation.proceed();
+        }
+        CacheKey cacheKey = args.length == 6 ?
+            (CacheKey) args[4] : executor.createCacheKey(statement, parameter, (RowBounds) args[2], boundSql);
+        String key = cacheKey + ":" + wrapper.getResultClass().getName();
+        Object cached = storage.get(key);
+        if (cached instanceof List) {
+            return new ArrayList<>((List<Object>) cached);
+        }
+
+        long evictionsBeforeQuery = evictions.get();
+        Object result = invocation.proceed();
+        if (result instanceof List && evictions.get() == evictionsBeforeQuery) {
+            storage.put(key, new ArrayList<>((List<Object>) result), tables);
+        }
+        return result;
+    }
+
+    private Object update(Invocation invocation, Executor executor) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement statement = (MappedStatement) args[0];
+        Set<String> tables = TableNameUtils.parseTables(statement.getBoundSql(args[1]).getSql());
+        try {
+            return invocation.proceed();
+        } finally {
+            pendingTables.computeIfAbsent(executor, e -> Collections.synchronizedSet(new HashSet<>())).addAll(tables);
+            evict(tables);
+        }
+    }
+
+    @Nullable
+    private JoinWrapper<?, ?> getCacheableWrapper(Object parameter, ResultHandler<?> resultHandler) {
+        if (!(parameter instanceof Map) || Objects.nonNull(resultHandler)) {
+            return null;
+        }
+        Collection<?> params = ((Map<?, ?>) parameter).values();
+        if (params.stream().anyMatch(IPage.class::isInstance)) {
+            return null;
+        }
+        return params.stream()
+            .filter(JoinWrapper.class::isInstance)
+            .map(JoinWrapper.class::cast)
+            .filter(JoinWrapper::isCacheable)
+            .filter(wrapper -> wrapper.getTempKeyTables().isEmpty())
+            .findFirst()
+            .orElse(null);
+    }
+
+    private void evict(@Nullable Set<String> tables) {
+        if (Objects.isNull(tables) || tables.isEmpty()) {
+            return;
+        }
+        evictions.incrementAndGet();
+        if (tables.contains(TableNameUtils.ALL_TABLES)) {
+            storage.clear();
+        } else {
+            storage.evictTables(tables);
+        }
+    }
+
+}
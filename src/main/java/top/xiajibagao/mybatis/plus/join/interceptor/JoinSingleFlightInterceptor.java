@@ -0,0 +1,182 @@
+package top.xiajibagao.mybatis.plus.join.interceptor;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.util.ClassUtil;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+
+import javax.annotation.Nullable;
+import java.time.temporal.Temporal;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 合并同时执行的相同关联查询。<br />
+ * 仅处理{@link JoinWrapper#isSingleFlight()}为true的列表查询，查询key由执行的sql、参数与返回值类型组成。
+ * 当相同的查询正在执行时，后续的调用方将等待该查询的结果而不再访问数据库，若该查询失败，则等待的调用方将抛出相同的异常。
+ *
+ * <p>为避免调用方之间共享可变对象，每个调用方获得的都是查询结果的副本：
+ * 基本类型、字符串、枚举与日期等不可变对象直接返回，{@link Map}复制为新的{@link LinkedHashMap}，
+ * 其余对象通过属性复制创建新实例。属性复制是浅复制，对象中的集合等可变属性仍然共享，如有需要可以重写{@link #copyElement}。
+ *
+ * <p>以下查询不会被合并：
+ * <ul>
+ *     <li>分页查询与指定了{@link ResultHandler}的查询；</li>
+ *     <li>当前会话在提交或回滚前已执行过写入语句的查询，因为其结果依赖于未提交的数据；</li>
+ * </ul>
+ * 在未写入数据的事务中执行的查询仍可能获得其他会话的查询结果，对隔离级别有要求的查询不应开启。
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 20:40
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "commit", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "rollback", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "close", args = {boolean.class})
+})
+public class JoinSingleFlightInterceptor implements Interceptor {
+
+    /**
+     * 查询key-正在执行的查询
+     */
+    private final Map<String, CompletableFuture<Object>> inFlightQueries = new ConcurrentHashMap<>();
+
+    /**
+     * 在提交或回滚前执行过写入语句的会话
+     */
+    private final Set<Executor> writtenExecutors = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Executor executor = (Executor) invocation.getTarget();
+        switch (invocation.getMethod().getName()) {
+            case "query":
+                return query(invocation, executor);
+            case "update":
+                writtenExecutors.add(executor);
+                return invocation.proceed();
+            default:
+                try {
+                    return invocation.proceed();
+                } finally {
+                    writtenExecutors.remove(executor);
+                }
+        }
+    }
+
+    private Object query(Invocation invocation, Executor executor) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement statement = (MappedStatement) args[0];
+        Object parameter = args[1];
+        JoinWrapper<?, ?> wrapper = getSingleFlightWrapper(parameter, (ResultHandler<?>) args[3]);
+        if (Objects.isNull(wrapper) || writtenExecutors.contains(executor)) {
+            return invocation.proceed();
+        }
+
+        CacheKey cacheKey = args.length == 6 ? (CacheKey) args[4] :
+            executor.createCacheKey(statement, parameter, (RowBounds) args[2], statement.getBoundSql(parameter));
+        String key = cacheKey + ":" + wrapper.getResultClass().getName();
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlightQueries.putIfAbsent(key, future);
+        if (Objects.nonNull(running)) {
+            return copyResult(await(running));
+        }
+
+        try {
+            Object result = invocation.proceed();
+            future.complete(result);
+            // 原始结果仅用于复制，避免调用方修改后影响等待中的调用方
+            return copyResult(result);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightQueries.remove(key, future);
+        }
+    }
+
+    @Nullable
+    private JoinWrapper<?, ?> getSingleFlightWrapper(Object parameter, ResultHandler<?> resultHandler) {
+        if (!(parameter instanceof Map) || Objects.nonNull(resultHandler)) {
+            return null;
+        }
+        Collection<?> params = ((Map<?, ?>) parameter).values();
+        if (params.stream().anyMatch(IPage.class::isInstance)) {
+            return null;
+        }
+        return params.stream()
+            .filter(JoinWrapper.class::isInstance)
+            .map(JoinWrapper.class::cast)
+            .filter(JoinWrapper::isSingleFlight)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static Object await(CompletableFuture<Object> running) throws Throwable {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtils.mpe("等待相同查询的结果时被中断", e);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 复制查询结果
+     *
+     * @param result 查询结果
+     * @return java.lang.Object
+     * @author huangchengxing
+     * @date 2026/10/19 20:40
+     */
+    protected Object copyResult(Object result) {
+        if (!(result instanceof List)) {
+            return result;
+        }
+        List<?> records = (List<?>) result;
+        List<Object> copies = new ArrayList<>(records.size());
+        records.forEach(record -> copies.add(copyElement(record)));
+        return copies;
+    }
+
+    /**
+     * 复制查询结果中的单个对象
+     *
+     * @param element 对象
+     * @return java.lang.Object
+     * @author huangchengxing
+     * @date 2026/10/19 20:40
+     */
+    protected Object copyElement(Object element) {
+        if (Objects.isNull(element)) {
+            return null;
+        }
+        Class<?> type = element.getClass();
+        if (ClassUtil.isSimpleValueType(type) || element instanceof Temporal) {
+            return element;
+        }
+        if (element instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) element);
+        }
+        return BeanUtil.copyProperties(element, type);
+    }
+
+}
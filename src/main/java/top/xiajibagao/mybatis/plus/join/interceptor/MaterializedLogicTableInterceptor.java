@@ -0,0 +1,211 @@
+package top.xiajibagao.mybatis.plus.join.interceptor;
+
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialect;
+import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 在查询前将{@link JoinWrapper.LogicTable#materialize()}物化的逻辑表写入临时表，并在事务提交、回滚或会话关闭时删除临时表。<br />
+ * 临时表在会话的连接中创建，已创建的临时表按会话记录，同一会话中后续引用该逻辑表的查询都将直接关联临时表，
+ * 而其他会话（比如同一线程中开启的新事务）中的查询仍将创建各自的临时表。
+ * 因此在同一事务中多次关联开销较大的聚合子查询时，子查询只需执行一次。
+ * 临时表中的数据为首次查询时的快照，此后在同一事务中对源表的写入不会反映到临时表中。
+ * 注意，MySQL中同一条语句不能多次引用同一张临时表。
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:10
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "commit", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "rollback", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "close", args = {boolean.class})
+})
+public class MaterializedLogicTableInterceptor implements Interceptor {
+
+    /**
+     * 当前线程中各会话已创建临时表的逻辑表，执行器与会话一一对应
+     */
+    private static final ThreadLocal<Map<Executor, MaterializedTables>> SESSION_TABLES = ThreadLocal.withInitial(IdentityHashMap::new);
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Executor executor = (Executor) invocation.getTarget();
+        switch (invocation.getMethod().getName()) {
+            case "query":
+                MaterializedTables created = materializeTables(executor, invocation.getArgs());
+                JoinWrapper.LogicTable.enterSession(Objects.isNull(created) ? Collections.emptySet() : created.tables.keySet());
+                try {
+                    return invocation.proceed();
+                } finally {
+                    JoinWrapper.LogicTable.exitSession();
+                }
+            case "close":
+                // 关闭会话前连接仍可用，先删除临时表
+                dropTables(executor, null);
+                return invocation.proceed();
+            default:
+                // 提交或回滚后再删除临时表，避免删除语句影响事务
+                Throwable failure = null;
+                try {
+                    return invocation.proceed();
+                } catch (Throwable e) {
+                    failure = e;
+                    throw e;
+                } finally {
+                    dropTables(executor, failure);
+                }
+        }
+    }
+
+    /**
+     * 为查询引用的、会话中尚未创建临时表的物化逻辑表创建临时表，内层的逻辑表先于外层创建
+     *
+     * @param executor 执行器
+     * @param args 查询参数
+     * @return 会话中已创建的临时表，尚未创建过时返回null
+     * @author huangchengxing
+     * @date 2026/10/19 21:10
+     */
+    private MaterializedTables materializeTables(Executor executor, Object[] args) throws SQLException {
+        MaterializedTables existing = SESSION_TABLES.get().get(executor);
+        if (!(args[1] instanceof Map)) {
+            return existing;
+        }
+        JoinWrapper<?, ?> wrapper = ((Map<?, ?>) args[1]).values().stream()
+            .filter(JoinWrapper.class::isInstance)
+            .map(JoinWrapper.class::cast)
+            .findFirst()
+            .orElse(null);
+        if (Objects.isNull(wrapper) || !wrapper.getDialect().isSupportTempTable()) {
+            return existing;
+        }
+        List<JoinWrapper.LogicTable<?>> tables = wrapper.getLogicTables().stream()
+            .filter(table -> table.isMaterialized() && (Objects.isNull(existing) || !existing.tables.containsKey(table)))
+            .collect(Collectors.toList());
+        if (tables.isEmpty()) {
+            return existing;
+        }
+
+        Collections.reverse(tables);
+        MappedStatement statement = (MappedStatement) args[0];
+        Connection connection = executor.getTransaction().getConnection();
+        MaterializedTables created = SESSION_TABLES.get().computeIfAbsent(
+            executor, e -> new MaterializedTables(connection, wrapper.getDialect())
+        );
+        // 事务中若方言支持，则由数据库在事务结束时删除临时表，避免删除语句隐式提交事务
+        boolean dropOnCommit = wrapper.getDialect().isSupportDropTempTableOnCommit() && !connection.getAutoCommit();
+        for (JoinWrapper.LogicTable<?> table : tables) {
+            createTable(connection, statement, wrapper.getDialect(), table, dropOnCommit);
+            created.tables.put(table, dropOnCommit);
+        }
+        return created;
+    }
+
+    /**
+     * 通过“CREATE TEMPORARY TABLE ... AS SELECT ...”创建临时表，逻辑表的参数通过MyBatis绑定
+     *
+     * @param connection 连接
+     * @param statement 当前执行的查询，用于获取配置
+     * @param dialect 数据库方言
+     * @param table 逻辑表
+     * @param dropOnCommit 是否在事务提交或回滚时由数据库删除
+     * @author huangchengxing
+     * @date 2026/10/19 21:10
+     */
+    private void createTable(
+        Connection connection, MappedStatement statement, JoinDialect dialect, JoinWrapper.LogicTable<?> table, boolean dropOnCommit)
+        throws SQLException {
+        String query = SqlUtils.space(
+            ExtendConstants.SELECT, ExtendConstants.ASTERISK, ExtendConstants.FROM, table.getLogicTableSql(), table.getMaterializedTableName()
+        );
+        String sql = dialect.getCreateTempTableAsSelectSql(table.getMaterializedTableName(), query, dropOnCommit);
+        Configuration configuration = statement.getConfiguration();
+        SqlSource sqlSource = configuration.getDefaultScriptingLanguageInstance().createSqlSource(configuration, sql, Map.class);
+        Map<String, Object> parameter = Collections.singletonMap(Constants.WRAPPER, table);
+        BoundSql boundSql = sqlSource.getBoundSql(parameter);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(boundSql.getSql())) {
+            new DefaultParameterHandler(statement, parameter, boundSql).setParameters(preparedStatement);
+            preparedStatement.execute();
+        }
+    }
+
+    /**
+     * 删除会话中创建的全部临时表，单张表删除失败时仍继续删除其余的表，由数据库在事务结束时删除的临时表不再手动删除
+     *
+     * @param executor 执行器
+     * @param failure 提交或回滚时的异常，不为null时不再抛出删除失败的异常
+     * @author huangchengxing
+     * @date 2026/10/19 21:10
+     */
+    private void dropTables(Executor executor, Throwable failure) {
+        Map<Executor, MaterializedTables> sessionTables = SESSION_TABLES.get();
+        MaterializedTables created = sessionTables.remove(executor);
+        if (sessionTables.isEmpty()) {
+            SESSION_TABLES.remove();
+        }
+        if (Objects.isNull(created)) {
+            return;
+        }
+        SQLException error = null;
+        for (Map.Entry<JoinWrapper.LogicTable<?>, Boolean> entry : created.tables.entrySet()) {
+            JoinWrapper.LogicTable<?> table = entry.getKey();
+            if (Boolean.TRUE.equals(entry.getValue())) {
+                continue;
+            }
+            try (Statement statement = created.connection.createStatement()) {
+                statement.execute(created.dialect.getDropTempTableSql(table.getMaterializedTableName()));
+            } catch (SQLException e) {
+                error = Objects.isNull(error) ? e : error;
+            }
+        }
+        if (Objects.isNull(failure) && Objects.nonNull(error)) {
+            throw ExceptionUtils.mpe("删除临时表失败", error);
+        }
+    }
+
+    /**
+     * 会话中已创建的临时表
+     */
+    private static class MaterializedTables {
+
+        private final Connection connection;
+        private final JoinDialect dialect;
+
+        /**
+         * 逻辑表-是否由数据库在事务结束时删除
+         */
+        private final Map<JoinWrapper.LogicTable<?>, Boolean> tables = new LinkedHashMap<>();
+
+        private MaterializedTables(Connection connection, JoinDialect dialect) {
+            this.connection = connection;
+            this.dialect = dialect;
+        }
+
+    }
+
+}
@@ -0,0 +1,304 @@
+package top.xiajibagao.mybatis.plus.join.interceptor;
+
+import cn.hutool.core.lang.Assert;
+import com.baomidou.mybatisplus.core.toolkit.PluginUtils;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialect;
+import top.xiajibagao.mybatis.plus.join.helper.ThreadPoolUtils;
+import top.xiajibagao.mybatis.plus.join.metrics.SlowJoinQuery;
+import top.xiajibagao.mybatis.plus.join.metrics.SlowJoinQueryLog;
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 记录执行耗时超过阈值的关联查询。<br />
+ * 仅处理参数中包含{@link JoinWrapper}的查询，耗时包括执行语句与映射结果。对于慢查询，将记录执行的sql、
+ * 按占位符顺序排列的参数、查询的结构指纹与调用mapper方法的位置，并保存到{@link SlowJoinQueryLog}中。
+ *
+ * <p>若{@link JoinWrapper#getDialect()}支持获取执行计划，则在共享线程池中通过一个新的连接异步执行“EXPLAIN 查询语句”，
+ * 获取完成后再将慢查询输出到日志中。为避免慢查询集中出现时加重数据库负担，
+ * 两次获取执行计划的间隔不小于{@link #getExplainIntervalMillis()}，期间的慢查询不获取执行计划。
+ * 新的连接无法访问当前会话中创建的临时表，此时执行计划中将记录失败原因。
+ *
+ * <p>参数默认原样记录，若{@link #isMaskParameters()}为true，则通过{@link #maskParameter(Object)}遮蔽后再记录，
+ * 获取执行计划时仍使用原始参数。
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:50
+ * @see SlowJoinQueryLog
+ */
+@Intercepts({
+    @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class})
+})
+public class SlowJoinQueryInterceptor implements Interceptor {
+
+    public static final long DEFAULT_THRESHOLD_MILLIS = 1000L;
+    public static final long DEFAULT_EXPLAIN_INTERVAL_MILLIS = 1000L;
+
+    private static final String MASKED_PARAMETER = "******";
+    private static final String MAPPER_PROXY = "org.apache.ibatis.binding.MapperProxy";
+
+    /**
+     * 确定调用位置时跳过的框架包
+     */
+    private static final String[] FRAMEWORK_PACKAGES = {
+        "java.", "javax.", "sun.", "jdk.", "com.sun.proxy.",
+        "org.apache.ibatis.", "org.mybatis.", "com.baomidou.", "org.springframework.",
+        "top.xiajibagao.mybatis.plus.join.extend.", "top.xiajibagao.mybatis.plus.join.helper.",
+        "top.xiajibagao.mybatis.plus.join.interceptor."
+    };
+
+    @Getter
+    private final SlowJoinQueryLog log;
+
+    /**
+     * 慢查询的耗时阈值，单位为毫秒
+     */
+    @Getter
+    @Setter
+    private volatile long thresholdMillis;
+
+    /**
+     * 两次获取执行计划的最小间隔，单位为毫秒，小于0时不获取执行计划
+     */
+    @Getter
+    @Setter
+    private volatile long explainIntervalMillis = DEFAULT_EXPLAIN_INTERVAL_MILLIS;
+
+    /**
+     * 是否遮蔽参数
+     */
+    @Getter
+    @Setter
+    private volatile boolean maskParameters;
+
+    /**
+     * 下次允许获取执行计划的时间戳
+     */
+    private final AtomicLong nextExplainTime = new AtomicLong();
+
+    public SlowJoinQueryInterceptor() {
+        this(DEFAULT_THRESHOLD_MILLIS);
+    }
+
+    public SlowJoinQueryInterceptor(long thresholdMillis) {
+        this(thresholdMillis, new SlowJoinQueryLog());
+    }
+
+    /**
+     * 创建拦截器
+     *
+     * @param thresholdMillis 慢查询的耗时阈值，单位为毫秒
+     * @param log 慢查询日志
+     * @throws IllegalArgumentException 当thresholdMillis小于0时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    public SlowJoinQueryInterceptor(long thresholdMillis, @Nonnull SlowJoinQueryLog log) {
+        Assert.isTrue(thresholdMillis >= 0, "慢查询的耗时阈值不能小于0");
+        this.thresholdMillis = thresholdMillis;
+        this.log = log;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        StatementHandler handler = (StatementHandler) invocation.getTarget();
+        Object parameter = handler.getParameterHandler().getParameterObject();
+        JoinWrapper<?, ?> wrapper = findJoinWrapper(parameter);
+        if (Objects.isNull(wrapper)) {
+            return invocation.proceed();
+        }
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsedMillis >= thresholdMillis) {
+                record(handler, parameter, wrapper, elapsedMillis);
+            }
+        }
+    }
+
+    private void record(StatementHandler handler, Object parameter, JoinWrapper<?, ?> wrapper, long elapsedMillis) {
+        MappedStatement statement = PluginUtils.mpStatementHandler(PluginUtils.realTarget(handler)).mappedStatement();
+        Configuration configuration = statement.getConfiguration();
+        BoundSql boundSql = handler.getBoundSql();
+        List<Object> values = getParameterValues(configuration, boundSql, parameter);
+        List<Object> parameters = new ArrayList<>(values.size());
+        values.forEach(value -> parameters.add(maskParameters ? maskParameter(value) : value));
+        StackTraceElement callSite = getCallSite(Thread.currentThread().getStackTrace());
+        SlowJoinQuery query = new SlowJoinQuery(
+            System.currentTimeMillis(), statement.getId(), wrapper.getShapeId(), boundSql.getSql(),
+            Collections.unmodifiableList(parameters), elapsedMillis, Objects.isNull(callSite) ? null : callSite.toString()
+        );
+        log.add(query);
+
+        JoinDialect dialect = wrapper.getDialect();
+        Environment environment = configuration.getEnvironment();
+        if (!dialect.isSupportExplain() || Objects.isNull(environment) || !tryAcquireExplain()) {
+            log.publish(query, null);
+            return;
+        }
+        String explainSql = dialect.getExplainSql(boundSql.getSql());
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        try {
+            ThreadPoolUtils.getSharedExecutor().execute(() -> log.publish(
+                query, explain(environment.getDataSource(), configuration.getJdbcTypeForNull(), explainSql, mappings, values)
+            ));
+        } catch (RejectedExecutionException e) {
+            // 线程池已满时不获取执行计划
+            log.publish(query, null);
+        }
+    }
+
+    /**
+     * 遮蔽参数，默认将非空参数替换为“******”
+     *
+     * @param value 参数
+     * @return java.lang.Object
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    protected Object maskParameter(@Nullable Object value) {
+        return Objects.isNull(value) ? null : MASKED_PARAMETER;
+    }
+
+    private boolean tryAcquireExplain() {
+        long interval = explainIntervalMillis;
+        if (interval < 0) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long next = nextExplainTime.get();
+        return now >= next && nextExplainTime.compareAndSet(next, now + interval);
+    }
+
+    /**
+     * 通过新的连接获取执行计划，多列的结果按“列名=值”格式输出，每行结果占一行
+     */
+    @SuppressWarnings("unchecked")
+    private static String explain(
+        DataSource dataSource, JdbcType jdbcTypeForNull, String explainSql, List<ParameterMapping> mappings, List<Object> values) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(explainSql)) {
+            int index = 0;
+            for (ParameterMapping mapping : mappings) {
+                if (mapping.getMode() == ParameterMode.OUT) {
+                    continue;
+                }
+                Object value = values.get(index);
+                JdbcType jdbcType = Objects.isNull(value) && Objects.isNull(mapping.getJdbcType()) ? jdbcTypeForNull : mapping.getJdbcType();
+                ((TypeHandler<Object>) mapping.getTypeHandler()).setParameter(ps, ++index, value, jdbcType);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                int columnCount = metaData.getColumnCount();
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    if (plan.length() > 0) {
+                        plan.append('\n');
+                    }
+                    for (int i = 1; i <= columnCount; i++) {
+                        if (columnCount > 1) {
+                            plan.append(i > 1 ? ", " : "").append(metaData.getColumnLabel(i)).append('=');
+                        }
+                        plan.append(rs.getString(i));
+                    }
+                }
+                return plan.toString();
+            }
+        } catch (SQLException | RuntimeException e) {
+            return "获取执行计划失败：" + e.getMessage();
+        }
+    }
+
+    /**
+     * 按占位符顺序获取参数值，取值方式与{@link org.apache.ibatis.scripting.defaults.DefaultParameterHandler}一致
+     */
+    private static List<Object> getParameterValues(Configuration configuration, BoundSql boundSql, Object parameter) {
+        TypeHandlerRegistry typeHandlerRegistry = configuration.getTypeHandlerRegistry();
+        List<Object> values = new ArrayList<>();
+        MetaObject metaObject = null;
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String property = mapping.getProperty();
+            if (boundSql.hasAdditionalParameter(property)) {
+                values.add(boundSql.getAdditionalParameter(property));
+            } else if (Objects.isNull(parameter)) {
+                values.add(null);
+            } else if (typeHandlerRegistry.hasTypeHandler(parameter.getClass())) {
+                values.add(parameter);
+            } else {
+                metaObject = Objects.isNull(metaObject) ? configuration.newMetaObject(parameter) : metaObject;
+                values.add(metaObject.getValue(property));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 获取调用mapper方法的位置，即最外层的mapper代理之后第一个不属于框架的栈帧，
+     * 若不存在mapper代理，则为第一个不属于框架的栈帧
+     */
+    @Nullable
+    private static StackTraceElement getCallSite(StackTraceElement[] stack) {
+        int start = 0;
+        for (int i = 0; i < stack.length; i++) {
+            if (MAPPER_PROXY.equals(stack[i].getClassName())) {
+                start = i + 1;
+            }
+        }
+        for (int i = start; i < stack.length; i++) {
+            String className = stack[i].getClassName();
+            if (!className.contains("$Proxy") && Stream.of(FRAMEWORK_PACKAGES).noneMatch(className::startsWith)) {
+                return stack[i];
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static JoinWrapper<?, ?> findJoinWrapper(Object parameter) {
+        if (!(parameter instanceof Map)) {
+            return null;
+        }
+        return ((Map<?, ?>) parameter).values().stream()
+            .filter(JoinWrapper.class::isInstance)
+            .map(value -> (JoinWrapper<?, ?>) value)
+            .findFirst()
+            .orElse(null);
+    }
+
+}
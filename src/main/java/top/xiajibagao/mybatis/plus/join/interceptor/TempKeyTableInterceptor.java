@@ -0,0 +1,144 @@
+package top.xiajibagao.mybatis.plus.join.interceptor;
+
+import cn.hutool.core.collection.CollUtil;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+import top.xiajibagao.mybatis.plus.join.config.ExtendGlobalConfig;
+import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialect;
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+
+/**
+ * 在查询前创建并写入{@link JoinWrapper#inTempTable}所需的临时表，查询结束后清空临时表。<br />
+ * 临时表的创建、写入、查询与清空均在同一连接中执行。临时表在会话中保留，
+ * 后续查询将复用同名的表，并在写入前先清空残留数据，因此相同结构的查询总是生成相同的sql。
+ * 同一条件构造器的嵌套查询（比如分页插件的统计查询）将复用已创建的临时表
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 18:40
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})
+})
+@Component
+public class TempKeyTableInterceptor implements Interceptor {
+
+    /**
+     * 当前线程中已创建临时表的条件构造器
+     */
+    private static final ThreadLocal<Set<JoinWrapper<?, ?>>> ACTIVE_WRAPPERS = ThreadLocal.withInitial(
+        () -> Collections.newSetFromMap(new IdentityHashMap<>())
+    );
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        if (!(args[1] instanceof Map)) {
+            return invocation.proceed();
+        }
+        JoinWrapper<?, ?> wrapper = ((Map<?, ?>) args[1]).values().stream()
+            .filter(JoinWrapper.class::isInstance)
+            .map(JoinWrapper.class::cast)
+            .findFirst()
+            .orElse(null);
+        if (Objects.isNull(wrapper) || ACTIVE_WRAPPERS.get().contains(wrapper)) {
+            return invocation.proceed();
+        }
+        List<? extends JoinWrapper.TempKeyTable<?, ?>> tables = wrapper.getTempKeyTables();
+        if (tables.isEmpty()) {
+            return invocation.proceed();
+        }
+
+        Connection connection = ((Executor) invocation.getTarget()).getTransaction().getConnection();
+        JoinDialect dialect = wrapper.getDialect();
+        List<String> used = new ArrayList<>();
+        Throwable failure = null;
+        ACTIVE_WRAPPERS.get().add(wrapper);
+        try {
+            for (JoinWrapper.TempKeyTable<?, ?> table : tables) {
+                used.add(table.getTableName());
+                createTempTable(connection, dialect, table);
+            }
+            return invocation.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            ACTIVE_WRAPPERS.get().remove(wrapper);
+            SQLException clearError = clearTempTables(connection, dialect, used);
+            // 查询本身失败时优先抛出查询异常
+            if (Objects.isNull(failure) && Objects.nonNull(clearError)) {
+                throw ExceptionUtils.mpe("清空临时表失败", clearError);
+            }
+        }
+    }
+
+    /**
+     * 创建临时表，若已存在则先清空，再按{@link ExtendGlobalConfig#getBatchKeySize()}分批写入key
+     *
+     * @param connection 连接
+     * @param dialect 数据库方言
+     * @param table 临时表
+     * @author huangchengxing
+     * @date 2026/10/19 18:40
+     */
+    private void createTempTable(Connection connection, JoinDialect dialect, JoinWrapper.TempKeyTable<?, ?> table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(dialect.getCreateTempTableSql(table.getTableName(), ExtendConstants.TEMP_TABLE_COLUMN, table.getKeyType()));
+            // 上次使用后若未能清空，则可能残留数据
+            statement.execute(dialect.getClearTempTableSql(table.getTableName()));
+        }
+        String insertSql = String.format("INSERT INTO %s (%s) VALUES (?)", table.getTableName(), ExtendConstants.TEMP_TABLE_COLUMN);
+        int batchSize = Math.max(ExtendGlobalConfig.getBatchKeySize(), 1);
+        try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+            for (List<?> chunk : CollUtil.split(table.getKeys(), batchSize)) {
+                for (Object key : chunk) {
+                    statement.setObject(1, key);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * 清空临时表，单张表清空失败时仍继续清空其余的表
+     *
+     * @param connection 连接
+     * @param dialect 数据库方言
+     * @param tables 临时表名
+     * @return java.sql.SQLException 第一个清空失败的异常，全部清空成功时返回null
+     * @author huangchengxing
+     * @date 2026/10/19 22:30
+     */
+    private SQLException clearTempTables(Connection connection, JoinDialect dialect, List<String> tables) {
+        SQLException error = null;
+        for (String table : tables) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(dialect.getClearTempTableSql(table));
+            } catch (SQLException e) {
+                error = Objects.isNull(error) ? e : error;
+            }
+        }
+        return error;
+    }
+
+}
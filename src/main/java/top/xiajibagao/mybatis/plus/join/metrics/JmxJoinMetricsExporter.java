@@ -0,0 +1,115 @@
+package top.xiajibagao.mybatis.plus.join.metrics;
+
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * 将统计数据注册为平台MBeanServer中的MXBean，可以通过JConsole等工具查看
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:30
+ */
+public class JmxJoinMetricsExporter implements JoinMetricsExporter {
+
+    public static final String DEFAULT_OBJECT_NAME = "top.xiajibagao.mybatis.plus.join:type=JoinMetrics";
+
+    @Getter
+    private final ObjectName objectName;
+    private final MBeanServer server;
+
+    public JmxJoinMetricsExporter() {
+        this(DEFAULT_OBJECT_NAME);
+    }
+
+    /**
+     * 创建导出方式
+     *
+     * @param objectName MXBean的名称
+     * @throws com.baomidou.mybatisplus.core.exceptions.MybatisPlusException 当名称不合法时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public JmxJoinMetricsExporter(@Nonnull String objectName) {
+        try {
+            this.objectName = new ObjectName(objectName);
+        } catch (MalformedObjectNameException e) {
+            throw ExceptionUtils.mpe("MXBean名称[%s]不合法", e, objectName);
+        }
+        this.server = ManagementFactory.getPlatformMBeanServer();
+    }
+
+    /**
+     * 注册MXBean，若已存在同名的MXBean则替换
+     *
+     * @param registry 统计数据
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    @Override
+    public void bind(@Nonnull JoinMetricsRegistry registry) {
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(new StandardMBean(new RegistryMXBean(registry), JoinMetricsMXBean.class, true), objectName);
+        } catch (JMException e) {
+            throw ExceptionUtils.mpe("注册MXBean[%s]失败", e, objectName);
+        }
+    }
+
+    @Override
+    public void unbind(@Nonnull JoinMetricsRegistry registry) {
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw ExceptionUtils.mpe("注销MXBean[%s]失败", e, objectName);
+        }
+    }
+
+    /**
+     * 统计数据的MXBean接口
+     */
+    public interface JoinMetricsMXBean {
+
+        /**
+         * 获取全部查询的统计数据
+         *
+         * @return java.util.List<top.xiajibagao.mybatis.plus.join.metrics.JoinQueryMetricsSnapshot>
+         */
+        List<JoinQueryMetricsSnapshot> getQueries();
+
+        /**
+         * 清空全部统计数据
+         */
+        void reset();
+
+    }
+
+    private static class RegistryMXBean implements JoinMetricsMXBean {
+
+        private final JoinMetricsRegistry registry;
+
+        private RegistryMXBean(JoinMetricsRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public List<JoinQueryMetricsSnapshot> getQueries() {
+            return registry.snapshot();
+        }
+
+        @Override
+        public void reset() {
+            registry.reset();
+        }
+
+    }
+
+}
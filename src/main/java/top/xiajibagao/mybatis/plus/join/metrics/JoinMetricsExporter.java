@@ -0,0 +1,34 @@
+package top.xiajibagao.mybatis.plus.join.metrics;
+
+import javax.annotation.Nonnull;
+
+/**
+ * 统计数据的导出方式，导出方式在绑定后按需通过{@link JoinMetricsRegistry#snapshot()}读取统计数据，
+ * 因此不会增加查询本身的开销
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:30
+ * @see JmxJoinMetricsExporter
+ */
+public interface JoinMetricsExporter {
+
+    /**
+     * 绑定统计数据
+     *
+     * @param registry 统计数据
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    void bind(@Nonnull JoinMetricsRegistry registry);
+
+    /**
+     * 解除绑定，默认不做处理
+     *
+     * @param registry 统计数据
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    default void unbind(@Nonnull JoinMetricsRegistry registry) {
+    }
+
+}
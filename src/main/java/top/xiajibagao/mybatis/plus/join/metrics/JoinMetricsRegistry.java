@@ -0,0 +1,134 @@
+package top.xiajibagao.mybatis.plus.join.metrics;
+
+import cn.hutool.core.lang.Assert;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * 按查询指纹保存的统计数据，同时也是统计数据的内存快照导出方式。<br />
+ * 为避免占用过多内存，指纹数量达到上限后，新的查询将被统一记录到指纹为{@link #OVERFLOW_FINGERPRINT}的统计数据中
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:30
+ * @see top.xiajibagao.mybatis.plus.join.interceptor.JoinMetricsInterceptor
+ */
+public class JoinMetricsRegistry {
+
+    public static final int DEFAULT_MAX_QUERIES = 1000;
+    public static final String OVERFLOW_FINGERPRINT = "other";
+
+    @Getter
+    private final int maxQueries;
+    private final Map<String, JoinQueryMetrics> metrics = new ConcurrentHashMap<>();
+    private final List<JoinMetricsExporter> exporters = new CopyOnWriteArrayList<>();
+
+    public JoinMetricsRegistry() {
+        this(DEFAULT_MAX_QUERIES);
+    }
+
+    /**
+     * 创建统计数据
+     *
+     * @param maxQueries 最多记录的指纹数量
+     * @throws IllegalArgumentException 当maxQueries小于等于0时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public JoinMetricsRegistry(int maxQueries) {
+        Assert.isTrue(maxQueries > 0, "最多记录的指纹数量必须大于0");
+        this.maxQueries = maxQueries;
+    }
+
+    /**
+     * 获取指纹对应的统计数据，不存在时创建
+     *
+     * @param fingerprint 查询的指纹
+     * @param statementId 执行的语句id
+     * @return top.xiajibagao.mybatis.plus.join.metrics.JoinQueryMetrics
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public JoinQueryMetrics getOrCreate(@Nonnull String fingerprint, @Nonnull String statementId) {
+        JoinQueryMetrics queryMetrics = metrics.get(fingerprint);
+        if (Objects.nonNull(queryMetrics)) {
+            return queryMetrics;
+        }
+        if (metrics.size() >= maxQueries) {
+            return metrics.computeIfAbsent(OVERFLOW_FINGERPRINT, f -> new JoinQueryMetrics(f, statementId));
+        }
+        return metrics.computeIfAbsent(fingerprint, f -> new JoinQueryMetrics(f, statementId));
+    }
+
+    /**
+     * 获取全部查询的统计数据，按累计耗时倒序排列
+     *
+     * @return java.util.List<top.xiajibagao.mybatis.plus.join.metrics.JoinQueryMetricsSnapshot>
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public List<JoinQueryMetricsSnapshot> snapshot() {
+        return metrics.values().stream()
+            .map(JoinQueryMetrics::snapshot)
+            .sorted(Comparator.comparingLong((JoinQueryMetricsSnapshot s) -> s.getMeanMicros() * s.getCount()).reversed())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 获取指定查询的统计数据
+     *
+     * @param fingerprint 查询的指纹
+     * @return top.xiajibagao.mybatis.plus.join.metrics.JoinQueryMetricsSnapshot
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    @Nullable
+    public JoinQueryMetricsSnapshot snapshot(@Nonnull String fingerprint) {
+        JoinQueryMetrics queryMetrics = metrics.get(fingerprint);
+        return Objects.isNull(queryMetrics) ? null : queryMetrics.snapshot();
+    }
+
+    /**
+     * 清空全部统计数据
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public void reset() {
+        metrics.clear();
+    }
+
+    /**
+     * 添加导出方式
+     *
+     * @param exporter 导出方式
+     * @return top.xiajibagao.mybatis.plus.join.metrics.JoinMetricsRegistry
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public JoinMetricsRegistry addExporter(@Nonnull JoinMetricsExporter exporter) {
+        exporter.bind(this);
+        exporters.add(exporter);
+        return this;
+    }
+
+    /**
+     * 移除全部导出方式
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public void removeExporters() {
+        exporters.forEach(exporter -> exporter.unbind(this));
+        exporters.clear();
+    }
+
+}
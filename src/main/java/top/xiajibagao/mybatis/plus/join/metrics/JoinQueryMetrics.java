@@ -0,0 +1,86 @@
+package top.xiajibagao.mybatis.plus.join.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 某一类查询的统计数据，可在多个线程中并发记录
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:30
+ * @see JoinMetricsRegistry
+ */
+public class JoinQueryMetrics {
+
+    @Getter
+    private final String fingerprint;
+    @Getter
+    private final String statementId;
+    private volatile String sql;
+
+    /**
+     * 总耗时，单位为微秒
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAccumulator maxRows = new LongAccumulator(Long::max, 0L);
+    private final LongAdder renderNanos = new LongAdder();
+    private final LongAdder executeNanos = new LongAdder();
+    private final LongAdder mappingNanos = new LongAdder();
+
+    JoinQueryMetrics(String fingerprint, String statementId) {
+        this.fingerprint = fingerprint;
+        this.statementId = statementId;
+    }
+
+    /**
+     * 记录一次查询
+     *
+     * @param sql 执行的sql
+     * @param totalNanos 总耗时
+     * @param renderNanos 生成sql的耗时
+     * @param executeNanos 执行语句的耗时
+     * @param mappingNanos 映射结果的耗时
+     * @param rowCount 返回的行数
+     * @param failed 查询是否失败
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public void record(
+        String sql, long totalNanos, long renderNanos, long executeNanos, long mappingNanos, int rowCount, boolean failed) {
+        this.sql = sql;
+        latency.record(TimeUnit.NANOSECONDS.toMicros(totalNanos));
+        this.renderNanos.add(renderNanos);
+        this.executeNanos.add(executeNanos);
+        this.mappingNanos.add(mappingNanos);
+        rows.add(rowCount);
+        maxRows.accumulate(rowCount);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * 获取当前的统计数据
+     *
+     * @return top.xiajibagao.mybatis.plus.join.metrics.JoinQueryMetricsSnapshot
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public JoinQueryMetricsSnapshot snapshot() {
+        long count = latency.getCount();
+        long[] percentiles = latency.getPercentiles(50, 90, 99);
+        return new JoinQueryMetricsSnapshot(
+            fingerprint, statementId, sql, count, errors.sum(), rows.sum(), maxRows.get(),
+            count == 0 ? 0 : latency.getSum() / count, percentiles[0], percentiles[1], percentiles[2], latency.getMax(),
+            TimeUnit.NANOSECONDS.toMicros(renderNanos.sum()),
+            TimeUnit.NANOSECONDS.toMicros(executeNanos.sum()),
+            TimeUnit.NANOSECONDS.toMicros(mappingNanos.sum())
+        );
+    }
+
+}
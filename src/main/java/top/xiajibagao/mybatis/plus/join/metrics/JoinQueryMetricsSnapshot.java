@@ -0,0 +1,60 @@
+package top.xiajibagao.mybatis.plus.join.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 某一类查询在某一时刻的统计数据，耗时单位均为微秒
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:30
+ * @see JoinQueryMetrics#snapshot()
+ */
+@Getter
+@RequiredArgsConstructor
+public class JoinQueryMetricsSnapshot {
+
+    /**
+     * 查询的指纹
+     */
+    private final String fingerprint;
+
+    /**
+     * 执行的语句id，比如“...ScoreMapper.selectListJoin”
+     */
+    private final String statementId;
+
+    /**
+     * 最近一次执行的sql
+     */
+    private final String sql;
+
+    /**
+     * 执行次数与失败次数
+     */
+    private final long count;
+    private final long errors;
+
+    /**
+     * 返回的总行数与单次最多返回的行数
+     */
+    private final long rows;
+    private final long maxRows;
+
+    /**
+     * 总耗时的平均值、百分位数与最大值
+     */
+    private final long meanMicros;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+
+    /**
+     * 生成sql、执行语句与映射结果的累计耗时
+     */
+    private final long renderMicros;
+    private final long executeMicros;
+    private final long mappingMicros;
+
+}
@@ -0,0 +1,149 @@
+package top.xiajibagao.mybatis.plus.join.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁的对数分桶直方图，用于统计耗时分布。<br />
+ * 参考HdrHistogram的分桶方式，按数值的最高位分为若干组，每组再等分为32个子桶，
+ * 因此任意数值的相对误差不超过1/32，且记录与查询的开销与数值大小无关。
+ * 可以在多个线程中并发记录，查询时得到的是近似一致的结果
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:30
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+
+    /**
+     * 记录一个数值，小于0时按0记录
+     *
+     * @param value 数值
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public void record(long value) {
+        long actual = Math.max(value, 0L);
+        buckets.incrementAndGet(indexOf(actual));
+        count.increment();
+        sum.add(actual);
+        max.accumulate(actual);
+    }
+
+    /**
+     * 获取已记录的数量
+     *
+     * @return long
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 获取已记录数值的总和
+     *
+     * @return long
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * 获取已记录的最大值
+     *
+     * @return long
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 获取多个百分位数，结果为对应子桶的上界，且不超过已记录的最大值
+     *
+     * @param percentiles 百分位，比如50、99与99.9
+     * @return long[] 与百分位一一对应的数值，未记录任何数值时均为0
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public long[] getPercentiles(double... percentiles) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long[] values = new long[percentiles.length];
+        if (total == 0) {
+            return values;
+        }
+        long maxValue = getMax();
+        for (int p = 0; p < percentiles.length; p++) {
+            long target = Math.max((long) Math.ceil(percentiles[p] / 100 * total), 1L);
+            long accumulated = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                accumulated += counts[i];
+                if (accumulated >= target) {
+                    values[p] = Math.min(upperBoundOf(i), maxValue);
+                    break;
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 清空已记录的数值
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * 获取数值所在的子桶，小于32的数值各占一个子桶，其余数值按最高位分组后取最高位之后的5位作为子桶序号
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * 获取子桶中可以存放的最大数值
+     */
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        long upper = ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+
+}
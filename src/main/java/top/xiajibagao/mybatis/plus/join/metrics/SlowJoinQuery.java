@@ -0,0 +1,68 @@
+package top.xiajibagao.mybatis.plus.join.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 一次慢查询的记录
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:50
+ * @see SlowJoinQueryLog
+ */
+@Getter
+@RequiredArgsConstructor
+public class SlowJoinQuery {
+
+    /**
+     * 查询结束的时间戳
+     */
+    private final long timestamp;
+
+    /**
+     * 执行的语句id，比如“...ScoreMapper.selectListJoin”
+     */
+    private final String statementId;
+
+    /**
+     * 查询的结构指纹
+     *
+     * @see top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper#getShapeId()
+     */
+    private final String shapeId;
+
+    /**
+     * 执行的sql与按占位符顺序排列的参数，参数可能已被遮蔽
+     */
+    private final String sql;
+    private final List<Object> parameters;
+
+    /**
+     * 执行语句与映射结果的耗时，单位为毫秒
+     */
+    private final long elapsedMillis;
+
+    /**
+     * 调用mapper方法的位置，比如“com.example.ScoreService.list(ScoreService.java:42)”，无法确定时为null
+     */
+    private final String callSite;
+
+    /**
+     * 执行计划，在异步获取完成前或未获取时为null
+     */
+    private volatile String explain;
+
+    /**
+     * 设置执行计划
+     *
+     * @param explain 执行计划
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    void setExplain(String explain) {
+        this.explain = explain;
+    }
+
+}
@@ -0,0 +1,132 @@
+package top.xiajibagao.mybatis.plus.join.metrics;
+
+import cn.hutool.core.lang.Assert;
+import lombok.Getter;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 慢查询日志，最近的慢查询保存在固定容量的环形缓冲区中，并在获取执行计划后输出到名为{@link #LOGGER_NAME}的日志中。
+ * 日志通过MyBatis的{@link LogFactory}输出，因此与MyBatis使用相同的日志实现
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:50
+ * @see top.xiajibagao.mybatis.plus.join.interceptor.SlowJoinQueryInterceptor
+ */
+public class SlowJoinQueryLog {
+
+    public static final String LOGGER_NAME = "top.xiajibagao.mybatis.plus.join.SlowJoinQuery";
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private static final Log LOG = LogFactory.getLog(LOGGER_NAME);
+
+    @Getter
+    private final int capacity;
+    private final AtomicReferenceArray<SlowJoinQuery> buffer;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowJoinQueryLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 创建慢查询日志
+     *
+     * @param capacity 最多保存的慢查询数量
+     * @throws IllegalArgumentException 当capacity小于等于0时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    public SlowJoinQueryLog(int capacity) {
+        Assert.isTrue(capacity > 0, "最多保存的慢查询数量必须大于0");
+        this.capacity = capacity;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 将慢查询保存到缓冲区中，缓冲区已满时覆盖最早的慢查询
+     *
+     * @param query 慢查询
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    public void add(@Nonnull SlowJoinQuery query) {
+        buffer.set((int) (sequence.getAndIncrement() % capacity), query);
+    }
+
+    /**
+     * 设置慢查询的执行计划，并将其输出到日志中
+     *
+     * @param query 慢查询
+     * @param explain 执行计划，未获取时为null
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    public void publish(@Nonnull SlowJoinQuery query, @Nullable String explain) {
+        query.setExplain(explain);
+        LOG.warn(format(query));
+    }
+
+    /**
+     * 获取缓冲区中的慢查询，按时间倒序排列
+     *
+     * @return java.util.List<top.xiajibagao.mybatis.plus.join.metrics.SlowJoinQuery>
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    public List<SlowJoinQuery> getQueries() {
+        long end = sequence.get();
+        List<SlowJoinQuery> queries = new ArrayList<>(capacity);
+        for (long i = end - 1; i >= Math.max(0, end - capacity); i--) {
+            SlowJoinQuery query = buffer.get((int) (i % capacity));
+            if (Objects.nonNull(query)) {
+                queries.add(query);
+            }
+        }
+        return queries;
+    }
+
+    /**
+     * 清空缓冲区
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    public void clear() {
+        for (int i = 0; i < capacity; i++) {
+            buffer.set(i, null);
+        }
+    }
+
+    /**
+     * 格式化慢查询
+     *
+     * @param query 慢查询
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    protected String format(SlowJoinQuery query) {
+        StringBuilder message = new StringBuilder()
+            .append("慢查询[").append(query.getElapsedMillis()).append("ms] ")
+            .append(query.getStatementId()).append(" shape=").append(query.getShapeId());
+        if (Objects.nonNull(query.getCallSite())) {
+            message.append(" at ").append(query.getCallSite());
+        }
+        message.append("\nSQL: ").append(query.getSql())
+            .append("\n参数: ").append(query.getParameters());
+        if (Objects.nonNull(query.getExplain())) {
+            message.append("\nEXPLAIN:\n").append(query.getExplain());
+        }
+        return message.toString();
+    }
+
+}
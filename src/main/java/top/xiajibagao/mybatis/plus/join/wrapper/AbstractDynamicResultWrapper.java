@@ -1,29 +1,39 @@
 package top.xiajibagao.mybatis.plus.join.wrapper;
 
 import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.lang.Assert;
 import cn.hutool.core.text.CharSequenceUtil;
 import cn.hutool.core.util.ReflectUtil;
 import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
 import com.baomidou.mybatisplus.core.conditions.ISqlSegment;
+import com.baomidou.mybatisplus.core.conditions.segments.NormalSegmentList;
 import com.baomidou.mybatisplus.core.enums.SqlKeyword;
 import com.baomidou.mybatisplus.core.enums.SqlLike;
 import com.baomidou.mybatisplus.core.exceptions.MybatisPlusException;
+import com.baomidou.mybatisplus.core.enums.WrapperKeyword;
 import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
 import com.baomidou.mybatisplus.core.metadata.TableInfo;
 import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
-import com.baomidou.mybatisplus.core.toolkit.Assert;
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.ibatis.type.TypeHandler;
+import top.xiajibagao.mybatis.plus.join.config.ExtendGlobalConfig;
 import top.xiajibagao.mybatis.plus.join.constants.Condition;
 import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialect;
+import top.xiajibagao.mybatis.plus.join.helper.BatchUtils;
+import top.xiajibagao.mybatis.plus.join.handler.CollectionArrayTypeHandler;
 import top.xiajibagao.mybatis.plus.join.helper.ColumnUtils;
 import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
 import top.xiajibagao.mybatis.plus.join.wrapper.column.TableColumn;
 import top.xiajibagao.mybatis.plus.join.wrapper.interfaces.*;
+import top.xiajibagao.mybatis.plus.join.wrapper.segment.LimitSegment;
+import top.xiajibagao.mybatis.plus.join.wrapper.segment.QueryShape;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -72,6 +82,49 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
      */
     protected boolean isLogic;
 
+    /**
+     * 游标字段与游标参数名
+     */
+    protected String keysetColumn;
+    protected String keysetParamName;
+
+    /**
+     * 分页条件
+     */
+    protected LimitSegment limitSegment;
+
+    /**
+     * 查询结构，在构建过程中逐步累加
+     */
+    protected QueryShape queryShape;
+
+    /**
+     * 数据库方言，为空时使用全局配置
+     */
+    @Setter
+    protected JoinDialect dialect;
+
+    /**
+     * 是否补齐IN条件的值，为空时使用全局配置
+     */
+    @Setter
+    @Getter(AccessLevel.NONE)
+    protected Boolean padInList;
+
+    /**
+     * 查询结果是否允许被缓存，为空时使用全局配置
+     */
+    @Setter
+    @Getter(AccessLevel.NONE)
+    protected Boolean cacheable;
+
+    /**
+     * 是否合并同时执行的相同查询，为空时使用全局配置
+     */
+    @Setter
+    @Getter(AccessLevel.NONE)
+    protected Boolean singleFlight;
+
     /**
      * 创建条件构造器
      *
@@ -91,7 +144,7 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
             this.alisa = ExtendConstants.EMPTY;
         } else {
             this.tableInfo = TableInfoHelper.getTableInfo(targetClass);
-            Assert.notNull(this.tableInfo, "找不到类型[%s]对应的TableInfo缓存", targetClass.getName());
+            com.baomidou.mybatisplus.core.toolkit.Assert.notNull(this.tableInfo, "找不到类型[%s]对应的TableInfo缓存", targetClass.getName());
             this.alisa = tableInfo.getTableName();
         }
     }
@@ -122,7 +175,7 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
      */
     @Override
     public C selectAll() {
-        selectColumns.add(new TableColumn(this, ExtendConstants.ASTERISK));
+        addSelectColumn(new TableColumn(this, ExtendConstants.ASTERISK));
         return typedThis;
     }
 
@@ -145,7 +198,7 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
             .filter(predicate)
             .map(this::getColumnsWithAnnotation)
             .filter(Objects::nonNull)
-            .forEach(column -> selectColumns.add(new TableColumn(this, column)));
+            .forEach(column -> addSelectColumn(new TableColumn(this, column)));
         return typedThis;
     }
 
@@ -217,10 +270,15 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
      */
     @Override
     public C select(@Nonnull ColumnSegment column) {
-        selectColumns.add(column);
+        addSelectColumn(column);
         return typedThis;
     }
 
+    private void addSelectColumn(ColumnSegment column) {
+        selectColumns.add(column);
+        queryShape.appendStructure(ExtendConstants.SELECT, column.getShape());
+    }
+
     /**
      * where条件
      *
@@ -252,6 +310,104 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
         return doIt(true, SqlKeyword.HAVING, column, condition, valueColumn);
     }
 
+    // ============================== compare ==============================
+
+    /**
+     * 添加比较条件，比如“字段 = 值”，同时将字段累加到查询结构中。
+     * 条件运算符与值将在{@link #doIt(boolean, ISqlSegment...)}中累加，下同
+     *
+     * @param condition 是否生效
+     * @param column 字段
+     * @param sqlKeyword 运算符
+     * @param val 值
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    @Override
+    protected C addCondition(boolean condition, SFunction<T, ?> column, SqlKeyword sqlKeyword, Object val) {
+        appendShapeColumns(condition, column);
+        return super.addCondition(condition, column, sqlKeyword, val);
+    }
+
+    @Override
+    public C between(boolean condition, SFunction<T, ?> column, Object val1, Object val2) {
+        appendShapeColumns(condition, column);
+        return super.between(condition, column, val1, val2);
+    }
+
+    @Override
+    public C notBetween(boolean condition, SFunction<T, ?> column, Object val1, Object val2) {
+        appendShapeColumns(condition, column);
+        return super.notBetween(condition, column, val1, val2);
+    }
+
+    @Override
+    public C isNull(boolean condition, SFunction<T, ?> column) {
+        appendShapeColumns(condition, column);
+        return super.isNull(condition, column);
+    }
+
+    @Override
+    public C isNotNull(boolean condition, SFunction<T, ?> column) {
+        appendShapeColumns(condition, column);
+        return super.isNotNull(condition, column);
+    }
+
+    @Override
+    public C inSql(boolean condition, SFunction<T, ?> column, String inValue) {
+        appendShapeColumns(condition, column);
+        return super.inSql(condition, column, inValue);
+    }
+
+    @Override
+    public C notInSql(boolean condition, SFunction<T, ?> column, String inValue) {
+        appendShapeColumns(condition, column);
+        return super.notInSql(condition, column, inValue);
+    }
+
+    /**
+     * 拼接sql，sql模板与参数数量将被累加到查询结构中
+     *
+     * @param condition 是否生效
+     * @param applySql sql模板
+     * @param value 参数
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    @Override
+    public C apply(boolean condition, String applySql, Object... value) {
+        if (condition) {
+            queryShape.appendCondition(applySql, QueryShape.bucket(value.length));
+        }
+        return super.apply(condition, applySql, value);
+    }
+
+    @Override
+    public C having(boolean condition, String sqlHaving, Object... params) {
+        if (condition) {
+            queryShape.appendCondition(sqlHaving, QueryShape.bucket(params.length));
+        }
+        return super.having(condition, sqlHaving, params);
+    }
+
+    @Override
+    public C exists(boolean condition, String existsSql) {
+        if (condition) {
+            queryShape.appendCondition(existsSql);
+        }
+        return super.exists(condition, existsSql);
+    }
+
+    @Override
+    public C notExists(boolean condition, String existsSql) {
+        if (condition) {
+            queryShape.appendCondition(existsSql);
+        }
+        return super.notExists(condition, existsSql);
+    }
+
     // ============================== like ==============================
 
     /**
@@ -284,11 +440,144 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
         return likeValue(condition.test(val), SqlKeyword.NOT_LIKE, column, val, SqlLike.RIGHT);
     }
 
+    @Override
+    protected C likeValue(boolean condition, SqlKeyword keyword, SFunction<T, ?> column, Object val, SqlLike sqlLike) {
+        appendShapeColumns(condition, column);
+        if (condition) {
+            queryShape.appendCondition(sqlLike.name());
+        }
+        return super.likeValue(condition, keyword, column, val, sqlLike);
+    }
+
+    // ============================== in ==============================
+
+    /**
+     * 字段 IN (值1, 值2, ...)。<br />
+     * 若{@link #isPadInList()}为true，则重复最后一个值将值补齐到2的幂次个，使不同数量的值生成相同的sql
+     *
+     * @param condition 是否生效
+     * @param column 字段
+     * @param coll 值
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 18:00
+     * @see BatchUtils#padToPowerOfTwo
+     */
+    @Override
+    public C in(boolean condition, SFunction<T, ?> column, Collection<?> coll) {
+        Collection<?> values = padInValues(coll);
+        appendShapeColumns(condition, column);
+        appendShapeParamCount(condition, values);
+        return super.in(condition, column, values);
+    }
+
+    /**
+     * 字段 NOT IN (值1, 值2, ...)，补齐规则同{@link #in(boolean, SFunction, Collection)}
+     *
+     * @param condition 是否生效
+     * @param column 字段
+     * @param coll 值
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 18:00
+     */
+    @Override
+    public C notIn(boolean condition, SFunction<T, ?> column, Collection<?> coll) {
+        Collection<?> values = padInValues(coll);
+        appendShapeColumns(condition, column);
+        appendShapeParamCount(condition, values);
+        return super.notIn(condition, column, values);
+    }
+
+    /**
+     * 字段 IN (值1, 值2, ...)，值将转为集合，补齐规则同{@link #in(boolean, SFunction, Collection)}
+     *
+     * @param condition 是否生效
+     * @param column 字段
+     * @param values 值
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 22:20
+     */
+    @Override
+    public C in(boolean condition, SFunction<T, ?> column, Object... values) {
+        return in(condition, column, toValueList(values));
+    }
+
+    /**
+     * 字段 NOT IN (值1, 值2, ...)，值将转为集合，补齐规则同{@link #in(boolean, SFunction, Collection)}
+     *
+     * @param condition 是否生效
+     * @param column 字段
+     * @param values 值
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 22:20
+     */
+    @Override
+    public C notIn(boolean condition, SFunction<T, ?> column, Object... values) {
+        return notIn(condition, column, toValueList(values));
+    }
+
+    /**
+     * 字段 = ANY(数组)，比如“t1.id = ANY(#{ew.paramNameValuePairs.MPGENVAL1,typeHandler=...})”。<br />
+     * 所有值通过{@link CollectionArrayTypeHandler}作为一个数组参数绑定，因此不同数量的值总是生成相同的sql。
+     * 若{@link #getDialect()}不支持数组参数，则按{@link ExtendGlobalConfig#getBatchKeySize()}分块，
+     * 退化为“(字段 IN (...) OR 字段 IN (...))”
+     *
+     * @param condition 是否生效
+     * @param column 字段
+     * @param coll 值
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 18:20
+     */
+    @Override
+    public C inArray(boolean condition, SFunction<T, ?> column, Collection<?> coll) {
+        if (!condition) {
+            return typedThis;
+        }
+        if (getDialect().isSupportArrayParam()) {
+            queryShape.appendCondition(columnToString(column), ExtendConstants.EQ_ANY);
+            String placeholder = toParamPlaceholder(bindParam(null, new ArrayList<>(coll)), CollectionArrayTypeHandler.class);
+            return doIt(true, () -> columnToString(column), () -> ExtendConstants.EQ_ANY + SqlUtils.concatBrackets(placeholder));
+        }
+        List<? extends List<?>> chunks = CollUtil.split(coll, ExtendGlobalConfig.getBatchKeySize());
+        if (chunks.size() <= 1) {
+            return in(true, column, coll);
+        }
+        return and(nested -> {
+            for (int i = 0; i < chunks.size(); i++) {
+                nested.or(i > 0).in(column, chunks.get(i));
+            }
+        });
+    }
+
+    /**
+     * 是否补齐IN条件的值，若未指定则使用全局配置
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 18:00
+     */
+    public boolean isPadInList() {
+        return Objects.isNull(padInList) ? ExtendGlobalConfig.isPadInList() : padInList;
+    }
+
+    private static List<Object> toValueList(Object[] values) {
+        return Objects.isNull(values) ? Collections.emptyList() : Arrays.asList(values);
+    }
+
+    private Collection<?> padInValues(Collection<?> coll) {
+        return isPadInList() && CollUtil.isNotEmpty(coll) ?
+            BatchUtils.padToPowerOfTwo(coll, ExtendGlobalConfig.getBatchKeySize()) : coll;
+    }
+
     // ============================== limit ==============================
-    
+
     /**
-     * limit <br />
-     * <b>注意：limit直接调用{@link #last(String)}方法，需要注意条件覆盖问题</b>
+     * limit，比如“LIMIT #{limit}”，具体语句由{@link #getDialect()}决定。<br />
+     * 条数将作为参数绑定，重复调用时仅更新参数值，因此不同条数的查询将生成相同的sql
      *
      * @param condition 是否生效
      * @param limit 条数
@@ -297,13 +586,29 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
      * @date 2022/2/10 9:28
      */
     public C limit(boolean condition, int limit) {
-        last(condition, SqlUtils.space(ExtendConstants.LIMIT, String.valueOf(limit)));
+        if (condition) {
+            Assert.isTrue(limit >= 0, "条数不能小于0");
+            limitSegment.setLimitParam(bindParam(limitSegment.getLimitParam(), limit));
+            limitSegment.setOffsetParam(null);
+        }
         return typedThis;
     }
 
     /**
-     * limit <br />
-     * <b>注意：limit直接调用{@link #last(String)}方法，需要注意条件覆盖问题</b>
+     * limit，比如“LIMIT #{limit}”
+     *
+     * @param limit 条数
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 16:00
+     */
+    public C limit(int limit) {
+        return limit(true, limit);
+    }
+
+    /**
+     * limit，比如“LIMIT #{limit} OFFSET #{offset}”，具体语句由{@link #getDialect()}决定。<br />
+     * 条数与偏移量将作为参数绑定，重复调用时仅更新参数值，因此不同条数的查询将生成相同的sql
      *
      * @param condition 是否生效
      * @param limit 条数
@@ -313,10 +618,282 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
      * @date 2022/2/10 9:28
      */
     public C limit(boolean condition, int limit, int offset) {
-        last(condition, SqlUtils.space(ExtendConstants.LIMIT, String.valueOf(limit), String.valueOf(offset)));
+        if (condition) {
+            Assert.isTrue(limit >= 0, "条数不能小于0");
+            Assert.isTrue(offset >= 0, "偏移量不能小于0");
+            limitSegment.setLimitParam(bindParam(limitSegment.getLimitParam(), limit));
+            limitSegment.setOffsetParam(bindParam(limitSegment.getOffsetParam(), offset));
+        }
         return typedThis;
     }
 
+    /**
+     * limit，比如“LIMIT #{limit} OFFSET #{offset}”
+     *
+     * @param limit 条数
+     * @param offset 偏移量
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 16:00
+     */
+    public C limit(int limit, int offset) {
+        return limit(true, limit, offset);
+    }
+
+    /**
+     * 获取数据库方言，若未指定则使用全局配置
+     *
+     * @return top.xiajibagao.mybatis.plus.join.dialect.JoinDialect
+     * @author huangchengxing
+     * @date 2026/10/19 16:00
+     */
+    public JoinDialect getDialect() {
+        return Objects.isNull(dialect) ? ExtendGlobalConfig.getDialect() : dialect;
+    }
+
+    /**
+     * 查询结果是否允许被缓存，若未指定则使用全局配置
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 20:20
+     * @see top.xiajibagao.mybatis.plus.join.interceptor.JoinResultCacheInterceptor
+     */
+    public boolean isCacheable() {
+        return Objects.isNull(cacheable) ? ExtendGlobalConfig.isResultCacheEnabled() : cacheable;
+    }
+
+    /**
+     * 查询结果是否为主表的完整实体，即返回值类型为主表实体，且仅查询了主表的全部字段
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    public boolean isEntityResult() {
+        if (isLogic || !Objects.equals(targetClass, resultClass) || selectColumns.size() != 1) {
+            return false;
+        }
+        ColumnSegment column = selectColumns.get(0);
+        return column instanceof TableColumn
+            && ((TableColumn) column).getTable() == this
+            && ExtendConstants.ASTERISK.equals(column.getColumn());
+    }
+
+    /**
+     * 是否合并同时执行的相同查询，若未指定则使用全局配置
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 20:40
+     * @see top.xiajibagao.mybatis.plus.join.interceptor.JoinSingleFlightInterceptor
+     */
+    public boolean isSingleFlight() {
+        return Objects.isNull(singleFlight) ? ExtendGlobalConfig.isSingleFlightEnabled() : singleFlight;
+    }
+
+    /**
+     * 获取分页语句，若未设置分页条件则返回空字符串
+     *
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 16:00
+     */
+    public String getSqlLimit() {
+        if (limitSegment.isEmpty()) {
+            return ExtendConstants.EMPTY;
+        }
+        String offset = Objects.isNull(limitSegment.getOffsetParam()) ?
+            null : toParamPlaceholder(limitSegment.getOffsetParam());
+        return ExtendConstants.SPACE + getDialect().getLimitSql(toParamPlaceholder(limitSegment.getLimitParam()), offset);
+    }
+
+    /**
+     * 获取统计条数时限制扫描行数的分页语句，比如“LIMIT #{countLimit}”，具体语句由{@link #getDialect()}决定
+     *
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 22:10
+     * @see top.xiajibagao.mybatis.plus.join.extend.JoinMapper#selectLimitedCountJoin
+     */
+    public String getSqlCountLimit() {
+        String limit = ExtendConstants.HASH_LEFT_BRACE + ExtendConstants.COUNT_LIMIT + ExtendConstants.RIGHT_BRACE;
+        return getDialect().getLimitSql(limit, null);
+    }
+
+    /**
+     * 获取不包含分页语句的查询条件，用于统计或由分页插件分页的查询
+     *
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 16:00
+     */
+    public String getSqlSegmentWithoutLimit() {
+        return super.getSqlSegment();
+    }
+
+    /**
+     * 获取查询条件，分页语句位于排序语句后，{@link #last(String)}指定的语句前
+     *
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 16:00
+     */
+    @Override
+    public String getSqlSegment() {
+        return expression.getSqlSegment() + getSqlLimit() + lastSql.getStringValue();
+    }
+
+    // ============================== shape ==============================
+
+    /**
+     * 获取查询的结构指纹。<br />
+     * 指纹由构建过程中累加的表、关联方式与关联条件、查询字段、条件运算符与分桶后的参数数量，
+     * 以及是否分页与{@link #first}、{@link #last}指定的语句组成，不包括参数值，也不依赖生成的sql，
+     * 因此仅参数值不同的查询具有相同的指纹，可用于统计、缓存与慢查询归类。
+     * 与表依赖一样，嵌套的查询在被引用后的修改不会被感知
+     *
+     * @return java.lang.String 16位十六进制字符串
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     * @see QueryShape
+     */
+    public String getShapeId() {
+        return queryShape.getId(
+            !limitSegment.isEmpty(), Objects.nonNull(limitSegment.getOffsetParam()),
+            sqlFirst.getStringValue(), lastSql.getStringValue()
+        );
+    }
+
+    @SafeVarargs
+    private final void appendShapeColumns(boolean condition, SFunction<T, ?>... columns) {
+        if (condition) {
+            Stream.of(columns).map(this::columnToString).forEach(queryShape::appendCondition);
+        }
+    }
+
+    private void appendShapeParamCount(boolean condition, Collection<?> values) {
+        if (condition) {
+            queryShape.appendCondition(QueryShape.bucket(CollUtil.size(values)));
+        }
+    }
+
+    // ============================== param ==============================
+
+    /**
+     * 绑定参数。若参数名为空，则生成新的参数名，否则仅更新该参数的值
+     *
+     * @param paramName 参数名
+     * @param value 参数值
+     * @return java.lang.String 参数名
+     * @author huangchengxing
+     * @date 2026/10/19 16:00
+     */
+    protected String bindParam(@Nullable String paramName, Object value) {
+        String name = Objects.isNull(paramName) ? ExtendConstants.WRAPPER_PARAM + paramNameSeq.incrementAndGet() : paramName;
+        paramNameValuePairs.put(name, value);
+        return name;
+    }
+
+    /**
+     * 获取参数占位符，比如：“#{ew.paramNameValuePairs.MPGENVAL1}”
+     *
+     * @param paramName 参数名
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 16:00
+     */
+    protected String toParamPlaceholder(String paramName) {
+        return String.format(ExtendConstants.WRAPPER_PARAM_FORMAT, ExtendConstants.WRAPPER, paramName);
+    }
+
+    /**
+     * 获取指定了类型处理器的参数占位符，比如：“#{ew.paramNameValuePairs.MPGENVAL1,typeHandler=xxx}”
+     *
+     * @param paramName 参数名
+     * @param typeHandler 类型处理器
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 18:20
+     */
+    protected String toParamPlaceholder(String paramName, Class<? extends TypeHandler<?>> typeHandler) {
+        String placeholder = toParamPlaceholder(paramName);
+        return placeholder.substring(0, placeholder.length() - 1) + ExtendConstants.COMMA + "typeHandler=" + typeHandler.getName() + ExtendConstants.RIGHT_BRACE;
+    }
+
+    // ============================== keyset ==============================
+
+    /**
+     * 指定游标字段，并按该字段升序排序。<br />
+     * 游标字段应当唯一且非空，通常为主表主键，配合{@link #keysetAfter(Object)}使用。
+     * 游标字段必须为第一个排序字段，因此需要在指定其他排序字段前调用
+     *
+     * @param column 游标字段
+     * @return C
+     * @throws IllegalArgumentException 当已指定过游标字段，或已指定其他排序字段时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 13:10
+     */
+    public C keyset(SFunction<T, ?> column) {
+        return keyset(columnToString(column));
+    }
+
+    /**
+     * 指定主表主键为游标字段，并按主键升序排序
+     *
+     * @return C
+     * @throws IllegalArgumentException 当主表为逻辑表或没有主键，或已指定其他排序字段时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 14:30
+     */
+    public C keysetByPrimaryKey() {
+        Assert.isFalse(isLogic, "逻辑表没有主键");
+        Assert.isTrue(tableInfo.havePK(), "表{}没有主键", getTable());
+        return keyset(alisa + ExtendConstants.DOT + tableInfo.getKeyColumn());
+    }
+
+    protected C keyset(String column) {
+        Assert.isNull(keysetColumn, "已指定游标字段[{}]", keysetColumn);
+        // 游标字段不是第一个排序字段时，“column > lastKey”将跳过或重复数据
+        Assert.isTrue(expression.getOrderBy().isEmpty(), "游标字段必须为第一个排序字段，请在指定其他排序字段前指定游标字段");
+        keysetColumn = column;
+        return doIt(true, SqlKeyword.ORDER_BY, () -> column, SqlKeyword.ASC);
+    }
+
+    /**
+     * 只查询游标字段大于指定值的数据，比如：“(已有条件) AND t1.id > #{lastKey}”。<br />
+     * 条件只在首次调用时添加，之后再调用仅更新参数值，因此可以反复调用以逐页推进游标。
+     * 首次调用时已有的条件将被包裹在括号中，避免其中的OR条件绕过游标，因此应当在指定全部条件后再调用
+     *
+     * @param lastKey 上一页最后一条数据的游标字段值
+     * @return C
+     * @throws IllegalArgumentException 当未指定游标字段时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 13:10
+     */
+    public C keysetAfter(@Nonnull Object lastKey) {
+        Assert.notNull(keysetColumn, "未指定游标字段");
+        boolean bound = Objects.nonNull(keysetParamName);
+        keysetParamName = bindParam(keysetParamName, lastKey);
+        if (bound) {
+            return typedThis;
+        }
+        NormalSegmentList normal = expression.getNormal();
+        if (!normal.isEmpty()) {
+            // 获取sql时将移除末尾多余的AND或OR
+            normal.getSqlSegment();
+            List<ISqlSegment> conditions = new ArrayList<>(normal);
+            normal.clear();
+            expression.add(WrapperKeyword.APPLY, () -> SqlUtils.concatBrackets(
+                conditions.stream().map(ISqlSegment::getSqlSegment).collect(Collectors.joining(ExtendConstants.SPACE))
+            ));
+        }
+        String column = keysetColumn;
+        String placeholder = toParamPlaceholder(keysetParamName);
+        queryShape.appendCondition(column);
+        return doIt(true, () -> column, SqlKeyword.GT, () -> placeholder);
+    }
+
     // ============================== override ==============================
 
     /**
@@ -329,7 +906,7 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
      */
     @Override
     public String getTable() {
-        cn.hutool.core.lang.Assert.isFalse(isLogic, "逻辑表没有TableInfo");
+        Assert.isFalse(isLogic, "逻辑表没有TableInfo");
         return tableInfo.getTableName();
     }
 
@@ -361,7 +938,7 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
      */
     @Override
     public String columnToString(SFunction<T, ?> column) {
-        cn.hutool.core.lang.Assert.notNull(alisa, "表{}没有设置别名！", getTable());
+        Assert.notNull(alisa, "表{}没有设置别名！", getTable());
         return alisa + ExtendConstants.DOT + ColumnUtils.getColumnName(column);
     }
 
@@ -381,6 +958,42 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
     protected void initNeed() {
         super.initNeed();
         this.selectColumns = new ArrayList<>();
+        this.limitSegment = new LimitSegment();
+        this.queryShape = new QueryShape();
+        if (!isLogic) {
+            queryShape.appendStructure(ExtendConstants.FROM, tableInfo.getTableName());
+        }
+    }
+
+    /**
+     * 添加sql片段，并将片段的结构累加到查询结构中。<br />
+     * 排序与分组的字段片段不包含参数，因此直接累加其sql，其余片段按{@link QueryShape#of(ISqlSegment)}累加
+     *
+     * @param condition 是否生效
+     * @param sqlSegments sql片段
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    @Override
+    protected C doIt(boolean condition, ISqlSegment... sqlSegments) {
+        if (condition) {
+            boolean columnsOnly = sqlSegments.length > 0
+                && (sqlSegments[0] == SqlKeyword.ORDER_BY || sqlSegments[0] == SqlKeyword.GROUP_BY);
+            Stream.of(sqlSegments)
+                .map(segment -> columnsOnly && !(segment instanceof Enum) ? segment.getSqlSegment() : QueryShape.of(segment))
+                .forEach(queryShape::appendCondition);
+        }
+        return super.doIt(condition, sqlSegments);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        limitSegment.clear();
+        keysetColumn = null;
+        keysetParamName = null;
+        queryShape.clearConditions();
     }
 
     /**
@@ -399,6 +1012,42 @@ public abstract class AbstractDynamicResultWrapper<T, R, C extends AbstractDynam
                 .collect(Collectors.joining(ExtendConstants.COMMA_SPACE)) : null;
     }
     
+    /**
+     * 获取查询字段在查询结果中的字段名，即查询字段的别名，未指定别名的表字段则使用字段名
+     *
+     * @return java.util.List<java.lang.String>
+     * @throws IllegalArgumentException 当未指定查询字段，或查询字段中存在“*”或未指定别名的非表字段时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 20:00
+     */
+    public List<String> getSelectColumnNames() {
+        Assert.notEmpty(selectColumns, "未指定查询字段");
+        return selectColumns.stream()
+            .map(column -> {
+                String name = CharSequenceUtil.isNotBlank(column.getAlisa()) || !(column instanceof TableColumn) ?
+                    column.getAlisa() : column.getColumn();
+                Assert.isTrue(
+                    CharSequenceUtil.isNotBlank(name) && !ExtendConstants.ASTERISK.equals(name),
+                    "无法确定查询字段[{}]在查询结果中的字段名，请为其指定别名", column.getSqlSegment()
+                );
+                return name;
+            })
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 获取将查询结果插入其他表时的字段，即查询字段的别名，未指定别名的表字段则使用字段名，比如“(id,total_score)”
+     *
+     * @return java.lang.String
+     * @throws IllegalArgumentException 当未指定查询字段，或查询字段中存在“*”或未指定别名的非表字段时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 19:40
+     * @see #getSelectColumnNames()
+     */
+    public String getSqlInsertColumns() {
+        return SqlUtils.concatBrackets(String.join(ExtendConstants.COMMA, getSelectColumnNames()));
+    }
+
     @Override
     public C setEntity(T entity) throws UnsupportedOperationException {
         throw new UnsupportedOperationException("不支持传入实体");
@@ -1,21 +1,38 @@
 package top.xiajibagao.mybatis.plus.join.wrapper;
 
 import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.lang.Assert;
 import cn.hutool.core.text.CharSequenceUtil;
+import com.baomidou.mybatisplus.core.conditions.ISqlSegment;
 import com.baomidou.mybatisplus.core.conditions.segments.MergeSegments;
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import lombok.Getter;
+import lombok.Setter;
+import top.xiajibagao.mybatis.plus.join.config.ExtendGlobalConfig;
 import top.xiajibagao.mybatis.plus.join.constants.Condition;
 import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
 import top.xiajibagao.mybatis.plus.join.constants.JoinType;
+import top.xiajibagao.mybatis.plus.join.constants.TableRole;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialect;
+import top.xiajibagao.mybatis.plus.join.helper.BatchUtils;
 import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
+import top.xiajibagao.mybatis.plus.join.wrapper.column.Columns;
+import top.xiajibagao.mybatis.plus.join.wrapper.column.TableColumn;
+import top.xiajibagao.mybatis.plus.join.wrapper.column.WindowColumn;
+import top.xiajibagao.mybatis.plus.join.wrapper.interfaces.ColumnSegment;
+import top.xiajibagao.mybatis.plus.join.wrapper.segment.LimitSegment;
+import top.xiajibagao.mybatis.plus.join.wrapper.segment.QueryShape;
+import top.xiajibagao.mybatis.plus.join.wrapper.segment.SetSegment;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import javax.annotation.Nullable;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -37,6 +54,36 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
      * join的表
      */
     protected List<JoinTable<?, ?, R>> joinTableList;
+
+    /**
+     * 嵌套的条件构造器在当前条件构造器中的参数名前缀
+     */
+    protected Map<JoinWrapper<?, ?>, String> nestedParamPrefixes;
+
+    /**
+     * 生成sql时嵌套到当前条件构造器中的条件构造器，比如子查询与逻辑表
+     */
+    protected Set<JoinWrapper<?, ?>> nestedWrappers;
+
+    /**
+     * 关联更新时的赋值片段
+     */
+    protected List<SetSegment> setSegments;
+
+    /**
+     * 在WITH子句中声明的公用表
+     */
+    protected List<CommonTable<?>> commonTables;
+
+    /**
+     * 已计算的表依赖，查询结构变化时将被清空
+     */
+    protected AtomicReference<Map<String, Set<TableRole>>> tableDependencies;
+
+    /**
+     * 当前线程中正在生成sql的条件构造器
+     */
+    private static final ThreadLocal<Deque<JoinWrapper<?, ?>>> RENDERING_WRAPPERS = ThreadLocal.withInitial(ArrayDeque::new);
     
     /**
      * 是否存在join语句
@@ -110,6 +157,417 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
             .collect(Collectors.joining(ExtendConstants.NEWLINE));
     }
 
+    // ============================== nested ==============================
+
+    /**
+     * 将嵌套的条件构造器转为sql片段，并将其参数重新绑定到当前条件构造器中。<br />
+     * 嵌套的条件构造器的参数占位符将被替换为“#{ew.paramNameValuePairs.前缀+原参数名}”，
+     * 同一条件构造器在当前条件构造器中的前缀固定不变，因此多次生成的sql一致
+     *
+     * @param nested 嵌套的条件构造器
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 16:10
+     */
+    public String toNestedSql(@Nonnull JoinWrapper<?, ?> nested) {
+        String sql = SqlUtils.wrapperToSql(nested);
+        Map<String, Object> nestedParams = nested.getParamNameValuePairs();
+        if (nested != this && nestedWrappers.add(nested)) {
+            invalidateTableDependencies();
+        }
+        if (nested == this || nestedParams.isEmpty()) {
+            return sql;
+        }
+        String prefix = nestedParamPrefixes.computeIfAbsent(
+            nested, w -> ExtendConstants.WRAPPER_PARAM + paramNameSeq.incrementAndGet() + ExtendConstants.UNDERSCORE
+        );
+        nestedParams.forEach((name, value) -> paramNameValuePairs.put(prefix + name, value));
+        return sql.replace(ExtendConstants.WRAPPER_PARAM_PREFIX, ExtendConstants.WRAPPER_PARAM_PREFIX + prefix);
+    }
+
+    /**
+     * 获取当前线程中正在生成sql的条件构造器，用于绑定子查询等嵌套查询的参数
+     *
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper<?,?>
+     * @author huangchengxing
+     * @date 2026/10/19 16:10
+     */
+    @Nullable
+    public static JoinWrapper<?, ?> getRenderingWrapper() {
+        Deque<JoinWrapper<?, ?>> wrappers = RENDERING_WRAPPERS.get();
+        if (wrappers.isEmpty()) {
+            RENDERING_WRAPPERS.remove();
+            return null;
+        }
+        return wrappers.peek();
+    }
+
+    /**
+     * 以当前条件构造器作为正在生成sql的条件构造器执行操作
+     *
+     * @param renderer 操作
+     * @return V
+     * @author huangchengxing
+     * @date 2026/10/19 16:10
+     */
+    protected <V> V rendering(Supplier<V> renderer) {
+        Deque<JoinWrapper<?, ?>> wrappers = RENDERING_WRAPPERS.get();
+        wrappers.push(this);
+        try {
+            return renderer.get();
+        } finally {
+            wrappers.pop();
+            if (wrappers.isEmpty()) {
+                RENDERING_WRAPPERS.remove();
+            }
+        }
+    }
+
+    @Override
+    public String getSqlSegment() {
+        return rendering(super::getSqlSegment);
+    }
+
+    @Override
+    public String getSqlSegmentWithoutLimit() {
+        return rendering(super::getSqlSegmentWithoutLimit);
+    }
+
+    @Nullable
+    @Override
+    public String getSqlSelect() {
+        return rendering(super::getSqlSelect);
+    }
+
+    /**
+     * 获取前置sql，若存在公用表，则在{@link #first}指定的sql后拼接WITH子句
+     *
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 20:10
+     * @see #getSqlWith()
+     */
+    @Nullable
+    @Override
+    public String getSqlFirst() {
+        String sql = SqlUtils.space(super.getSqlFirst(), getSqlWith());
+        return CharSequenceUtil.isBlank(sql) ? null : sql;
+    }
+
+    // ============================== with ==============================
+
+    /**
+     * 将查询声明为公用表，查询时将在WITH子句中定义一次，并在当前查询及其子查询、关联的逻辑表中通过名称引用。<br />
+     * 公用表只有在最外层的查询中声明才会生效，声明后可以通过返回的公用表或{@link CommonTable#reference()}多次引用
+     *
+     * @param name 公用表名称
+     * @param wrapper 公用表的查询
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.CommonTable<V>
+     * @throws IllegalArgumentException 当名称不是合法的标识符，或{@link #getDialect()}不支持公用表时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 20:10
+     */
+    public <V> CommonTable<V> with(@Nonnull String name, @Nonnull JoinWrapper<?, V> wrapper) {
+        checkSupportCte();
+        CommonTable<V> table = new CommonTable<>(name, wrapper);
+        commonTables.add(table);
+        queryShape.appendStructure(ExtendConstants.WITH, table.getShapeId());
+        invalidateTableDependencies();
+        return table;
+    }
+
+    /**
+     * 将当前查询转为公用表，作为最外层查询使用时将自动声明自身
+     *
+     * @param name 公用表名称
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.CommonTable<R>
+     * @throws IllegalArgumentException 当名称不是合法的标识符时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 20:10
+     */
+    public CommonTable<R> toCommonTable(@Nonnull String name) {
+        return new CommonTable<>(name, this);
+    }
+
+    /**
+     * 获取在当前查询中声明的公用表
+     *
+     * @return java.util.List<top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.CommonTable<?>>
+     * @author huangchengxing
+     * @date 2026/10/19 20:10
+     */
+    public List<CommonTable<?>> getCommonTables() {
+        return Collections.unmodifiableList(commonTables);
+    }
+
+    /**
+     * 获取“WITH a AS (SELECT ...), b AS (SELECT ...)”格式的WITH子句，同名的公用表只定义一次，
+     * 公用表的参数将绑定到当前查询中。若方言支持，则为开启了物化提示的公用表添加“MATERIALIZED”
+     *
+     * @return java.lang.String 不存在公用表时返回空字符串
+     * @throws IllegalArgumentException 当{@link #getDialect()}不支持公用表时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 20:10
+     */
+    public String getSqlWith() {
+        List<CommonTable<?>> tables = getCommonTables();
+        if (tables.isEmpty()) {
+            return ExtendConstants.EMPTY;
+        }
+        checkSupportCte();
+        boolean supportMaterialized = getDialect().isSupportMaterializedCte();
+        Map<String, String> definitions = new LinkedHashMap<>();
+        for (CommonTable<?> table : tables) {
+            definitions.computeIfAbsent(table.getName(), name -> SqlUtils.space(
+                name, ExtendConstants.AS,
+                supportMaterialized && table.isMaterialized() ? ExtendConstants.MATERIALIZED : null,
+                SqlUtils.concatBrackets(toNestedSql(table.getDefinition()))
+            ));
+        }
+        return SqlUtils.space(ExtendConstants.WITH, String.join(ExtendConstants.COMMA_SPACE, definitions.values()));
+    }
+
+    private void checkSupportCte() {
+        JoinDialect dialect = getDialect();
+        Assert.isTrue(dialect.isSupportCte(), "当前数据库不支持公用表：{}", dialect.getDbType().getDb());
+    }
+
+    // ============================== tables ==============================
+
+    /**
+     * 获取查询依赖的全部物理表及其访问角色。<br />
+     * 将依次遍历主表、关联表、关联的逻辑表、公用表、合并查询与子查询字段，其中最外层查询的主表与关联表分别为
+     * {@link TableRole#MAIN}与{@link TableRole#JOINED}，其余嵌套查询中的表均为{@link TableRole#SUBQUERY}，
+     * 临时表与公用表名称不会被计入。<br />
+     * 结果在首次获取时计算并缓存，当前查询新增关联表、条件、查询字段或公用表时将重新计算，
+     * 但嵌套的查询在被引用后的修改不会被感知
+     *
+     * @return java.util.Map<java.lang.String,java.util.Set<top.xiajibagao.mybatis.plus.join.constants.TableRole>> 表名-访问角色
+     * @author huangchengxing
+     * @date 2026/10/19 20:30
+     */
+    public Map<String, Set<TableRole>> getTableDependencies() {
+        Map<String, Set<TableRole>> dependencies = tableDependencies.get();
+        if (Objects.nonNull(dependencies)) {
+            return dependencies;
+        }
+        // 子查询字段仅在生成sql时才会嵌套到当前查询中
+        SqlUtils.wrapperToSql(this);
+        Map<String, Set<TableRole>> collected = new LinkedHashMap<>();
+        collectTableDependencies(collected, false, Collections.newSetFromMap(new IdentityHashMap<>()));
+        collected.replaceAll((table, roles) -> Collections.unmodifiableSet(roles));
+        dependencies = Collections.unmodifiableMap(collected);
+        tableDependencies.set(dependencies);
+        return dependencies;
+    }
+
+    /**
+     * 获取查询读取的全部物理表
+     *
+     * @return java.util.Set<java.lang.String>
+     * @author huangchengxing
+     * @date 2026/10/19 20:20
+     * @see #getTableDependencies()
+     */
+    public Set<String> getReadTables() {
+        return getTableDependencies().keySet();
+    }
+
+    /**
+     * 收集查询依赖的物理表
+     *
+     * @param dependencies 已收集的表
+     * @param nested 当前查询是否为嵌套查询
+     * @param visited 已访问的条件构造器，用于避免重复访问
+     * @author huangchengxing
+     * @date 2026/10/19 20:30
+     */
+    protected void collectTableDependencies(Map<String, Set<TableRole>> dependencies, boolean nested, Set<JoinWrapper<?, ?>> visited) {
+        if (!visited.add(this)) {
+            return;
+        }
+        if (!isLogic) {
+            addTableDependency(dependencies, getTable(), nested ? TableRole.SUBQUERY : TableRole.MAIN);
+        }
+        for (JoinTable<?, ?, R> joinTable : joinTableList) {
+            if (joinTable instanceof LogicJoinTable) {
+                ((LogicJoinTable<?, R>) joinTable).getLogicTable().collectTableDependencies(dependencies, true, visited);
+            } else if (!(joinTable instanceof TempKeyTable)) {
+                addTableDependency(dependencies, joinTable.getTable(), nested ? TableRole.SUBQUERY : TableRole.JOINED);
+            }
+        }
+        commonTables.forEach(table -> table.getDefinition().collectTableDependencies(dependencies, true, visited));
+        nestedWrappers.forEach(wrapper -> wrapper.collectTableDependencies(dependencies, true, visited));
+    }
+
+    /**
+     * 获取查询中引用的全部逻辑表，包括关联的逻辑表、公用表、合并查询与子查询中引用的逻辑表，
+     * 外层的逻辑表排在其内部引用的逻辑表之前
+     *
+     * @return java.util.List<top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.LogicTable<?>>
+     * @author huangchengxing
+     * @date 2026/10/19 21:10
+     */
+    public List<LogicTable<?>> getLogicTables() {
+        // 子查询字段仅在生成sql时才会嵌套到当前查询中
+        SqlUtils.wrapperToSql(this);
+        List<LogicTable<?>> logicTables = new ArrayList<>();
+        collectLogicTables(logicTables, Collections.newSetFromMap(new IdentityHashMap<>()));
+        return logicTables;
+    }
+
+    /**
+     * 收集查询中引用的逻辑表
+     *
+     * @param logicTables 已收集的逻辑表
+     * @param visited 已访问的条件构造器，用于避免重复访问
+     * @author huangchengxing
+     * @date 2026/10/19 21:10
+     */
+    protected void collectLogicTables(List<LogicTable<?>> logicTables, Set<JoinWrapper<?, ?>> visited) {
+        if (!visited.add(this)) {
+            return;
+        }
+        joinTableList.stream()
+            .filter(LogicJoinTable.class::isInstance)
+            .forEach(joinTable -> ((LogicJoinTable<?, R>) joinTable).getLogicTable().collectLogicTables(logicTables, visited));
+        commonTables.forEach(table -> table.collectLogicTables(logicTables, visited));
+        nestedWrappers.forEach(wrapper -> wrapper.collectLogicTables(logicTables, visited));
+    }
+
+    private static void addTableDependency(Map<String, Set<TableRole>> dependencies, String table, TableRole role) {
+        dependencies.computeIfAbsent(table, t -> EnumSet.noneOf(TableRole.class)).add(role);
+    }
+
+    /**
+     * 查询结构变化时清空已计算的表依赖
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 20:30
+     */
+    protected void invalidateTableDependencies() {
+        tableDependencies.set(null);
+    }
+
+    // ============================== update ==============================
+
+    /**
+     * 关联更新时为字段赋值，比如“t1.score = #{ew.paramNameValuePairs.MPGENVAL1}”
+     *
+     * @param column 字段
+     * @param val 值
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper<T,R>
+     * @author huangchengxing
+     * @date 2026/10/19 19:20
+     */
+    public JoinWrapper<T, R> set(SFunction<T, ?> column, Object val) {
+        String placeholder = toParamPlaceholder(bindParam(null, val));
+        return set(column, () -> placeholder);
+    }
+
+    /**
+     * 关联更新时为字段赋值，值可以为其他表的字段或函数，比如“t1.score = t2.score + 1”
+     *
+     * @param column 字段
+     * @param value 值
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper<T,R>
+     * @author huangchengxing
+     * @date 2026/10/19 19:20
+     */
+    public JoinWrapper<T, R> set(SFunction<T, ?> column, ISqlSegment value) {
+        setSegments.add(new SetSegment(this, toStringColumn(column), value));
+        queryShape.appendCondition("SET", columnToString(column), QueryShape.of(value));
+        return typedThis;
+    }
+
+    /**
+     * 获取关联更新语句。<br />
+     * 若{@link #getDialect()}支持多表更新，则生成“UPDATE A t1 JOIN B t2 ON ... SET t1.a = ? WHERE ...”，
+     * 否则生成“UPDATE A t1 SET a = ? WHERE t1.id IN (SELECT t1.id FROM A t1 JOIN B t2 ON ... WHERE ...)”，
+     * 此时只能更新主表字段，且赋的值不能引用关联表字段。更新语句中不包含分组与排序条件，且不支持限制条数
+     *
+     * @return java.lang.String
+     * @throws IllegalArgumentException 当未指定赋值字段，指定了限制条数，或不支持多表更新时更新了关联表字段或引用了关联表字段时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 19:20
+     */
+    public String getSqlUpdateJoin() {
+        Assert.notEmpty(setSegments, "未指定要更新的字段");
+        Assert.isTrue(limitSegment.isEmpty(), "关联更新不支持限制条数");
+        return rendering(() -> {
+            boolean multiTable = getDialect().isSupportMultiTableUpdate();
+            if (!multiTable) {
+                Assert.isTrue(
+                    setSegments.stream().allMatch(segment -> Objects.equals(segment.getTable().getAlisa(), alisa)),
+                    "当前数据库不支持多表更新，只能更新主表字段"
+                );
+                Assert.isFalse(
+                    setSegments.stream().anyMatch(segment -> isReferJoinTable(segment.getValue().getSqlSegment())),
+                    "当前数据库不支持多表更新，赋值时不能引用关联表字段"
+                );
+            }
+            String sets = setSegments.stream()
+                .map(segment -> segment.getSqlSegment(multiTable))
+                .collect(Collectors.joining(ExtendConstants.COMMA_SPACE));
+            if (multiTable || !hasJoin()) {
+                return SqlUtils.space("UPDATE", getTableWithAlisa(), getSqlJoin(), "SET", sets, getSqlWhereWithoutOrder());
+            }
+            return SqlUtils.space("UPDATE", getTableWithAlisa(), "SET", sets, getSqlWhereInJoinedKeys());
+        });
+    }
+
+    /**
+     * 获取关联删除语句，仅删除主表数据。<br />
+     * 若{@link #getDialect()}支持多表删除，则生成“DELETE t1 FROM A t1 JOIN B t2 ON ... WHERE ...”，
+     * 否则生成“DELETE FROM A t1 WHERE t1.id IN (SELECT t1.id FROM A t1 JOIN B t2 ON ... WHERE ...)”。
+     * 删除语句中不包含分组与排序条件，且不支持限制条数
+     *
+     * @return java.lang.String
+     * @throws IllegalArgumentException 当指定了限制条数时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 19:20
+     */
+    public String getSqlDeleteJoin() {
+        Assert.isTrue(limitSegment.isEmpty(), "关联删除不支持限制条数");
+        return rendering(() -> {
+            if (getDialect().isSupportMultiTableUpdate()) {
+                return SqlUtils.space("DELETE", alisa, ExtendConstants.FROM, getTableWithAlisa(), getSqlJoin(), getSqlWhereWithoutOrder());
+            }
+            return hasJoin() ?
+                SqlUtils.space("DELETE", ExtendConstants.FROM, getTableWithAlisa(), getSqlWhereInJoinedKeys()) :
+                SqlUtils.space("DELETE", ExtendConstants.FROM, getTableWithAlisa(), getSqlWhereWithoutOrder());
+        });
+    }
+
+    private String getSqlWhere() {
+        String segment = getSqlSegmentWithoutLimit();
+        return expression.getNormal().isEmpty() ? segment : SqlUtils.space(ExtendConstants.WHERE, segment);
+    }
+
+    /**
+     * 获取不包含分组与排序条件的查询条件，更新与删除语句不支持分组与排序
+     */
+    private String getSqlWhereWithoutOrder() {
+        String segment = expression.getNormal().getSqlSegment() + lastSql.getStringValue();
+        return expression.getNormal().isEmpty() ? segment : SqlUtils.space(ExtendConstants.WHERE, segment);
+    }
+
+    /**
+     * sql片段中是否引用了关联表字段，比如“t2.score + 1”
+     */
+    private boolean isReferJoinTable(String sql) {
+        return hasJoin() && joinTableList.stream()
+            .map(table -> Pattern.compile("\\b" + Pattern.quote(table.getAlisa() + ExtendConstants.DOT)))
+            .anyMatch(pattern -> pattern.matcher(sql).find());
+    }
+
+    private String getSqlWhereInJoinedKeys() {
+        Assert.isTrue(!isLogic && tableInfo.havePK(), "主表必须存在主键");
+        String keyColumn = alisa + ExtendConstants.DOT + tableInfo.getKeyColumn();
+        String keys = SqlUtils.space(ExtendConstants.SELECT, keyColumn, ExtendConstants.FROM, getTableWithAlisa(), getSqlJoin(), getSqlWhere());
+        return SqlUtils.space(ExtendConstants.WHERE, keyColumn, ExtendConstants.IN.trim(), SqlUtils.concatBrackets(keys));
+    }
+
     // ============================== concatSegment ==============================
 
     /**
@@ -319,6 +777,19 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
         instance.joinTableList = this.joinTableList;
         instance.paramNameSeq = this.paramNameSeq;
         instance.paramNameValuePairs = this.paramNameValuePairs;
+        instance.nestedParamPrefixes = this.nestedParamPrefixes;
+        instance.nestedWrappers = this.nestedWrappers;
+        instance.setSegments = this.setSegments;
+        instance.commonTables = this.commonTables;
+        instance.tableDependencies = this.tableDependencies;
+        // 分页语句只出现在最外层，嵌套条件不与当前查询共享
+        instance.limitSegment = new LimitSegment();
+        // 嵌套条件的结构将作为一个整体累加到当前查询中
+        instance.queryShape = new QueryShape();
+        instance.dialect = this.dialect;
+        instance.padInList = this.padInList;
+        instance.cacheable = this.cacheable;
+        instance.singleFlight = this.singleFlight;
         instance.expression = new MergeSegments();
         instance.selectColumns = Collections.emptyList();
         instance.lastSql = lastSql;
@@ -332,6 +803,31 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
         super.initNeed();
         this.joinTableSeq = new AtomicInteger(0);
         this.joinTableList = new ArrayList<>();
+        this.nestedParamPrefixes = new IdentityHashMap<>();
+        this.nestedWrappers = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.setSegments = new ArrayList<>();
+        this.commonTables = new ArrayList<>();
+        this.tableDependencies = new AtomicReference<>();
+    }
+
+    @Override
+    public JoinWrapper<T, R> select(@Nonnull ColumnSegment column) {
+        invalidateTableDependencies();
+        return super.select(column);
+    }
+
+    @Override
+    protected JoinWrapper<T, R> doIt(boolean condition, ISqlSegment... sqlSegments) {
+        if (condition) {
+            invalidateTableDependencies();
+        }
+        return super.doIt(condition, sqlSegments);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        setSegments.clear();
     }
 
     // ============================== JoinTable ==============================
@@ -347,6 +843,143 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
         return new LogicTable<>(this);
     }
 
+    /**
+     * 将当前查询与另一查询的结果合并并去重，即“(SELECT ...) UNION (SELECT ...)”，合并后的查询将作为一张逻辑表。<br />
+     * 合并时将校验两者的查询字段在查询结果中的字段名是否按顺序一致，因此两者都需要显式指定查询字段。
+     * 排序、分页等条件应添加到返回的逻辑表上，以便在合并后的结果上执行
+     *
+     * @param other 要合并的查询
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.UnionTable<R>
+     * @throws IllegalArgumentException 当两者的查询字段不一致时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 20:00
+     * @see #getSelectColumnNames()
+     */
+    public UnionTable<R> union(@Nonnull JoinWrapper<?, R> other) {
+        return new UnionTable<>(this).union(other);
+    }
+
+    /**
+     * 将当前查询与另一查询的结果合并且不去重，即“(SELECT ...) UNION ALL (SELECT ...)”，合并后的查询将作为一张逻辑表
+     *
+     * @param other 要合并的查询
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.UnionTable<R>
+     * @throws IllegalArgumentException 当两者的查询字段不一致时抛出
+     * @author huangchengxing
+     * @date 2026/10/19 20:00
+     * @see #union(JoinWrapper)
+     */
+    public UnionTable<R> unionAll(@Nonnull JoinWrapper<?, R> other) {
+        return new UnionTable<>(this).unionAll(other);
+    }
+
+    /**
+     * 查询每组的前n条数据。<br />
+     * 将在当前查询的副本上添加别名为“row_num”的“ROW_NUMBER() OVER (PARTITION BY partitionColumn ORDER BY orderColumn)”字段，
+     * 并将其转为逻辑表，最终效果同：
+     * <code>SELECT t1.* FROM (SELECT t1.*, ROW_NUMBER() OVER (...) AS row_num FROM A t1) t1 WHERE (t1.row_num <= n)</code>
+     * 若当前查询未指定查询字段，则查询主表全部字段。当前查询的查询字段不会被修改，因此之后仍可用于统计条数等其他查询；
+     * 副本与当前查询共享查询条件、关联表与参数。若当前查询为逻辑表，则在其外层再嵌套一层查询
+     *
+     * @param partitionColumn 分组字段
+     * @param orderColumn 组内排序字段
+     * @param isAsc 是否升序
+     * @param n 每组条数
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.LogicTable<R>
+     * @author huangchengxing
+     * @date 2026/10/19 17:20
+     */
+    public LogicTable<R> topNPerGroup(SFunction<T, ?> partitionColumn, SFunction<T, ?> orderColumn, boolean isAsc, int n) {
+        Assert.isTrue(n > 0, "每组条数必须大于0");
+        JoinWrapper<T, R> ranked = copyWithOwnColumns();
+        if (CollUtil.isEmpty(ranked.selectColumns)) {
+            ranked.selectAll();
+        }
+        WindowColumn rowNumber = Columns.rowNumber()
+            .partitionBy(ranked.toTableColumn(partitionColumn))
+            .orderBy(isAsc, ranked.toTableColumn(orderColumn));
+        rowNumber.setAlisa(ExtendConstants.ROW_NUM);
+        ranked.select(rowNumber);
+
+        LogicTable<R> logicTable = ranked.toLogicTable();
+        String placeholder = logicTable.toParamPlaceholder(logicTable.bindParam(null, n));
+        logicTable.selectAll()
+            .where(new TableColumn(logicTable, ExtendConstants.ROW_NUM), Condition.LE, () -> placeholder);
+        return logicTable;
+    }
+
+    /**
+     * 获取与当前查询共享查询条件、关联表与参数，但查询字段与查询结构独立的副本，
+     * 向副本添加查询字段不会影响当前查询。逻辑表的查询字段由其生成sql的方式决定，因此直接在外层嵌套一层逻辑表
+     */
+    @SuppressWarnings("unchecked")
+    private JoinWrapper<T, R> copyWithOwnColumns() {
+        if (isLogic) {
+            return (JoinWrapper<T, R>) new LogicTable<>(this);
+        }
+        JoinWrapper<T, R> copy = new JoinWrapper<>(targetClass, resultClass, false);
+        copy.alisa = alisa;
+        copy.joinTableSeq = joinTableSeq;
+        copy.joinTableList = joinTableList;
+        copy.paramNameSeq = paramNameSeq;
+        copy.paramNameValuePairs = paramNameValuePairs;
+        copy.nestedParamPrefixes = nestedParamPrefixes;
+        copy.nestedWrappers = nestedWrappers;
+        copy.setSegments = setSegments;
+        copy.commonTables = commonTables;
+        copy.tableDependencies = tableDependencies;
+        copy.limitSegment = limitSegment;
+        copy.queryShape = queryShape.copy();
+        copy.dialect = dialect;
+        copy.padInList = padInList;
+        copy.cacheable = cacheable;
+        copy.singleFlight = singleFlight;
+        copy.expression = expression;
+        copy.selectColumns = new ArrayList<>(selectColumns);
+        copy.lastSql = lastSql;
+        copy.sqlComment = sqlComment;
+        copy.sqlFirst = sqlFirst;
+        return copy;
+    }
+
+    /**
+     * 字段值在指定的key中。<br />
+     * 若去重后的key数量不小于{@link ExtendGlobalConfig#getTempTableThreshold()}且当前方言支持临时表，
+     * 则查询时先将key批量写入一张会话级临时表，再通过“INNER JOIN tmp_join_keys_integer_1 t2 ON t1.column = t2.key_value”过滤，
+     * 查询结束后清空临时表，该过程由{@link top.xiajibagao.mybatis.plus.join.interceptor.TempKeyTableInterceptor}完成；否则按{@link #inArray}处理
+     *
+     * @param column 字段
+     * @param keys key值
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper<T,R>
+     * @author huangchengxing
+     * @date 2026/10/19 18:40
+     */
+    public JoinWrapper<T, R> inTempTable(SFunction<T, ?> column, Collection<?> keys) {
+        List<?> distinctKeys = BatchUtils.distinct(keys);
+        if (distinctKeys.size() < ExtendGlobalConfig.getTempTableThreshold() || !getDialect().isSupportTempTable()) {
+            return inArray(column, distinctKeys);
+        }
+        new TempKeyTable<>(this, column, distinctKeys);
+        return typedThis;
+    }
+
+    /**
+     * 获取查询前需要创建的临时表
+     *
+     * @return java.util.List<top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.TempKeyTable<?,R>>
+     * @author huangchengxing
+     * @date 2026/10/19 18:40
+     */
+    public List<TempKeyTable<?, R>> getTempKeyTables() {
+        if (CollUtil.isEmpty(joinTableList)) {
+            return Collections.emptyList();
+        }
+        return joinTableList.stream()
+            .filter(TempKeyTable.class::isInstance)
+            .map(table -> (TempKeyTable<?, R>) table)
+            .collect(Collectors.toList());
+    }
+
     /**
      * 要join的关联表
      *
@@ -374,6 +1007,17 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
             this.joinTableList = source.joinTableList;
             this.paramNameSeq = source.paramNameSeq;
             this.paramNameValuePairs = source.paramNameValuePairs;
+            this.nestedParamPrefixes = source.nestedParamPrefixes;
+            this.nestedWrappers = source.nestedWrappers;
+            this.setSegments = source.setSegments;
+            this.commonTables = source.commonTables;
+            this.tableDependencies = source.tableDependencies;
+            this.limitSegment = source.limitSegment;
+            this.queryShape = source.queryShape;
+            this.dialect = source.dialect;
+            this.padInList = source.padInList;
+            this.cacheable = source.cacheable;
+            this.singleFlight = source.singleFlight;
             this.expression = source.expression;
             this.selectColumns = source.selectColumns;
             this.lastSql = source.lastSql;
@@ -382,12 +1026,17 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
 
             // 加入join集合，并修改表别名
             source.joinTableList.add(this);
+            source.invalidateTableDependencies();
             setAlisaByJoinSeq();
+            queryShape.appendStructure(joinType.name(), isLogic ? null : getTable(), alisa);
             initLogicDelete();
         }
 
         public <C> JoinTable<T, J, R> on(SFunction<T, C> sourceColumn, Condition condition, SFunction<J, C> targetColumn) {
             joinCondition.add(() -> source.columnToString(sourceColumn), condition, () -> this.columnToString(targetColumn));
+            source.queryShape.appendStructure(
+                ExtendConstants.ON, source.columnToString(sourceColumn), condition.name(), this.columnToString(targetColumn)
+            );
             return this;
         }
 
@@ -422,6 +1071,7 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
      */
     public static class LogicJoinTable<T, R> extends JoinTable<T, R, R> {
 
+        @Getter
         private final JoinWrapper<?, R> logicTable;
 
         public LogicJoinTable(JoinType joinType, JoinWrapper<T, R> source, JoinWrapper<?, R> logicTable) {
@@ -429,10 +1079,11 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
             initNeed();
             this.selectColumns = source.selectColumns;
             this.logicTable = logicTable;
+            source.queryShape.appendStructure(SqlUtils.concatBrackets(logicTable.getShapeId()));
         }
 
         /**
-         * 获取"(select * from A)"格式的查询语句
+         * 获取"(select * from A)"格式的查询语句，逻辑表的参数将绑定到主查询中
          *
          * @return java.lang.String
          * @author huangchengxing
@@ -440,7 +1091,46 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
          */
         @Override
         public String getTable() {
-            return SqlUtils.concatBrackets(SqlUtils.wrapperToSql(logicTable));
+            // 公用表直接通过名称引用
+            return logicTable instanceof CommonTable ?
+                logicTable.getTable() : SqlUtils.concatBrackets(getSource().toNestedSql(logicTable));
+        }
+
+    }
+
+    /**
+     * 存放key的临时表，表中仅有一个主键字段“key_value”。<br />
+     * 表名由key类型与该表在查询中的序号组成，比如“tmp_join_keys_integer_1”，因此相同结构的查询总是生成相同的sql。
+     * 临时表仅对当前会话可见，同一会话中将复用已创建的表，并在每次使用前后清空
+     *
+     * @param <T> 主查询主表实体类型
+     * @param <R> 主查询返回实体类型
+     * @author huangchengxing
+     * @date 2026/10/19 18:40
+     * @see JoinWrapper#inTempTable
+     */
+    @Getter
+    public static class TempKeyTable<T, R> extends JoinTable<T, R, R> {
+
+        private final String tableName;
+        private final List<?> keys;
+        private final Class<?> keyType;
+
+        public TempKeyTable(JoinWrapper<T, R> source, SFunction<T, ?> column, @Nonnull List<?> keys) {
+            super(JoinType.INNER_JOIN, source.getResultClass(), source, true);
+            this.keys = keys;
+            this.keyType = keys.get(0).getClass();
+            // 构造时已被添加到关联表中
+            this.tableName = ExtendConstants.TEMP_TABLE_PREFIX + keyType.getSimpleName().toLowerCase()
+                + "_" + source.getTempKeyTables().size();
+            TableColumn keyColumn = new TableColumn(this, ExtendConstants.TEMP_TABLE_COLUMN);
+            getJoinCondition().add(() -> source.columnToString(column), Condition.EQ, keyColumn);
+            queryShape.appendStructure(ExtendConstants.ON, source.columnToString(column), Condition.EQ.name(), keyColumn.getShape());
+        }
+
+        @Override
+        public String getTable() {
+            return tableName;
         }
 
     }
@@ -453,17 +1143,101 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
      */
     public static class LogicTable<T> extends JoinWrapper<T, T> {
 
+        private static final AtomicLong TABLE_SEQ = new AtomicLong(0);
+
+        /**
+         * 当前线程中正在执行查询的会话已创建临时表的物化逻辑表。<br />
+         * 临时表仅在创建它的连接中可见，因此按会话记录，在新事务等嵌套会话中执行的查询位于栈顶
+         */
+        private static final ThreadLocal<Deque<Set<LogicTable<?>>>> SESSION_CREATED_TABLES = ThreadLocal.withInitial(ArrayDeque::new);
+
         private final JoinWrapper<?, T> table;
 
+        /**
+         * 物化后的临时表名，未物化时为null
+         */
+        @Getter
+        private String materializedTableName;
+
         protected LogicTable(JoinWrapper<?, T> logicTable) {
             super(logicTable.getResultClass(), logicTable.getResultClass(), true);
             initNeed();
             setAlisaByJoinSeq();
             this.table = logicTable;
+            queryShape.appendStructure(ExtendConstants.FROM, SqlUtils.concatBrackets(logicTable.getShapeId()));
+        }
+
+        /**
+         * 将逻辑表物化为临时表。<br />
+         * 当前会话中首次执行引用该逻辑表的查询时，将先把逻辑表的查询结果写入临时表，
+         * 此后会话中引用该逻辑表的查询都将直接关联临时表，临时表在事务提交、回滚或会话关闭时删除。
+         * 需要注册{@link top.xiajibagao.mybatis.plus.join.interceptor.MaterializedLogicTableInterceptor}且方言支持临时表，
+         * 否则仍按子查询执行
+         *
+         * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.LogicTable<T>
+         * @author huangchengxing
+         * @date 2026/10/19 21:10
+         */
+        public LogicTable<T> materialize() {
+            if (Objects.isNull(materializedTableName)) {
+                materializedTableName = ExtendConstants.MATERIALIZED_TABLE_PREFIX + TABLE_SEQ.incrementAndGet();
+            }
+            return this;
+        }
+
+        /**
+         * 是否已调用{@link #materialize()}
+         *
+         * @return boolean
+         * @author huangchengxing
+         * @date 2026/10/19 21:10
+         */
+        public boolean isMaterialized() {
+            return Objects.nonNull(materializedTableName);
+        }
+
+        /**
+         * 当前正在执行查询的会话中是否已创建逻辑表对应的临时表，不在查询中时总是返回false
+         *
+         * @return boolean
+         * @author huangchengxing
+         * @date 2026/10/19 21:10
+         */
+        public boolean isMaterializedTableCreated() {
+            Set<LogicTable<?>> created = SESSION_CREATED_TABLES.get().peek();
+            return isMaterialized() && Objects.nonNull(created) && created.contains(this);
+        }
+
+        /**
+         * 开始在会话中执行查询，查询期间生成的sql将直接引用该会话中已创建的临时表，
+         * 查询结束后需要调用{@link #exitSession()}
+         *
+         * @param createdTables 会话中已创建临时表的物化逻辑表
+         * @author huangchengxing
+         * @date 2026/10/19 23:10
+         */
+        public static void enterSession(@Nonnull Set<LogicTable<?>> createdTables) {
+            SESSION_CREATED_TABLES.get().push(createdTables);
+        }
+
+        /**
+         * 结束在会话中执行的查询
+         *
+         * @author huangchengxing
+         * @date 2026/10/19 23:10
+         * @see #enterSession(Set)
+         */
+        public static void exitSession() {
+            Deque<Set<LogicTable<?>>> sessions = SESSION_CREATED_TABLES.get();
+            sessions.poll();
+            if (sessions.isEmpty()) {
+                SESSION_CREATED_TABLES.remove();
+            }
         }
 
         /**
-         * 获取"(select * from A)"格式的查询语句
+         * 获取"(select * from A)"格式的查询语句，逻辑表的参数将绑定到当前查询中。<br />
+         * 若当前正在执行查询的会话中已创建逻辑表对应的临时表，则返回临时表名
          *
          * @return java.lang.String
          * @author huangchengxing
@@ -471,7 +1245,202 @@ public class JoinWrapper<T, R> extends AbstractDynamicResultWrapper<T, R, JoinWr
          */
         @Override
         public String getTable() {
-            return SqlUtils.concatBrackets(SqlUtils.wrapperToSql(table));
+            return isMaterializedTableCreated() ? materializedTableName : getLogicTableSql();
+        }
+
+        /**
+         * 获取逻辑表对应的子查询语句，参数将绑定到当前查询中
+         *
+         * @return java.lang.String
+         * @author huangchengxing
+         * @date 2026/10/19 21:10
+         */
+        public String getLogicTableSql() {
+            return SqlUtils.concatBrackets(toNestedSql(table));
+        }
+
+        @Override
+        protected void collectLogicTables(List<LogicTable<?>> logicTables, Set<JoinWrapper<?, ?>> visited) {
+            if (visited.contains(this)) {
+                return;
+            }
+            logicTables.add(this);
+            super.collectLogicTables(logicTables, visited);
+            table.collectLogicTables(logicTables, visited);
+        }
+
+        @Override
+        protected void collectTableDependencies(Map<String, Set<TableRole>> dependencies, boolean nested, Set<JoinWrapper<?, ?>> visited) {
+            super.collectTableDependencies(dependencies, nested, visited);
+            table.collectTableDependencies(dependencies, true, visited);
+        }
+
+    }
+
+    /**
+     * 在WITH子句中定义的公用表，查询时通过名称引用，比如“WITH a AS (SELECT ...) SELECT t1.* FROM a t1”
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 20:10
+     * @see JoinWrapper#with(String, JoinWrapper)
+     * @see JoinWrapper#toCommonTable(String)
+     */
+    @Getter
+    public static class CommonTable<T> extends LogicTable<T> {
+
+        private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+        private final String name;
+        private final JoinWrapper<?, T> definition;
+
+        /**
+         * 是否提示数据库将公用表物化，仅在方言支持时生效
+         */
+        @Setter
+        private boolean materialized;
+
+        protected CommonTable(@Nonnull String name, @Nonnull JoinWrapper<?, T> definition) {
+            super(definition);
+            Assert.isTrue(NAME_PATTERN.matcher(name).matches(), "公用表名称[{}]不是合法的标识符", name);
+            this.name = name;
+            this.definition = definition;
+            queryShape.appendStructure(ExtendConstants.AS, name);
+        }
+
+        /**
+         * 创建一个引用相同公用表的新查询，用于在子查询或关联查询中再次引用该公用表
+         *
+         * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.CommonTable<T>
+         * @author huangchengxing
+         * @date 2026/10/19 20:10
+         */
+        public CommonTable<T> reference() {
+            CommonTable<T> reference = new CommonTable<>(name, definition);
+            reference.materialized = materialized;
+            return reference;
+        }
+
+        /**
+         * 公用表不支持物化为临时表，可通过{@link #setMaterialized(boolean)}提示数据库物化
+         *
+         * @throws UnsupportedOperationException 总是抛出
+         */
+        @Override
+        public LogicTable<T> materialize() {
+            throw new UnsupportedOperationException("公用表不支持物化为临时表：" + name);
+        }
+
+        @Override
+        public String getTable() {
+            return name;
+        }
+
+        /**
+         * 获取需要在WITH子句中声明的公用表，作为最外层查询时需要声明自身。<br />
+         * 自身的定义可能引用其他公用表，因此先声明其他公用表，最后声明自身
+         *
+         * @return java.util.List<top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.CommonTable<?>>
+         * @author huangchengxing
+         * @date 2026/10/19 20:10
+         */
+        @Override
+        public List<CommonTable<?>> getCommonTables() {
+            List<CommonTable<?>> tables = new ArrayList<>(commonTables.size() + 1);
+            tables.addAll(commonTables);
+            tables.add(this);
+            return tables;
+        }
+
+    }
+
+    /**
+     * 由多个查询的合并结果组成的逻辑表，比如“((SELECT ...) UNION ALL (SELECT ...)) t1”
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 20:00
+     * @see JoinWrapper#union(JoinWrapper)
+     * @see JoinWrapper#unionAll(JoinWrapper)
+     */
+    public static class UnionTable<T> extends LogicTable<T> {
+
+        private final JoinWrapper<?, T> first;
+        private final List<String> columnNames;
+        private final List<String> keywords = new ArrayList<>();
+        private final List<JoinWrapper<?, T>> others = new ArrayList<>();
+
+        protected UnionTable(JoinWrapper<?, T> first) {
+            super(first);
+            this.first = first;
+            this.columnNames = first.getSelectColumnNames();
+        }
+
+        /**
+         * 继续合并另一查询的结果并去重
+         *
+         * @param other 要合并的查询
+         * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.UnionTable<T>
+         * @throws IllegalArgumentException 当查询字段与第一个查询不一致时抛出
+         * @author huangchengxing
+         * @date 2026/10/19 20:00
+         */
+        @Override
+        public UnionTable<T> union(@Nonnull JoinWrapper<?, T> other) {
+            return addUnion(ExtendConstants.UNION, other);
+        }
+
+        /**
+         * 继续合并另一查询的结果且不去重
+         *
+         * @param other 要合并的查询
+         * @return top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper.UnionTable<T>
+         * @throws IllegalArgumentException 当查询字段与第一个查询不一致时抛出
+         * @author huangchengxing
+         * @date 2026/10/19 20:00
+         */
+        @Override
+        public UnionTable<T> unionAll(@Nonnull JoinWrapper<?, T> other) {
+            return addUnion(ExtendConstants.UNION_ALL, other);
+        }
+
+        private UnionTable<T> addUnion(String keyword, JoinWrapper<?, T> other) {
+            List<String> otherColumnNames = other.getSelectColumnNames();
+            Assert.isTrue(
+                columnNames.equals(otherColumnNames), "合并的查询字段{}与{}不一致", otherColumnNames, columnNames
+            );
+            keywords.add(keyword);
+            others.add(other);
+            queryShape.appendStructure(keyword, SqlUtils.concatBrackets(other.getShapeId()));
+            invalidateTableDependencies();
+            return this;
+        }
+
+        /**
+         * 获取“((SELECT ...) UNION (SELECT ...))”格式的查询语句，各查询的参数将绑定到当前查询中
+         *
+         * @return java.lang.String
+         * @author huangchengxing
+         * @date 2026/10/19 20:00
+         */
+        @Override
+        public String getLogicTableSql() {
+            StringBuilder sql = new StringBuilder(SqlUtils.concatBrackets(toNestedSql(first)));
+            for (int i = 0; i < others.size(); i++) {
+                sql.append(ExtendConstants.SPACE).append(keywords.get(i))
+                    .append(ExtendConstants.SPACE).append(SqlUtils.concatBrackets(toNestedSql(others.get(i))));
+            }
+            return SqlUtils.concatBrackets(sql.toString());
+        }
+
+        @Override
+        protected void collectLogicTables(List<LogicTable<?>> logicTables, Set<JoinWrapper<?, ?>> visited) {
+            super.collectLogicTables(logicTables, visited);
+            others.forEach(other -> other.collectLogicTables(logicTables, visited));
+        }
+
+        @Override
+        protected void collectTableDependencies(Map<String, Set<TableRole>> dependencies, boolean nested, Set<JoinWrapper<?, ?>> visited) {
+            super.collectTableDependencies(dependencies, nested, visited);
+            others.forEach(other -> other.collectTableDependencies(dependencies, true, visited));
         }
 
     }
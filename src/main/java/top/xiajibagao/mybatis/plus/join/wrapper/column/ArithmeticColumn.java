@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
 import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
 import top.xiajibagao.mybatis.plus.join.wrapper.interfaces.ColumnSegment;
+import top.xiajibagao.mybatis.plus.join.wrapper.segment.QueryShape;
 
 /**
  * 加减乘除字段，如原字段“a.age concatAs actualAge”，包装后转为：“(a.age + 18) concatAs actualAge”
@@ -38,6 +39,11 @@ public class ArithmeticColumn implements ColumnSegment {
         );
     }
 
+    @Override
+    public String getShape() {
+        return SqlUtils.concatBrackets(SqlUtils.space(left.getShape(), operator, QueryShape.of(right)));
+    }
+
     @Override
     public String toString() {
         return getSqlSegment();
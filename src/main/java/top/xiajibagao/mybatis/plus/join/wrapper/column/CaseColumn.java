@@ -145,6 +145,25 @@ public class CaseColumn<T extends ColumnQuery<?, ?, ?, ?>> implements ColumnSegm
         ));
     }
 
+    /**
+     * 获取字段的结构，分支仅计入数量
+     *
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    @Override
+    public String getShape() {
+        return SqlUtils.space(
+            FuncKeyword.CASE.getSqlSegment(),
+            onlyMatchingValue ? column.getShape() : null,
+            String.valueOf(whenConditions.size()),
+            Objects.nonNull(elseCondition) ? FuncKeyword.ELSE.getSqlSegment() : null,
+            FuncKeyword.END.getSqlSegment(),
+            alisa
+        );
+    }
+
     @Getter
     @RequiredArgsConstructor
     private static class CaseCondition implements ISqlSegment {
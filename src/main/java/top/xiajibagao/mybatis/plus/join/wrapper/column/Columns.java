@@ -154,6 +154,32 @@ public class Columns {
         return new FuncColumn(FuncKeyword.UPPER, column);
     }
 
+    // ============================= 窗口函数 =============================
+
+    public static WindowColumn rowNumber() {
+        return new WindowColumn(new FuncColumn(FuncKeyword.ROW_NUMBER));
+    }
+
+    public static WindowColumn rank() {
+        return new WindowColumn(new FuncColumn(FuncKeyword.RANK));
+    }
+
+    public static WindowColumn denseRank() {
+        return new WindowColumn(new FuncColumn(FuncKeyword.DENSE_RANK));
+    }
+
+    public static WindowColumn lag(@Nonnull ColumnSegment column, int offset) {
+        return new WindowColumn(new FuncColumn(FuncKeyword.LAG, column, () -> String.valueOf(offset)));
+    }
+
+    public static WindowColumn lead(@Nonnull ColumnSegment column, int offset) {
+        return new WindowColumn(new FuncColumn(FuncKeyword.LEAD, column, () -> String.valueOf(offset)));
+    }
+
+    public static WindowColumn sumOver(@Nonnull ColumnSegment column) {
+        return new WindowColumn(new FuncColumn(FuncKeyword.SUM, column));
+    }
+
     // ============================= 其他 =============================
 
     public static SubColumn subQuery(@Nonnull JoinWrapper<?, ?> tableSegment) {
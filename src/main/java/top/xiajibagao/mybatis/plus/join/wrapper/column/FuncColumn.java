@@ -10,6 +10,7 @@ import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
 import top.xiajibagao.mybatis.plus.join.constants.FuncKeyword;
 import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
 import top.xiajibagao.mybatis.plus.join.wrapper.interfaces.ColumnSegment;
+import top.xiajibagao.mybatis.plus.join.wrapper.segment.QueryShape;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -61,6 +62,14 @@ public class FuncColumn implements ColumnSegment {
             .collect(Collectors.joining(ExtendConstants.COMMA_SPACE));
     }
 
+    @Override
+    public String getShape() {
+        String argShapes = args.stream()
+            .map(QueryShape::of)
+            .collect(Collectors.joining(ExtendConstants.COMMA_SPACE));
+        return SqlUtils.space(keyword.getSqlSegment() + SqlUtils.concatBrackets(argShapes), alisa);
+    }
+
     @Override
     public String toString() {
         return getSqlSegment();
@@ -7,6 +7,8 @@ import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
 import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
 import top.xiajibagao.mybatis.plus.join.wrapper.interfaces.ColumnSegment;
 
+import java.util.Objects;
+
 /**
  * 子查询字段
  *
@@ -22,9 +24,22 @@ public class SubColumn implements ColumnSegment {
     @Setter
     private String alisa;
 
+    /**
+     * 获取"(select * from A)"格式的子查询，若当前正在生成外层查询的sql，则子查询的参数将绑定到外层查询中
+     *
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 16:20
+     */
     @Override
     public String getColumn() {
-        return SqlUtils.concatBrackets(SqlUtils.wrapperToSql(wrapper));
+        JoinWrapper<?, ?> owner = JoinWrapper.getRenderingWrapper();
+        return SqlUtils.concatBrackets(Objects.isNull(owner) ? SqlUtils.wrapperToSql(wrapper) : owner.toNestedSql(wrapper));
+    }
+
+    @Override
+    public String getShape() {
+        return SqlUtils.space(SqlUtils.concatBrackets(wrapper.getShapeId()), alisa);
     }
 
 }
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
+import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
 import top.xiajibagao.mybatis.plus.join.wrapper.interfaces.ColumnSegment;
 import top.xiajibagao.mybatis.plus.join.wrapper.interfaces.TableSegment;
 
@@ -36,6 +37,11 @@ public class TableColumn implements ColumnSegment {
         return table.getTableIfNonAlisa() + ExtendConstants.DOT + column;
     }
 
+    @Override
+    public String getShape() {
+        return SqlUtils.space(getSqlSegment(), alisa);
+    }
+
     @Override
     public String toString() {
         return getSqlSegment();
@@ -0,0 +1,109 @@
+package top.xiajibagao.mybatis.plus.join.wrapper.column;
+
+import com.baomidou.mybatisplus.core.conditions.ISqlSegment;
+import com.baomidou.mybatisplus.core.enums.SqlKeyword;
+import lombok.Getter;
+import lombok.Setter;
+import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
+import top.xiajibagao.mybatis.plus.join.constants.FuncKeyword;
+import top.xiajibagao.mybatis.plus.join.helper.SqlUtils;
+import top.xiajibagao.mybatis.plus.join.wrapper.interfaces.ColumnSegment;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 窗口函数字段，比如“ROW_NUMBER() OVER (PARTITION BY t1.student_id ORDER BY t1.score DESC)”
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 17:00
+ */
+@Getter
+public class WindowColumn implements ColumnSegment {
+
+    private final FuncColumn function;
+    private final List<ColumnSegment> partitionColumns = new ArrayList<>();
+    private final List<ISqlSegment> orderColumns = new ArrayList<>();
+    @Setter
+    private String alisa;
+
+    public WindowColumn(@Nonnull FuncColumn function) {
+        this.function = function;
+        this.alisa = function.getAlisa();
+    }
+
+    /**
+     * 窗口分区字段
+     *
+     * @param columns 字段
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.column.WindowColumn
+     * @author huangchengxing
+     * @date 2026/10/19 17:00
+     */
+    public WindowColumn partitionBy(@Nonnull ColumnSegment... columns) {
+        partitionColumns.addAll(Arrays.asList(columns));
+        return this;
+    }
+
+    /**
+     * 窗口排序字段
+     *
+     * @param isAsc 是否升序
+     * @param columns 字段
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.column.WindowColumn
+     * @author huangchengxing
+     * @date 2026/10/19 17:00
+     */
+    public WindowColumn orderBy(boolean isAsc, @Nonnull ColumnSegment... columns) {
+        SqlKeyword direction = isAsc ? SqlKeyword.ASC : SqlKeyword.DESC;
+        for (ColumnSegment column : columns) {
+            orderColumns.add(() -> SqlUtils.space(column, direction));
+        }
+        return this;
+    }
+
+    public WindowColumn orderByAsc(@Nonnull ColumnSegment... columns) {
+        return orderBy(true, columns);
+    }
+
+    public WindowColumn orderByDesc(@Nonnull ColumnSegment... columns) {
+        return orderBy(false, columns);
+    }
+
+    @Override
+    public String getColumn() {
+        String window = SqlUtils.space(
+            partitionColumns.isEmpty() ? null : SqlUtils.space(ExtendConstants.PARTITION_BY, SqlUtils.concatSegment(ExtendConstants.COMMA_SPACE, partitionColumns)),
+            orderColumns.isEmpty() ? null : SqlUtils.space(SqlKeyword.ORDER_BY.getSqlSegment(), SqlUtils.concatSegment(ExtendConstants.COMMA_SPACE, orderColumns))
+        );
+        return SqlUtils.space(function.getColumn(), FuncKeyword.OVER.getSqlSegment(), SqlUtils.concatBrackets(window));
+    }
+
+    /**
+     * 获取字段的结构，排序字段仅计入数量
+     *
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    @Override
+    public String getShape() {
+        return SqlUtils.space(
+            function.getShape(), FuncKeyword.OVER.getSqlSegment(),
+            SqlUtils.concatBrackets(SqlUtils.space(
+                partitionColumns.stream().map(ColumnSegment::getShape).collect(Collectors.joining(ExtendConstants.COMMA_SPACE)),
+                String.valueOf(orderColumns.size())
+            )),
+            alisa
+        );
+    }
+
+    @Override
+    public String toString() {
+        return getSqlSegment();
+    }
+
+}
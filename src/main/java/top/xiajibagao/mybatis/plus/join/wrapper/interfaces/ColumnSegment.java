@@ -77,4 +77,16 @@ public interface ColumnSegment extends ISqlSegment {
         return getColumn();
     }
 
+    /**
+     * 获取字段的结构，用于计算查询的结构指纹，结构中不应包括常量值。默认为“类名 别名”
+     *
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     * @see top.xiajibagao.mybatis.plus.join.wrapper.segment.QueryShape
+     */
+    default String getShape() {
+        return SqlUtils.space(getClass().getSimpleName(), getAlisa());
+    }
+
 }
@@ -5,7 +5,9 @@ import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
 import top.xiajibagao.mybatis.plus.join.constants.FuncKeyword;
 import top.xiajibagao.mybatis.plus.join.wrapper.column.ArithmeticColumn;
 import top.xiajibagao.mybatis.plus.join.wrapper.column.CaseColumn;
+import top.xiajibagao.mybatis.plus.join.wrapper.column.Columns;
 import top.xiajibagao.mybatis.plus.join.wrapper.column.FuncColumn;
+import top.xiajibagao.mybatis.plus.join.wrapper.column.WindowColumn;
 
 /**
  * 基于{@link ColumnQuery}，提供使用内置函数的字段查询。该接口主要用于提供默认实现
@@ -334,6 +336,124 @@ public interface FuncColumnSelect<P, T extends P, R extends P, C extends FuncCol
         return select(funcColumn);
     }
 
+    // ============================= 窗口函数 =============================
+
+    /**
+     * 效果同：<code>ROW_NUMBER() OVER (PARTITION BY partitionColumn ORDER BY orderColumn ASC/DESC) concatAs alisa</code>
+     *
+     * @param partitionColumn 分区字段
+     * @param orderColumn 排序字段
+     * @param isAsc 是否升序
+     * @param alisa 别名
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 17:10
+     */
+    default C rowNumber(T partitionColumn, T orderColumn, boolean isAsc, R alisa) {
+        WindowColumn windowColumn = Columns.rowNumber()
+            .partitionBy(toTableColumn(partitionColumn))
+            .orderBy(isAsc, toTableColumn(orderColumn));
+        windowColumn.setAlisa(toStringColumn(alisa));
+        return select(windowColumn);
+    }
+
+    /**
+     * 效果同：<code>RANK() OVER (PARTITION BY partitionColumn ORDER BY orderColumn ASC/DESC) concatAs alisa</code>
+     *
+     * @param partitionColumn 分区字段
+     * @param orderColumn 排序字段
+     * @param isAsc 是否升序
+     * @param alisa 别名
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 17:10
+     */
+    default C rank(T partitionColumn, T orderColumn, boolean isAsc, R alisa) {
+        WindowColumn windowColumn = Columns.rank()
+            .partitionBy(toTableColumn(partitionColumn))
+            .orderBy(isAsc, toTableColumn(orderColumn));
+        windowColumn.setAlisa(toStringColumn(alisa));
+        return select(windowColumn);
+    }
+
+    /**
+     * 效果同：<code>DENSE_RANK() OVER (PARTITION BY partitionColumn ORDER BY orderColumn ASC/DESC) concatAs alisa</code>
+     *
+     * @param partitionColumn 分区字段
+     * @param orderColumn 排序字段
+     * @param isAsc 是否升序
+     * @param alisa 别名
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 17:10
+     */
+    default C denseRank(T partitionColumn, T orderColumn, boolean isAsc, R alisa) {
+        WindowColumn windowColumn = Columns.denseRank()
+            .partitionBy(toTableColumn(partitionColumn))
+            .orderBy(isAsc, toTableColumn(orderColumn));
+        windowColumn.setAlisa(toStringColumn(alisa));
+        return select(windowColumn);
+    }
+
+    /**
+     * 效果同：<code>LAG(column, offset) OVER (PARTITION BY partitionColumn ORDER BY orderColumn) concatAs alisa</code>
+     *
+     * @param column 字段
+     * @param offset 偏移行数
+     * @param partitionColumn 分区字段
+     * @param orderColumn 排序字段
+     * @param alisa 别名
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 17:10
+     */
+    default C lag(T column, int offset, T partitionColumn, T orderColumn, R alisa) {
+        WindowColumn windowColumn = Columns.lag(toTableColumn(column), offset)
+            .partitionBy(toTableColumn(partitionColumn))
+            .orderByAsc(toTableColumn(orderColumn));
+        windowColumn.setAlisa(toStringColumn(alisa));
+        return select(windowColumn);
+    }
+
+    /**
+     * 效果同：<code>LEAD(column, offset) OVER (PARTITION BY partitionColumn ORDER BY orderColumn) concatAs alisa</code>
+     *
+     * @param column 字段
+     * @param offset 偏移行数
+     * @param partitionColumn 分区字段
+     * @param orderColumn 排序字段
+     * @param alisa 别名
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 17:10
+     */
+    default C lead(T column, int offset, T partitionColumn, T orderColumn, R alisa) {
+        WindowColumn windowColumn = Columns.lead(toTableColumn(column), offset)
+            .partitionBy(toTableColumn(partitionColumn))
+            .orderByAsc(toTableColumn(orderColumn));
+        windowColumn.setAlisa(toStringColumn(alisa));
+        return select(windowColumn);
+    }
+
+    /**
+     * 累计求和，效果同：<code>SUM(column) OVER (PARTITION BY partitionColumn ORDER BY orderColumn) concatAs alisa</code>
+     *
+     * @param column 字段
+     * @param partitionColumn 分区字段
+     * @param orderColumn 排序字段
+     * @param alisa 别名
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 17:10
+     */
+    default C sumOver(T column, T partitionColumn, T orderColumn, R alisa) {
+        WindowColumn windowColumn = Columns.sumOver(toTableColumn(column))
+            .partitionBy(toTableColumn(partitionColumn))
+            .orderByAsc(toTableColumn(orderColumn));
+        windowColumn.setAlisa(toStringColumn(alisa));
+        return select(windowColumn);
+    }
+
     // ============================= 字符串函数 =============================
 
     /**
@@ -32,4 +32,30 @@ public interface PredicateFunc <C, R> extends Func<C, R> {
         return notIn(CollUtil::isNotEmpty, column, val);
     }
 
+    // ========================= in array =========================
+
+    /**
+     * 字段 = ANY(数组)，所有值作为一个数组参数绑定
+     *
+     * @param condition 是否生效
+     * @param column 字段
+     * @param val 值
+     * @return C
+     * @author huangchengxing
+     * @date 2026/10/19 18:20
+     */
+    C inArray(boolean condition, R column, Collection<?> val);
+
+    default C inArray(R column, Collection<?> val) {
+        return inArray(true, column, val);
+    }
+
+    default <V extends Collection<?>> C inArray(Predicate<V> condition, R column, V val) {
+        return inArray(condition.test(val), column, val);
+    }
+
+    default <V extends Collection<?>> C inArrayIfNotEmpty(R column, V val) {
+        return inArray(CollUtil::isNotEmpty, column, val);
+    }
+
 }
@@ -0,0 +1,54 @@
+package top.xiajibagao.mybatis.plus.join.wrapper.segment;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 分页条件，记录条数与偏移量在条件构造器中绑定的参数名，
+ * 与{@link com.baomidou.mybatisplus.core.conditions.SharedString}一样在主表与关联表间共享
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 15:50
+ */
+@Getter
+@Setter
+public class LimitSegment implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 条数参数名
+     */
+    private String limitParam;
+
+    /**
+     * 偏移量参数名，为空时不偏移
+     */
+    private String offsetParam;
+
+    /**
+     * 是否未设置分页条件
+     *
+     * @return boolean
+     * @author huangchengxing
+     * @date 2026/10/19 15:50
+     */
+    public boolean isEmpty() {
+        return Objects.isNull(limitParam);
+    }
+
+    /**
+     * 清空分页条件
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 15:50
+     */
+    public void clear() {
+        limitParam = null;
+        offsetParam = null;
+    }
+
+}
@@ -0,0 +1,155 @@
+package top.xiajibagao.mybatis.plus.join.wrapper.segment;
+
+import com.baomidou.mybatisplus.core.conditions.ISqlSegment;
+import top.xiajibagao.mybatis.plus.join.wrapper.AbstractDynamicResultWrapper;
+import top.xiajibagao.mybatis.plus.join.wrapper.interfaces.ColumnSegment;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 查询结构，在构建条件构造器的过程中逐步累加表、关联方式、关联条件、查询字段、条件运算符与分桶后的参数数量，
+ * 但不包括参数值，因此仅参数值不同的查询具有相同的结构指纹。<br />
+ * 结构分为表结构与条件两部分，前者包括主表、关联表、查询字段与公用表，后者包括查询条件、排序与分组等，
+ * 清空条件构造器时仅清空后者。与{@link LimitSegment}一样在主表与关联表间共享
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 21:40
+ * @see AbstractDynamicResultWrapper#getShapeId()
+ */
+public class QueryShape implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 64位FNV-1a哈希的初始值与素数
+     */
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    /**
+     * 参数值在结构中的占位符
+     */
+    public static final String PARAM = "?";
+
+    private long structure = OFFSET_BASIS;
+    private long conditions = OFFSET_BASIS;
+
+    /**
+     * 累加表结构
+     *
+     * @param tokens 结构片段
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    public void appendStructure(Object... tokens) {
+        for (Object token : tokens) {
+            structure = fold(structure, token);
+        }
+    }
+
+    /**
+     * 累加条件
+     *
+     * @param tokens 结构片段
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    public void appendCondition(Object... tokens) {
+        for (Object token : tokens) {
+            conditions = fold(conditions, token);
+        }
+    }
+
+    /**
+     * 获取结构指纹，即16位十六进制字符串
+     *
+     * @param tails 不随构建过程累加，而是在获取时追加的结构片段，比如分页条件
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    public String getId(Object... tails) {
+        long hash = fold(structure, Long.toHexString(conditions));
+        for (Object tail : tails) {
+            hash = fold(hash, tail);
+        }
+        String id = Long.toHexString(hash);
+        return id.length() < 16 ? String.format("%16s", id).replace(' ', '0') : id;
+    }
+
+    /**
+     * 复制当前结构，副本与当前结构各自累加
+     *
+     * @return top.xiajibagao.mybatis.plus.join.wrapper.segment.QueryShape
+     * @author huangchengxing
+     * @date 2026/10/19 23:50
+     */
+    public QueryShape copy() {
+        QueryShape copy = new QueryShape();
+        copy.structure = structure;
+        copy.conditions = conditions;
+        return copy;
+    }
+
+    /**
+     * 清空条件
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    public void clearConditions() {
+        conditions = OFFSET_BASIS;
+    }
+
+    /**
+     * 获取sql片段的结构：
+     * <ul>
+     *     <li>{@link ColumnSegment}：使用{@link ColumnSegment#getShape()}；</li>
+     *     <li>枚举，比如{@link com.baomidou.mybatisplus.core.enums.SqlKeyword}：使用枚举名；</li>
+     *     <li>嵌套的条件构造器：使用其结构指纹；</li>
+     *     <li>其他片段：视为参数值，使用{@link #PARAM}；</li>
+     * </ul>
+     *
+     * @param segment sql片段
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    public static String of(ISqlSegment segment) {
+        if (segment instanceof ColumnSegment) {
+            return ((ColumnSegment) segment).getShape();
+        }
+        if (segment instanceof Enum) {
+            return ((Enum<?>) segment).name();
+        }
+        if (segment instanceof AbstractDynamicResultWrapper) {
+            return "(" + ((AbstractDynamicResultWrapper<?, ?, ?>) segment).getShapeId() + ")";
+        }
+        return PARAM;
+    }
+
+    /**
+     * 将参数数量按2的幂次分桶，比如3个与4个参数都属于“4”
+     *
+     * @param count 参数数量
+     * @return int
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    public static int bucket(int count) {
+        return count <= 1 ? count : Integer.highestOneBit(count - 1) << 1;
+    }
+
+    private static long fold(long hash, Object token) {
+        String value = Objects.toString(token);
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= PRIME;
+        }
+        // 分隔相邻的片段，避免“ab”+“c”与“a”+“bc”相同
+        hash ^= 0x1F;
+        return hash * PRIME;
+    }
+
+}
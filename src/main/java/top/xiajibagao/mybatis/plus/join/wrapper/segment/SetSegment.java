@@ -0,0 +1,47 @@
+package top.xiajibagao.mybatis.plus.join.wrapper.segment;
+
+import com.baomidou.mybatisplus.core.conditions.ISqlSegment;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import top.xiajibagao.mybatis.plus.join.constants.ExtendConstants;
+import top.xiajibagao.mybatis.plus.join.wrapper.interfaces.TableSegment;
+
+/**
+ * 更新语句中的赋值片段，比如“t1.score = #{ew.paramNameValuePairs.MPGENVAL1}”
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 19:20
+ */
+@Getter
+@RequiredArgsConstructor
+public class SetSegment {
+
+    /**
+     * 字段所属的表
+     */
+    private final TableSegment table;
+
+    /**
+     * 字段名，不带表别名
+     */
+    private final String column;
+
+    /**
+     * 值
+     */
+    private final ISqlSegment value;
+
+    /**
+     * 获取赋值片段
+     *
+     * @param withAlisa 字段是否带有表别名
+     * @return java.lang.String
+     * @author huangchengxing
+     * @date 2026/10/19 19:20
+     */
+    public String getSqlSegment(boolean withAlisa) {
+        String target = withAlisa ? table.getAlisa() + ExtendConstants.DOT + column : column;
+        return target + ExtendConstants.EQ + value.getSqlSegment();
+    }
+
+}
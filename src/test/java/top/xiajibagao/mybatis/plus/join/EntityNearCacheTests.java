@@ -0,0 +1,55 @@
+package top.xiajibagao.mybatis.plus.join;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import top.xiajibagao.mybatis.plus.join.cache.EntityNearCache;
+import top.xiajibagao.mybatis.plus.join.example.model.CourseDO;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 实体缓存的单元测试，无需连接数据库
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 23:00
+ */
+class EntityNearCacheTests {
+
+    @AfterEach
+    void unregister() {
+        EntityNearCache.unregister(CourseDO.class);
+    }
+
+    /**
+     * 批量查询时，数据的key与查询的key不相等则不缓存结果
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 23:00
+     */
+    @Test
+    void testSelectBatchWithUnmatchedKeys() {
+        EntityNearCache cache = EntityNearCache.register(CourseDO.class);
+        // 大小写不敏感的排序规则下，查询“math”将返回名称为“MATH”的数据
+        List<CourseDO> courses = cache.selectBatch(
+            Arrays.asList("physics", "math"), "name", CourseDO::getName,
+            keys -> Arrays.asList(new CourseDO().setName("MATH"), new CourseDO().setName("physics"))
+        );
+        Assertions.assertEquals(
+            Arrays.asList("MATH", "physics"),
+            courses.stream().map(CourseDO::getName).collect(Collectors.toList())
+        );
+        Assertions.assertEquals(0, cache.size());
+
+        // key全部相等时缓存结果，未查询到数据的key也会被缓存
+        courses = cache.selectBatch(
+            Arrays.asList("physics", "math"), "name", CourseDO::getName,
+            keys -> Arrays.asList(new CourseDO().setName("physics"))
+        );
+        Assertions.assertEquals(1, courses.size());
+        Assertions.assertEquals(2, cache.size());
+    }
+
+}
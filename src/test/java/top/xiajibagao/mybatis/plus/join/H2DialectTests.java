@@ -0,0 +1,874 @@
+package top.xiajibagao.mybatis.plus.join;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import com.baomidou.mybatisplus.core.exceptions.MybatisPlusException;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import top.xiajibagao.mybatis.plus.join.cache.EntityNearCache;
+import top.xiajibagao.mybatis.plus.join.cache.JoinIdentityMap;
+import top.xiajibagao.mybatis.plus.join.config.ExtendGlobalConfig;
+import top.xiajibagao.mybatis.plus.join.constants.Condition;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialect;
+import top.xiajibagao.mybatis.plus.join.dialect.JoinDialects;
+import top.xiajibagao.mybatis.plus.join.example.mapper.CourseMapper;
+import top.xiajibagao.mybatis.plus.join.example.mapper.ScoreMapper;
+import top.xiajibagao.mybatis.plus.join.example.mapper.StudentMapper;
+import top.xiajibagao.mybatis.plus.join.example.model.CourseDO;
+import top.xiajibagao.mybatis.plus.join.example.model.ExampleResult;
+import top.xiajibagao.mybatis.plus.join.example.model.ScoreDO;
+import top.xiajibagao.mybatis.plus.join.example.model.StudentDO;
+import top.xiajibagao.mybatis.plus.join.extend.ChunkProgress;
+import top.xiajibagao.mybatis.plus.join.extend.JoinBatch;
+import top.xiajibagao.mybatis.plus.join.extend.JoinPageIterator;
+import top.xiajibagao.mybatis.plus.join.helper.BatchUtils;
+import top.xiajibagao.mybatis.plus.join.metrics.JmxJoinMetricsExporter;
+import top.xiajibagao.mybatis.plus.join.metrics.JoinMetricsRegistry;
+import top.xiajibagao.mybatis.plus.join.metrics.JoinQueryMetricsSnapshot;
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+import top.xiajibagao.mybatis.plus.join.wrapper.column.Columns;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 基于H2内存数据库的测试，用于验证MySQL以外的方言，表结构与数据见“h2/schema.sql”与“h2/data.sql”
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 18:20
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.druid.driver-class-name=org.h2.Driver",
+    "spring.datasource.druid.url=jdbc:h2:mem:mybatis-plus-join;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.druid.username=sa",
+    "spring.datasource.druid.password=",
+    "spring.datasource.schema=classpath:h2/schema.sql",
+    "spring.datasource.data=classpath:h2/data.sql",
+    "spring.datasource.initialization-mode=always",
+    "spring.datasource.sql-script-encoding=UTF-8"
+})
+class H2DialectTests {
+
+    @Autowired
+    private StudentMapper studentMapper;
+
+    @Autowired
+    private ScoreMapper scoreMapper;
+
+    @Autowired
+    private CourseMapper courseMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JoinMetricsRegistry joinMetricsRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * 数组参数
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 18:20
+     */
+    @Test
+    void testInArray() {
+        // SELECT t1.* FROM score t1 WHERE (t1.id = ANY(?)) ORDER BY t1.id ASC
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        wrapper.setDialect(JoinDialects.H2);
+        wrapper.selectAll()
+            .inArray(ScoreDO::getId, Arrays.asList(5, 1, 3))
+            .orderByAsc(ScoreDO::getId);
+        Assertions.assertTrue(wrapper.getSqlSegment().contains("= ANY("));
+        List<Integer> actual = scoreMapper.selectListJoin(wrapper).stream().map(ExampleResult::getId).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(1, 3, 5), actual);
+
+        // 空数组
+        wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        wrapper.setDialect(JoinDialects.H2);
+        wrapper.selectAll().inArray(ScoreDO::getId, Collections.emptyList());
+        Assertions.assertTrue(scoreMapper.selectListJoin(wrapper).isEmpty());
+
+        // 不支持数组参数时分块退化为IN：SELECT t1.* FROM score t1 WHERE ((t1.id IN (?, ?) OR t1.id IN (?))) ORDER BY t1.id ASC
+        int batchKeySize = ExtendGlobalConfig.getBatchKeySize();
+        ExtendGlobalConfig.setBatchKeySize(2);
+        try {
+            wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+            wrapper.setDialect(JoinDialects.MYSQL);
+            wrapper.selectAll()
+                .inArray(ScoreDO::getId, Arrays.asList(5, 1, 3))
+                .orderByAsc(ScoreDO::getId);
+            Assertions.assertEquals(2, CharSequenceUtil.count(wrapper.getSqlSegment(), "IN ("));
+            actual = scoreMapper.selectListJoin(wrapper).stream().map(ExampleResult::getId).collect(Collectors.toList());
+            Assertions.assertEquals(Arrays.asList(1, 3, 5), actual);
+        } finally {
+            ExtendGlobalConfig.setBatchKeySize(batchKeySize);
+        }
+    }
+
+    /**
+     * 临时表
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 18:40
+     */
+    @Test
+    void testInTempTable() {
+        int threshold = ExtendGlobalConfig.getTempTableThreshold();
+        ExtendGlobalConfig.setTempTableThreshold(3);
+        try {
+            // SELECT t1.* FROM score t1 INNER JOIN tmp_join_keys_integer_1 t2 ON t1.id = t2.key_value ORDER BY t1.id ASC
+            JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+            wrapper.setDialect(JoinDialects.H2);
+            wrapper.selectAll()
+                .inTempTable(ScoreDO::getId, Arrays.asList(9, 2, 4, 2))
+                .orderByAsc(ScoreDO::getId);
+            Assertions.assertEquals(1, wrapper.getTempKeyTables().size());
+            Assertions.assertEquals("tmp_join_keys_integer_1", wrapper.getTempKeyTables().get(0).getTableName());
+            List<Integer> actual = scoreMapper.selectListJoin(wrapper).stream().map(ExampleResult::getId).collect(Collectors.toList());
+            Assertions.assertEquals(Arrays.asList(2, 4, 9), actual);
+            // 临时表在查询结束后清空，再次查询时复用
+            Assertions.assertEquals(3, scoreMapper.selectListJoin(wrapper).size());
+
+            // 相同结构的查询生成相同的sql，且不会读到上次查询写入的key
+            JoinWrapper<ScoreDO, ExampleResult> other = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+            other.setDialect(JoinDialects.H2);
+            other.selectAll()
+                .inTempTable(ScoreDO::getId, Arrays.asList(1, 3, 5))
+                .orderByAsc(ScoreDO::getId);
+            Assertions.assertEquals(wrapper.getSqlJoin(), other.getSqlJoin());
+            actual = scoreMapper.selectListJoin(other).stream().map(ExampleResult::getId).collect(Collectors.toList());
+            Assertions.assertEquals(Arrays.asList(1, 3, 5), actual);
+
+            // 低于阈值时使用IN条件
+            wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+            wrapper.setDialect(JoinDialects.H2);
+            wrapper.selectAll().inTempTable(ScoreDO::getId, Arrays.asList(9, 2));
+            Assertions.assertTrue(wrapper.getTempKeyTables().isEmpty());
+            Assertions.assertEquals(2, scoreMapper.selectListJoin(wrapper).size());
+        } finally {
+            ExtendGlobalConfig.setTempTableThreshold(threshold);
+        }
+    }
+
+    /**
+     * 多行批量插入与批量插入或更新
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 19:00
+     */
+    @Test
+    void testInsertAndUpsertBatch() {
+        JoinDialect dialect = ExtendGlobalConfig.getDialect();
+        int insertBatchSize = ExtendGlobalConfig.getInsertBatchSize();
+        ExtendGlobalConfig.setDialect(JoinDialects.H2);
+        ExtendGlobalConfig.setInsertBatchSize(2);
+        List<ScoreDO> scores = Arrays.asList(
+            new ScoreDO().setStudentId(4).setCourseId(1).setScore(60),
+            new ScoreDO().setStudentId(4).setCourseId(2).setScore(70),
+            new ScoreDO().setStudentId(4).setCourseId(3).setScore(80)
+        );
+        try {
+            // INSERT INTO score (student_id,course_id,score) VALUES (?,?,?), (?,?,?)
+            Assertions.assertEquals(3, scoreMapper.insertBatch(scores));
+            Assertions.assertTrue(scores.stream().map(ScoreDO::getId).allMatch(Objects::nonNull));
+
+            // MERGE INTO score (id,student_id,course_id,score) KEY (id) VALUES (?,?,?,?), (?,?,?,?)
+            scores.forEach(score -> score.setScore(score.getScore() + 10));
+            Assertions.assertEquals(3, scoreMapper.upsertBatch(scores));
+            JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class)
+                .selectAll()
+                .eq(ScoreDO::getStudentId, 4)
+                .orderByAsc(ScoreDO::getId);
+            List<Integer> actual = scoreMapper.selectListJoin(wrapper).stream().map(ExampleResult::getScore).collect(Collectors.toList());
+            Assertions.assertEquals(Arrays.asList(70, 80, 90), actual);
+        } finally {
+            ExtendGlobalConfig.setDialect(dialect);
+            ExtendGlobalConfig.setInsertBatchSize(insertBatchSize);
+            scoreMapper.delete(Wrappers.<ScoreDO>lambdaQuery().eq(ScoreDO::getStudentId, 4));
+        }
+    }
+
+    /**
+     * 关联更新与关联删除
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 19:20
+     */
+    @Test
+    void testUpdateAndDeleteJoin() {
+        // 支持多表更新时：UPDATE score t1 INNER JOIN course t2 ON (t1.course_id = t2.id) SET t1.score = ? WHERE (t2.name = ?)
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        wrapper.setDialect(JoinDialects.MYSQL);
+        wrapper.set(ScoreDO::getScore, 0)
+            .innerJoin(CourseDO.class)
+            .on(ScoreDO::getCourseId, Condition.EQ, CourseDO::getId)
+            .eq(CourseDO::getName, "物理");
+        Assertions.assertTrue(wrapper.getSqlUpdateJoin().startsWith("UPDATE score t1 INNER JOIN course t2"));
+        Assertions.assertTrue(wrapper.getSqlDeleteJoin().startsWith("DELETE t1 FROM score t1 INNER JOIN course t2"));
+        // 多表更新与删除语句不包含排序条件
+        wrapper.orderByAsc(ScoreDO::getId);
+        Assertions.assertFalse(wrapper.getSqlUpdateJoin().contains("ORDER BY"));
+        Assertions.assertFalse(wrapper.getSqlDeleteJoin().contains("ORDER BY"));
+        // 不支持限制条数
+        wrapper.limit(1);
+        Assertions.assertThrows(IllegalArgumentException.class, wrapper::getSqlUpdateJoin);
+        Assertions.assertThrows(IllegalArgumentException.class, wrapper::getSqlDeleteJoin);
+
+        // 不支持多表更新时，赋值不能引用关联表字段
+        JoinWrapper<ScoreDO, ExampleResult> referJoined = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        referJoined.setDialect(JoinDialects.H2);
+        JoinWrapper.JoinTable<ScoreDO, CourseDO, ExampleResult> course = referJoined.innerJoin(CourseDO.class)
+            .on(ScoreDO::getCourseId, Condition.EQ, CourseDO::getId);
+        referJoined.set(ScoreDO::getCourseId, course.toTableColumn(CourseDO::getId, null));
+        Assertions.assertThrows(IllegalArgumentException.class, referJoined::getSqlUpdateJoin);
+
+        scoreMapper.insertBatch(Arrays.asList(
+            new ScoreDO().setStudentId(4).setCourseId(1).setScore(60),
+            new ScoreDO().setStudentId(4).setCourseId(2).setScore(70)
+        ));
+        try {
+            // UPDATE score t1 SET score = ? WHERE t1.id IN (SELECT t1.id FROM score t1 INNER JOIN course t2 ON (t1.course_id = t2.id) WHERE (t1.student_id = ? AND t2.name = ?))
+            wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+            wrapper.setDialect(JoinDialects.H2);
+            wrapper.set(ScoreDO::getScore, 0)
+                .eq(ScoreDO::getStudentId, 4)
+                .innerJoin(CourseDO.class)
+                .on(ScoreDO::getCourseId, Condition.EQ, CourseDO::getId)
+                .eq(CourseDO::getName, "物理");
+            Assertions.assertEquals(1, scoreMapper.updateJoin(wrapper));
+
+            // DELETE FROM score t1 WHERE t1.id IN (SELECT t1.id FROM score t1 INNER JOIN course t2 ON (t1.course_id = t2.id) WHERE (t1.student_id = ? AND t2.name = ?))
+            wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+            wrapper.setDialect(JoinDialects.H2);
+            wrapper.eq(ScoreDO::getStudentId, 4)
+                .innerJoin(CourseDO.class)
+                .on(ScoreDO::getCourseId, Condition.EQ, CourseDO::getId)
+                .eq(CourseDO::getName, "数学");
+            Assertions.assertEquals(1, scoreMapper.deleteJoin(wrapper));
+
+            List<ScoreDO> remaining = scoreMapper.selectList(Wrappers.<ScoreDO>lambdaQuery().eq(ScoreDO::getStudentId, 4));
+            Assertions.assertEquals(1, remaining.size());
+            Assertions.assertEquals(0, remaining.get(0).getScore());
+
+            // 未关联其他表时同样忽略分组与排序条件：UPDATE score t1 SET score = ? WHERE (t1.student_id = ?)
+            wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+            wrapper.setDialect(JoinDialects.H2);
+            wrapper.set(ScoreDO::getScore, 10)
+                .eq(ScoreDO::getStudentId, 4)
+                .groupBy(ScoreDO::getId)
+                .orderByAsc(ScoreDO::getId);
+            Assertions.assertEquals(1, scoreMapper.updateJoin(wrapper));
+            Assertions.assertEquals(1, scoreMapper.deleteJoin(wrapper));
+        } finally {
+            scoreMapper.delete(Wrappers.<ScoreDO>lambdaQuery().eq(ScoreDO::getStudentId, 4));
+        }
+    }
+
+    /**
+     * 将关联查询结果插入指定表
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 19:40
+     */
+    @Test
+    void testInsertFromJoin() {
+        // INSERT INTO score (student_id,course_id,score) SELECT (t1.student_id + 3) AS student_id, t1.course_id, t1.score FROM score t1 INNER JOIN course t2 ON (t1.course_id = t2.id) WHERE (t1.student_id = ? AND t2.type = ?)
+        JoinWrapper<ScoreDO, ScoreDO> wrapper = JoinWrapper.create(ScoreDO.class, ScoreDO.class);
+        wrapper.select(Columns.plus(wrapper.toTableColumn(ScoreDO::getStudentId, null), 3), ScoreDO::getStudentId)
+            .select(ScoreDO::getCourseId)
+            .select(ScoreDO::getScore)
+            .eq(ScoreDO::getStudentId, 1)
+            .innerJoin(CourseDO.class)
+            .on(ScoreDO::getCourseId, Condition.EQ, CourseDO::getId)
+            .eq(CourseDO::getType, "理科");
+        Assertions.assertEquals("(student_id,course_id,score)", wrapper.getSqlInsertColumns());
+        try {
+            Assertions.assertEquals(2, scoreMapper.insertFromJoin(ScoreDO.class, wrapper));
+            List<ScoreDO> inserted = scoreMapper.selectList(Wrappers.<ScoreDO>lambdaQuery().eq(ScoreDO::getStudentId, 4));
+            Assertions.assertEquals(
+                Arrays.asList(95, 85),
+                inserted.stream().map(ScoreDO::getScore).collect(Collectors.toList())
+            );
+        } finally {
+            scoreMapper.delete(Wrappers.<ScoreDO>lambdaQuery().eq(ScoreDO::getStudentId, 4));
+        }
+        // 目标表只能由实体对应的TableInfo确定
+        RuntimeException ex = Assertions.assertThrows(RuntimeException.class, () -> scoreMapper.insertFromJoin(String.class, wrapper));
+        Assertions.assertTrue(ex.getMessage().contains(String.class.getName()));
+
+        JoinWrapper<ScoreDO, ScoreDO> selectAll = JoinWrapper.create(ScoreDO.class, ScoreDO.class).selectAll();
+        Assertions.assertThrows(IllegalArgumentException.class, selectAll::getSqlInsertColumns);
+    }
+
+
+    /**
+     * 批量查询，H2不支持多语句，因此将在当前线程中依次执行
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 19:50
+     */
+    @Test
+    void testSelectBatchJoin() {
+        JoinWrapper<ScoreDO, ExampleResult> listWrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        listWrapper.selectAll()
+            .eq(ScoreDO::getStudentId, 1)
+            .orderByAsc(ScoreDO::getId);
+        JoinWrapper<ScoreDO, ExampleResult> countWrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        countWrapper.ge(ScoreDO::getScore, 60);
+
+        JoinBatch batch = new JoinBatch();
+        JoinBatch.Query<List<ExampleResult>> list = batch.list(listWrapper);
+        JoinBatch.Query<Integer> count = batch.count(countWrapper);
+        Assertions.assertThrows(IllegalArgumentException.class, list::get);
+
+        scoreMapper.selectBatchJoin(batch);
+        Assertions.assertEquals(
+            Arrays.asList(1, 2, 3),
+            list.get().stream().map(ExampleResult::getId).collect(Collectors.toList())
+        );
+        Assertions.assertEquals(6, count.get());
+
+        // 查询加入当前线程的事务，可以读到事务中未提交的数据
+        transactionTemplate.execute(status -> {
+            scoreMapper.insert(new ScoreDO().setStudentId(4).setCourseId(1).setScore(60));
+            JoinBatch inTransaction = new JoinBatch();
+            JoinBatch.Query<Integer> first = inTransaction.count(countWrapper);
+            JoinBatch.Query<List<ExampleResult>> second = inTransaction.list(listWrapper);
+            scoreMapper.selectBatchJoin(inTransaction);
+            Assertions.assertEquals(7, first.get());
+            Assertions.assertEquals(3, second.get().size());
+            status.setRollbackOnly();
+            return null;
+        });
+    }
+
+    /**
+     * 物化逻辑表
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:10
+     */
+    @Test
+    void testMaterializedLogicTable() {
+        JoinDialect dialect = ExtendGlobalConfig.getDialect();
+        ExtendGlobalConfig.setDialect(JoinDialects.H2);
+        try {
+            // 挂科人数：SELECT t1.course_id AS course_id, COUNT(*) AS num FROM score t1 WHERE (t1.score < ?) GROUP BY t1.course_id
+            JoinWrapper<ScoreDO, ExampleResult> failed = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+            failed.select(ScoreDO::getCourseId, ExampleResult::getCourseId)
+                .select(Columns.count(), ExampleResult::getNum)
+                .whereIfNotNull(ScoreDO::getScore, Condition.LT, 60)
+                .groupBy(ScoreDO::getCourseId);
+            JoinWrapper.LogicTable<ExampleResult> logicTable = failed.toLogicTable().materialize();
+            Assertions.assertTrue(logicTable.isMaterialized());
+
+            transactionTemplate.execute(status -> {
+                // CREATE LOCAL TEMPORARY TABLE tmp_join_logic_1 AS SELECT * FROM (...) tmp_join_logic_1
+                // SELECT t1.* FROM tmp_join_logic_1 t1
+                Assertions.assertEquals(2, scoreMapper.selectListJoin(logicTable.selectAll()).size());
+                // 临时表按会话记录，不在查询中时仍按子查询生成sql
+                Assertions.assertFalse(logicTable.isMaterializedTableCreated());
+
+                // 临时表为首次查询时的快照，事务中后续的查询都关联临时表
+                scoreMapper.insert(new ScoreDO().setStudentId(1).setCourseId(2).setScore(40));
+                JoinWrapper<CourseDO, ExampleResult> wrapper = JoinWrapper.create(CourseDO.class, ExampleResult.class);
+                wrapper.selectAll()
+                    .innerJoin(logicTable)
+                    .on(CourseDO::getId, Condition.EQ, ExampleResult::getCourseId)
+                    .select(ExampleResult::getNum, ExampleResult::getNum);
+                wrapper.orderByAsc(CourseDO::getId);
+                List<Integer> nums = scoreMapper.selectListJoin(wrapper).stream().map(ExampleResult::getNum).collect(Collectors.toList());
+                Assertions.assertEquals(Arrays.asList(1, 2), nums);
+
+                // 新事务使用另一个连接，无法访问当前连接中的临时表，因此将创建自己的临时表
+                TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+                requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                Integer count = requiresNew.execute(nested -> scoreMapper.selectListJoin(wrapper).size());
+                Assertions.assertEquals(2, count);
+                status.setRollbackOnly();
+                return null;
+            });
+
+            // 事务结束后临时表已删除，重新按子查询执行
+            Assertions.assertFalse(logicTable.isMaterializedTableCreated());
+            Assertions.assertTrue(CharSequenceUtil.startWith(logicTable.getTable(), "("));
+            Assertions.assertEquals(2, scoreMapper.selectListJoin(logicTable).size());
+        } finally {
+            ExtendGlobalConfig.setDialect(dialect);
+        }
+    }
+
+
+    /**
+     * 游标分页与OR条件
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 22:00
+     */
+    @Test
+    void testKeysetWithOr() {
+        // SELECT t1.* FROM score t1 WHERE ((t1.student_id = ? OR t1.student_id = ?) AND t1.id > ?) ORDER BY t1.id ASC LIMIT ?
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        wrapper.selectAll()
+            .eq(ScoreDO::getStudentId, 1)
+            .or()
+            .eq(ScoreDO::getStudentId, 3);
+        List<Integer> ids = new ArrayList<>();
+        try (JoinPageIterator<ScoreDO, ExampleResult> pages = JoinPageIterator.keyset(scoreMapper, wrapper, ScoreDO::getId, ExampleResult::getId)
+            .setPageSize(2)) {
+            for (List<ExampleResult> page : pages) {
+                page.forEach(r -> ids.add(r.getId()));
+            }
+        }
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 7, 8, 9), ids);
+        Assertions.assertTrue(wrapper.getSqlSegment().contains("(t1.student_id = "));
+        Assertions.assertTrue(wrapper.getSqlSegment().contains(") AND t1.id > "));
+
+        // 游标字段必须为第一个排序字段
+        JoinWrapper<ScoreDO, ExampleResult> ordered = JoinWrapper.create(ScoreDO.class, ExampleResult.class)
+            .selectAll()
+            .orderByDesc(ScoreDO::getScore);
+        Assertions.assertThrows(IllegalArgumentException.class, ordered::keysetByPrimaryKey);
+    }
+
+    /**
+     * 放弃遍历后停止后台查询
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 22:00
+     */
+    @Test
+    void testAbandonedPageIterator() throws InterruptedException {
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class).selectAll();
+        JoinPageIterator<ScoreDO, ExampleResult> pages = JoinPageIterator.primaryKey(scoreMapper, wrapper)
+            .setPageSize(1)
+            .setIdleTimeoutMillis(100);
+        Iterator<List<ExampleResult>> iterator = pages.iterator();
+        Assertions.assertEquals(1, iterator.next().get(0).getId());
+        // 预读数据长时间未被取走，后台查询将停止
+        Thread.sleep(1000);
+        Assertions.assertEquals(2, iterator.next().get(0).getId());
+        Assertions.assertThrows(MybatisPlusException.class, iterator::hasNext);
+    }
+
+    /**
+     * 并行处理分块时不占用执行后台查询的线程池
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 23:40
+     */
+    @Test
+    void testForEachChunkWithBusyExecutor() {
+        ExecutorService producerExecutor = Executors.newSingleThreadExecutor();
+        try {
+            // 后台查询独占线程池中唯一的线程时，分块仍可以被处理
+            List<Integer> ids = Collections.synchronizedList(new ArrayList<>());
+            ChunkProgress progress = JoinPageIterator.primaryKey(scoreMapper, JoinWrapper.create(ScoreDO.class, ExampleResult.class).selectAll())
+                .setPageSize(2)
+                .setExecutor(producerExecutor)
+                .forEachChunk(2, chunk -> chunk.forEach(r -> ids.add(r.getId())), null);
+            ids.sort(Integer::compareTo);
+            Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9), ids);
+            Assertions.assertEquals(5, progress.getChunks());
+
+            // 处理分块的线程池不能与执行后台查询的线程池相同
+            JoinPageIterator<ScoreDO, ExampleResult> sameExecutor = JoinPageIterator.primaryKey(scoreMapper, JoinWrapper.create(ScoreDO.class, ExampleResult.class).selectAll())
+                .setExecutor(producerExecutor);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> sameExecutor.forEachChunk(2, producerExecutor, chunk -> {}, null));
+
+            // 处理分块时抛出的Error不会丢失
+            Error error = Assertions.assertThrows(Error.class, () -> JoinPageIterator.primaryKey(scoreMapper, JoinWrapper.create(ScoreDO.class, ExampleResult.class).selectAll())
+                .setPageSize(2)
+                .forEachChunk(2, chunk -> {
+                    throw new Error("分块处理失败");
+                }, null));
+            Assertions.assertEquals("分块处理失败", error.getMessage());
+        } finally {
+            producerExecutor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * 按方言生成分页语句
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 22:10
+     */
+    @Test
+    void testDialectLimit() {
+        // 统计条数时的扫描行数限制同样由方言生成
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        wrapper.setDialect(JoinDialects.ORACLE);
+        Assertions.assertEquals("FETCH NEXT #{countLimit} ROWS ONLY", wrapper.getSqlCountLimit());
+        wrapper.setDialect(JoinDialects.H2);
+        Assertions.assertEquals("LIMIT #{countLimit}", wrapper.getSqlCountLimit());
+        Assertions.assertEquals(3, scoreMapper.selectLimitedCountJoin(wrapper, 3));
+
+        // 嵌套条件中不包含分页语句：SELECT t1.* FROM score t1 WHERE ((t1.student_id = ? OR t1.student_id = ?)) ORDER BY t1.id ASC LIMIT ?
+        wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        wrapper.selectAll()
+            .and(w -> w.eq(ScoreDO::getStudentId, 1).or().eq(ScoreDO::getStudentId, 2))
+            .orderByAsc(ScoreDO::getId);
+        wrapper.limit(2);
+        Assertions.assertEquals(1, CharSequenceUtil.count(wrapper.getSqlSegment(), "LIMIT"));
+        List<Integer> actual = scoreMapper.selectListJoin(wrapper).stream().map(ExampleResult::getId).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(1, 2), actual);
+    }
+
+    /**
+     * 补齐IN条件的值
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 18:00
+     */
+    @Test
+    void testPadInList() {
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 3), BatchUtils.padToPowerOfTwo(Arrays.asList(1, 2, 3), 1000));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 5), BatchUtils.padToPowerOfTwo(Arrays.asList(1, 2, 3, 4, 5), 6));
+
+        // SELECT t1.* FROM score t1 WHERE (t1.id IN (?, ?, ?, ?))
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        wrapper.setPadInList(true);
+        wrapper.selectAll()
+            .in(ScoreDO::getId, Arrays.asList(1, 2, 3))
+            .orderByAsc(ScoreDO::getId);
+        Assertions.assertEquals(4, CharSequenceUtil.count(wrapper.getSqlSegment(), "#{"));
+        List<Integer> actual = scoreMapper.selectListJoin(wrapper).stream().map(ExampleResult::getId).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), actual);
+
+        // 可变参数同样补齐：SELECT t1.* FROM score t1 WHERE (t1.id NOT IN (?, ?, ?, ?))
+        wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        wrapper.setPadInList(true);
+        wrapper.selectAll().notIn(ScoreDO::getId, 1, 2, 3);
+        Assertions.assertEquals(4, CharSequenceUtil.count(wrapper.getSqlSegment(), "#{"));
+        Assertions.assertEquals(6, scoreMapper.selectListJoin(wrapper).size());
+    }
+
+    /**
+     * 公用表
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 20:10
+     */
+    @Test
+    void testCommonTable() {
+        // WITH high_score AS (SELECT t1.id, t1.student_id, t1.score FROM score t1 WHERE (t1.score >= ?))
+        // SELECT t1.* FROM high_score t1 WHERE (t1.score = (SELECT MAX(t1.score) FROM high_score t1))
+        JoinWrapper<ScoreDO, ScoreDO> highScore = JoinWrapper.create(ScoreDO.class, ScoreDO.class);
+        highScore.select(ScoreDO::getId)
+            .select(ScoreDO::getStudentId)
+            .select(ScoreDO::getScore)
+            .ge(ScoreDO::getScore, 90);
+        JoinWrapper.CommonTable<ScoreDO> table = highScore.toCommonTable("high_score");
+        JoinWrapper.CommonTable<ScoreDO> maxScore = table.reference();
+        maxScore.select(Columns.max(maxScore.toTableColumn(ScoreDO::getScore)));
+        table.selectAll()
+            .where(table.toTableColumn(ScoreDO::getScore), Condition.EQ, Columns.subQuery(maxScore));
+        // 默认的MySQL 5.7方言不支持公用表
+        Assertions.assertThrows(IllegalArgumentException.class, table::getSqlFirst);
+        table.setDialect(JoinDialects.H2);
+        Assertions.assertEquals(1, CharSequenceUtil.count(table.getSqlFirst(), "high_score"));
+
+        List<ScoreDO> actual = scoreMapper.selectListJoin(table);
+        Assertions.assertEquals(1, actual.size());
+        Assertions.assertEquals(6, actual.get(0).getId());
+
+        // WITH high_score AS (...) SELECT t1.id FROM score t1 INNER JOIN high_score t2 ON (t1.id = t2.id) WHERE (t1.student_id = ?)
+        JoinWrapper<ScoreDO, ScoreDO> wrapper = JoinWrapper.create(ScoreDO.class, ScoreDO.class);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> wrapper.with("high_score", highScore));
+        wrapper.setDialect(JoinDialects.H2);
+        JoinWrapper.CommonTable<ScoreDO> declared = wrapper.with("high_score", highScore);
+        wrapper.select(ScoreDO::getId)
+            .eq(ScoreDO::getStudentId, 1)
+            .innerJoin(declared)
+            .on(ScoreDO::getId, Condition.EQ, ScoreDO::getId);
+        Assertions.assertEquals(
+            Collections.singletonList(1),
+            scoreMapper.selectListJoin(wrapper).stream().map(ScoreDO::getId).collect(Collectors.toList())
+        );
+
+        // 方言支持时添加物化提示：WITH high_score AS MATERIALIZED (...)
+        declared.setMaterialized(true);
+        Assertions.assertFalse(wrapper.getSqlWith().contains("MATERIALIZED"));
+        wrapper.setDialect(JoinDialects.POSTGRE_SQL);
+        Assertions.assertTrue(wrapper.getSqlWith().startsWith("WITH high_score AS MATERIALIZED ("));
+
+        // 作为最外层查询的公用表引用了其他公用表时，先声明被引用的公用表：WITH high_score AS (...), top_score AS (...)
+        JoinWrapper.CommonTable<ScoreDO> topScore = JoinWrapper.create(ScoreDO.class, ScoreDO.class).toCommonTable("top_score");
+        topScore.setDialect(JoinDialects.H2);
+        JoinWrapper.CommonTable<ScoreDO> referred = topScore.with("high_score", highScore);
+        topScore.selectAll()
+            .innerJoin(referred)
+            .on(ScoreDO::getId, Condition.EQ, ScoreDO::getId);
+        String with = topScore.getSqlWith();
+        Assertions.assertTrue(with.indexOf("high_score AS") < with.indexOf("top_score AS"));
+    }
+
+    /**
+     * 查询结果缓存
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 20:20
+     */
+    @Test
+    void testResultCache() {
+        JoinWrapper<ScoreDO, ScoreDO> wrapper = JoinWrapper.create(ScoreDO.class, ScoreDO.class);
+        wrapper.setCacheable(true);
+        wrapper.selectAll()
+            .eq(ScoreDO::getId, 1)
+            .innerJoin(StudentDO.class)
+            .on(ScoreDO::getStudentId, Condition.EQ, StudentDO::getId);
+        Integer origin = scoreMapper.selectListJoin(wrapper).get(0).getScore();
+        Assertions.assertTrue(wrapper.getReadTables().containsAll(Arrays.asList("score", "student")));
+
+        jdbcTemplate.update("UPDATE score SET score = 0 WHERE id = 1");
+        try {
+            // 绕过MyBatis的写入不会删除缓存，写入无关的表也不会删除缓存
+            Assertions.assertEquals(origin, scoreMapper.selectListJoin(wrapper).get(0).getScore());
+            scoreMapper.selectListJoin(JoinWrapper.create(ScoreDO.class, ScoreDO.class));
+            Assertions.assertEquals(origin, scoreMapper.selectListJoin(wrapper).get(0).getScore());
+
+            // 通过MyBatis写入查询读取的表后，缓存被删除
+            studentMapper.updateById(studentMapper.selectById(1));
+            Assertions.assertEquals(0, scoreMapper.selectListJoin(wrapper).get(0).getScore());
+        } finally {
+            scoreMapper.updateById((ScoreDO) new ScoreDO().setScore(origin).setId(1));
+        }
+        Assertions.assertEquals(origin, scoreMapper.selectListJoin(wrapper).get(0).getScore());
+    }
+
+    /**
+     * 合并相同查询
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 20:40
+     */
+    @Test
+    @SneakyThrows
+    void testSingleFlight() {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<ScoreDO>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    JoinWrapper<ScoreDO, ScoreDO> wrapper = JoinWrapper.create(ScoreDO.class, ScoreDO.class);
+                    wrapper.setSingleFlight(true);
+                    wrapper.selectAll()
+                        .innerJoin(StudentDO.class)
+                        .on(ScoreDO::getStudentId, Condition.EQ, StudentDO::getId);
+                    start.await();
+                    return scoreMapper.selectListJoin(wrapper);
+                }));
+            }
+            start.countDown();
+            List<ScoreDO> first = futures.get(0).get();
+            Assertions.assertFalse(first.isEmpty());
+            for (Future<List<ScoreDO>> future : futures.subList(1, threads)) {
+                List<ScoreDO> actual = future.get();
+                // 结果相同，但每个调用方获得的都是副本
+                Assertions.assertEquals(first, actual);
+                Assertions.assertNotSame(first.get(0), actual.get(0));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 近端缓存
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 20:50
+     */
+    @Test
+    void testEntityNearCache() {
+        EntityNearCache cache = EntityNearCache.register(CourseDO.class);
+        try {
+            CourseDO course = courseMapper.selectOneByKey(1, CourseDO::getId);
+            Assertions.assertEquals("物理", course.getName());
+            jdbcTemplate.update("UPDATE course SET name = '化学' WHERE id = 1");
+            try {
+                // 修改返回的实体不影响缓存，绕过MyBatis的写入不会删除缓存
+                course.setName("生物");
+                Assertions.assertEquals("物理", courseMapper.selectOneByKey(1, CourseDO::getId).getName());
+                // 未查询到数据的key也会被缓存
+                Assertions.assertEquals(0, courseMapper.countByKey(4, CourseDO::getId));
+                Assertions.assertEquals(2, cache.size());
+
+                // 批量查询时仅查询未缓存的key，结果按key的顺序排列
+                List<CourseDO> courses = courseMapper.selectBatchByKeys(Arrays.asList(3, 1, 4, 2), CourseDO::getId);
+                Assertions.assertEquals(Arrays.asList(3, 1, 2), courses.stream().map(CourseDO::getId).collect(Collectors.toList()));
+                Assertions.assertEquals("物理", courses.get(1).getName());
+                Assertions.assertEquals(4, cache.size());
+
+                // 通过MyBatis写入后，缓存被删除
+                courseMapper.updateById(courseMapper.selectById(2));
+                Assertions.assertEquals(0, cache.size());
+                Assertions.assertEquals("化学", courseMapper.selectOneByKey(1, CourseDO::getId).getName());
+            } finally {
+                jdbcTemplate.update("UPDATE course SET name = '物理' WHERE id = 1");
+            }
+        } finally {
+            EntityNearCache.unregister(CourseDO.class);
+        }
+    }
+
+    /**
+     * 身份映射
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:00
+     */
+    @Test
+    void testIdentityMap() {
+        try (JoinIdentityMap identityMap = JoinIdentityMap.open()) {
+            JoinWrapper<ScoreDO, ScoreDO> byStudent = JoinWrapper.create(ScoreDO.class, ScoreDO.class);
+            byStudent.selectAll().eq(ScoreDO::getStudentId, 1);
+            JoinWrapper<ScoreDO, ScoreDO> byCourse = JoinWrapper.create(ScoreDO.class, ScoreDO.class);
+            byCourse.selectAll().eq(ScoreDO::getCourseId, 1);
+            ScoreDO first = scoreMapper.selectListJoin(byStudent).stream()
+                .filter(score -> score.getId() == 1).findFirst().orElse(null);
+            ScoreDO second = scoreMapper.selectListJoin(byCourse).stream()
+                .filter(score -> score.getId() == 1).findFirst().orElse(null);
+            Assertions.assertNotNull(first);
+            Assertions.assertSame(first, second);
+
+            // 按主键查询时仅查询未加载的主键
+            List<CourseDO> courses = courseMapper.selectBatchByKeys(Arrays.asList(1, 2), CourseDO::getId);
+            Assertions.assertSame(courses.get(0), courseMapper.selectOneByKey(1, CourseDO::getId));
+            Assertions.assertSame(courses.get(1), courseMapper.selectBatchByKeys(Arrays.asList(2, 3), CourseDO::getId).get(0));
+            Assertions.assertEquals(3, identityMap.get(CourseDO.class, 3).getId());
+
+            // 写入表后删除对应的实体
+            courseMapper.updateById(courses.get(0));
+            Assertions.assertNull(identityMap.get(CourseDO.class, 1));
+            Assertions.assertSame(first, identityMap.get(ScoreDO.class, 1));
+        }
+        Assertions.assertNull(JoinIdentityMap.current());
+    }
+
+    /**
+     * 查询统计
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:30
+     */
+    @Test
+    void testJoinMetrics() throws Exception {
+        joinMetricsRegistry.reset();
+        for (int i = 0; i < 3; i++) {
+            JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+            wrapper.selectAll()
+                .eq(ScoreDO::getStudentId, i + 1)
+                .leftJoin(CourseDO.class, w -> w
+                    .on(ScoreDO::getCourseId, Condition.EQ, CourseDO::getId)
+                    .select(CourseDO::getName, ExampleResult::getCourseName)
+                );
+            Assertions.assertEquals(3, scoreMapper.selectListJoin(wrapper).size());
+        }
+        // 不含JoinWrapper的查询不会被统计
+        scoreMapper.selectById(1);
+
+        List<JoinQueryMetricsSnapshot> snapshots = joinMetricsRegistry.snapshot();
+        Assertions.assertEquals(1, snapshots.size());
+        JoinQueryMetricsSnapshot snapshot = snapshots.get(0);
+        Assertions.assertTrue(snapshot.getStatementId().endsWith("selectListJoin"));
+        Assertions.assertEquals(3, snapshot.getCount());
+        Assertions.assertEquals(0, snapshot.getErrors());
+        Assertions.assertEquals(9, snapshot.getRows());
+        Assertions.assertEquals(3, snapshot.getMaxRows());
+        Assertions.assertTrue(snapshot.getP50Micros() <= snapshot.getP99Micros() && snapshot.getP99Micros() <= snapshot.getMaxMicros());
+        Assertions.assertTrue(snapshot.getExecuteMicros() > 0);
+        Assertions.assertSame(snapshot.getFingerprint(), joinMetricsRegistry.snapshot(snapshot.getFingerprint()).getFingerprint());
+
+        // 通过JMX读取
+        CompositeData[] queries = (CompositeData[]) ManagementFactory.getPlatformMBeanServer().getAttribute(
+            new ObjectName(JmxJoinMetricsExporter.DEFAULT_OBJECT_NAME), "Queries"
+        );
+        Assertions.assertEquals(1, queries.length);
+        Assertions.assertEquals(3L, queries[0].get("count"));
+    }
+
+    /**
+     * 查询统计按结构指纹归类
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    @Test
+    void testJoinMetricsByShape() {
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        wrapper.selectAll().eq(ScoreDO::getStudentId, 1).in(ScoreDO::getCourseId, Arrays.asList(1, 2, 3));
+        String shapeId = wrapper.getShapeId();
+        joinMetricsRegistry.reset();
+        scoreMapper.selectListJoin(wrapper);
+        scoreMapper.selectListJoin(JoinWrapper.create(ScoreDO.class, ExampleResult.class)
+            .selectAll()
+            .eq(ScoreDO::getStudentId, 2)
+            .in(ScoreDO::getCourseId, Arrays.asList(1, 2)));
+        List<JoinQueryMetricsSnapshot> snapshots = joinMetricsRegistry.snapshot();
+        Assertions.assertEquals(2, snapshots.size());
+        Assertions.assertTrue(snapshots.stream().anyMatch(snapshot -> snapshot.getFingerprint().endsWith(shapeId)));
+    }
+
+    /**
+     * 查询每组的前n条数据时不修改原查询
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 23:50
+     */
+    @Test
+    void testTopNPerGroup() {
+        // SELECT t1.* FROM (SELECT t1.*, ROW_NUMBER() OVER (PARTITION BY t1.student_id ORDER BY t1.score DESC) AS row_num FROM score t1) t1 WHERE (t1.row_num <= ?)
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        wrapper.ge(ScoreDO::getScore, 60);
+        JoinWrapper<ExampleResult, ExampleResult> top = wrapper.topNPerGroup(ScoreDO::getStudentId, ScoreDO::getScore, false, 1)
+            .orderByAsc(ExampleResult::getId);
+        Assertions.assertEquals(
+            Arrays.asList(1, 6, 8),
+            scoreMapper.selectListJoin(top).stream().map(ExampleResult::getId).collect(Collectors.toList())
+        );
+
+        // 原查询未添加“row_num”字段，仍可以用于其他查询
+        Assertions.assertFalse(CharSequenceUtil.contains(wrapper.getSqlSelect(), "row_num"));
+        Assertions.assertEquals(6, scoreMapper.selectCountJoin(wrapper));
+        Assertions.assertEquals(5, scoreMapper.selectListJoin(wrapper.topNPerGroup(ScoreDO::getStudentId, ScoreDO::getScore, false, 2)).size());
+
+        // 逻辑表将在外层再嵌套一层查询
+        JoinWrapper<ScoreDO, ExampleResult> passed = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        passed.selectAll().ge(ScoreDO::getScore, 60);
+        JoinWrapper.LogicTable<ExampleResult> logicTable = passed.toLogicTable();
+        JoinWrapper<ExampleResult, ExampleResult> logicTop = logicTable.topNPerGroup(ExampleResult::getStudentId, ExampleResult::getScore, false, 1)
+            .orderByAsc(ExampleResult::getId);
+        Assertions.assertEquals(
+            Arrays.asList(1, 6, 8),
+            scoreMapper.selectListJoin(logicTop).stream().map(ExampleResult::getId).collect(Collectors.toList())
+        );
+        Assertions.assertFalse(CharSequenceUtil.contains(logicTable.getSqlSelect(), "row_num"));
+    }
+
+}
@@ -0,0 +1,113 @@
+package top.xiajibagao.mybatis.plus.join;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import top.xiajibagao.mybatis.plus.join.cache.ColumnarResult;
+import top.xiajibagao.mybatis.plus.join.cache.LocalJoinCacheStorage;
+import top.xiajibagao.mybatis.plus.join.cache.SerializedJoinCacheStorage;
+import top.xiajibagao.mybatis.plus.join.example.model.ExampleResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 查询结果缓存存储的单元测试，无需连接数据库
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 23:20
+ */
+class JoinCacheStorageTests {
+
+    /**
+     * 按序列化结果的总字节数淘汰缓存
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 23:20
+     */
+    @Test
+    void testMaxBytes() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add(i);
+        }
+        int byteSize = ColumnarResult.encode(values, false, false).getByteSize();
+        LocalJoinCacheStorage delegate = new LocalJoinCacheStorage(100, 60_000L, byteSize * 2L);
+        SerializedJoinCacheStorage storage = new SerializedJoinCacheStorage(delegate, false, false);
+        Assertions.assertFalse(storage.isDirect());
+        Set<String> tables = Collections.singleton("score");
+
+        // 超出字节数上限时淘汰最久未访问的缓存
+        storage.put("a", values, tables);
+        storage.put("b", values, tables);
+        Assertions.assertEquals(byteSize * 2L, delegate.getTotalBytes());
+        Assertions.assertNotNull(storage.get("a"));
+        storage.put("c", values, tables);
+        Assertions.assertEquals(2, delegate.size());
+        Assertions.assertNull(storage.get("b"));
+        Assertions.assertEquals(byteSize * 2L, delegate.getTotalBytes());
+
+        // 单个结果超出上限时不缓存
+        List<Integer> large = new ArrayList<>(values);
+        large.addAll(values);
+        large.addAll(values);
+        storage.put("large", large, tables);
+        Assertions.assertNull(storage.get("large"));
+
+        storage.evictTables(tables);
+        Assertions.assertEquals(0, delegate.size());
+        Assertions.assertEquals(0L, delegate.getTotalBytes());
+    }
+
+    /**
+     * 序列化缓存存储
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:20
+     */
+    @Test
+    void testSerializedCacheStorage() {
+        SerializedJoinCacheStorage storage = new SerializedJoinCacheStorage(new LocalJoinCacheStorage(), true, true);
+        Set<String> tables = Collections.singleton("score");
+
+        // 对象
+        List<ExampleResult> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(new ExampleResult().setId(i).setName("小明").setScore(i % 2 == 0 ? null : 60).setRemark("及格"));
+        }
+        storage.put("results", results, tables);
+        List<?> cached = (List<?>) storage.get("results");
+        Assertions.assertEquals(results, cached);
+        Assertions.assertNotSame(results.get(0), cached.get(0));
+        Assertions.assertNotSame(cached.get(0), ((List<?>) storage.get("results")).get(0));
+        ColumnarResult encoded = (ColumnarResult) storage.getDelegate().get("results");
+        Assertions.assertNotNull(encoded);
+        Assertions.assertTrue(encoded.isCompressed());
+
+        // Map与值
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 1L);
+        row.put("create_time", LocalDateTime.of(2026, 10, 19, 21, 20));
+        List<Object> rows = Arrays.asList(row, new HashMap<>(Collections.singletonMap("score", new BigDecimal("95.50"))));
+        storage.put("rows", rows, tables);
+        Assertions.assertEquals(rows, storage.get("rows"));
+        List<Object> values = Arrays.asList(1, null, "a", 2.5D);
+        storage.put("values", values, tables);
+        Assertions.assertEquals(values, storage.get("values"));
+
+        // 无法序列化的结果原样存放
+        List<Object> objects = Collections.singletonList(new Object());
+        storage.put("objects", objects, tables);
+        Assertions.assertSame(objects, storage.get("objects"));
+
+        storage.evictTables(tables);
+        Assertions.assertNull(storage.get("results"));
+    }
+
+}
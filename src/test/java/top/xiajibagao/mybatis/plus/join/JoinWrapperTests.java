@@ -0,0 +1,143 @@
+package top.xiajibagao.mybatis.plus.join;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.exceptions.MybatisPlusException;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import top.xiajibagao.mybatis.plus.join.constants.Condition;
+import top.xiajibagao.mybatis.plus.join.constants.TableRole;
+import top.xiajibagao.mybatis.plus.join.example.model.CourseDO;
+import top.xiajibagao.mybatis.plus.join.example.model.ExampleResult;
+import top.xiajibagao.mybatis.plus.join.example.model.ScoreDO;
+import top.xiajibagao.mybatis.plus.join.example.model.StudentDO;
+import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
+import top.xiajibagao.mybatis.plus.join.wrapper.column.Columns;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * 查询条件构造器的单元测试，无需连接数据库，仅根据实体类初始化TableInfo
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 23:30
+ */
+class JoinWrapperTests {
+
+    @BeforeAll
+    static void initTableInfo() {
+        MybatisConfiguration configuration = new MybatisConfiguration();
+        Stream.of(StudentDO.class, ScoreDO.class, CourseDO.class)
+            .filter(type -> Objects.isNull(TableInfoHelper.getTableInfo(type)))
+            .forEach(type -> TableInfoHelper.initTableInfo(new MapperBuilderAssistant(configuration, ""), type));
+    }
+
+    /**
+     * 表依赖
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 20:30
+     */
+    @Test
+    void testTableDependencies() {
+        JoinWrapper<ScoreDO, ExampleResult> logicTable = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        logicTable.select(ScoreDO::getCourseId, ExampleResult::getCourseId)
+            .groupBy(ScoreDO::getCourseId);
+
+        JoinWrapper<CourseDO, ExampleResult> wrapper = JoinWrapper.create(CourseDO.class, ExampleResult.class);
+        wrapper.selectAll()
+            .innerJoin(logicTable)
+            .on(CourseDO::getId, Condition.EQ, ExampleResult::getCourseId);
+        wrapper.leftJoin(ScoreDO.class, w -> w.on(CourseDO::getId, Condition.EQ, ScoreDO::getCourseId));
+
+        Map<String, Set<TableRole>> dependencies = wrapper.getTableDependencies();
+        Assertions.assertEquals(EnumSet.of(TableRole.MAIN), dependencies.get("course"));
+        Assertions.assertEquals(EnumSet.of(TableRole.JOINED, TableRole.SUBQUERY), dependencies.get("score"));
+        Assertions.assertFalse(dependencies.containsKey("student"));
+        Assertions.assertSame(dependencies, wrapper.getTableDependencies());
+
+        // 新增子查询条件后重新计算
+        wrapper.where(wrapper.toTableColumn(CourseDO::getId), Condition.IN, Columns.subQuery(
+            JoinWrapper.create(StudentDO.class, StudentDO.class).select(StudentDO::getId)
+        ));
+        dependencies = wrapper.getTableDependencies();
+        Assertions.assertEquals(EnumSet.of(TableRole.SUBQUERY), dependencies.get("student"));
+        Assertions.assertEquals(Arrays.asList("course", "score", "student"), new ArrayList<>(wrapper.getReadTables()));
+    }
+
+    /**
+     * 查询结构指纹
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:40
+     */
+    @Test
+    void testShapeId() {
+        BiFunction<Integer, List<Integer>, JoinWrapper<ScoreDO, ExampleResult>> query = (studentId, courseIds) -> {
+            JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+            wrapper.selectAll()
+                .eq(ScoreDO::getStudentId, studentId)
+                .in(ScoreDO::getCourseId, courseIds)
+                .leftJoin(CourseDO.class, w -> w
+                    .on(ScoreDO::getCourseId, Condition.EQ, CourseDO::getId)
+                    .select(CourseDO::getName, ExampleResult::getCourseName)
+                );
+            return wrapper;
+        };
+        String shapeId = query.apply(1, Arrays.asList(1, 2, 3)).getShapeId();
+        Assertions.assertEquals(16, shapeId.length());
+        // 参数值不同，或参数数量在同一分桶中
+        Assertions.assertEquals(shapeId, query.apply(2, Arrays.asList(4, 5, 6)).getShapeId());
+        Assertions.assertEquals(shapeId, query.apply(2, Arrays.asList(4, 5, 6, 7)).getShapeId());
+        Assertions.assertNotEquals(shapeId, query.apply(2, Arrays.asList(4, 5, 6, 7, 8)).getShapeId());
+        // 不生效的条件不计入结构
+        Assertions.assertEquals(shapeId, query.apply(1, Arrays.asList(1, 2, 3)).eq(false, ScoreDO::getScore, 1).getShapeId());
+        Assertions.assertEquals(shapeId, query.apply(1, Arrays.asList(1, 2, 3)).and(false, w -> w.eq(ScoreDO::getScore, 1)).getShapeId());
+        // 运算符、字段、关联方式或分页不同
+        Assertions.assertNotEquals(shapeId, query.apply(1, Arrays.asList(1, 2, 3)).gt(ScoreDO::getScore, 60).getShapeId());
+        Assertions.assertNotEquals(
+            query.apply(1, Arrays.asList(1, 2, 3)).gt(ScoreDO::getScore, 60).getShapeId(),
+            query.apply(1, Arrays.asList(1, 2, 3)).lt(ScoreDO::getScore, 60).getShapeId()
+        );
+        Assertions.assertNotEquals(shapeId, query.apply(1, Arrays.asList(1, 2, 3)).orderByDesc(ScoreDO::getId).getShapeId());
+        Assertions.assertEquals(
+            query.apply(1, Arrays.asList(1, 2, 3)).limit(10).getShapeId(),
+            query.apply(1, Arrays.asList(1, 2, 3)).limit(20).getShapeId()
+        );
+        Assertions.assertNotEquals(shapeId, query.apply(1, Arrays.asList(1, 2, 3)).limit(10).getShapeId());
+        JoinWrapper<ScoreDO, ExampleResult> innerJoin = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        innerJoin.selectAll()
+            .eq(ScoreDO::getStudentId, 1)
+            .in(ScoreDO::getCourseId, Arrays.asList(1, 2, 3))
+            .innerJoin(CourseDO.class, w -> w
+                .on(ScoreDO::getCourseId, Condition.EQ, CourseDO::getId)
+                .select(CourseDO::getName, ExampleResult::getCourseName)
+            );
+        Assertions.assertNotEquals(shapeId, innerJoin.getShapeId());
+    }
+
+    /**
+     * 找不到主表的TableInfo时抛出MybatisPlusException
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 23:50
+     */
+    @Test
+    void testMissingTableInfo() {
+        MybatisPlusException exception = Assertions.assertThrows(
+            MybatisPlusException.class, () -> JoinWrapper.create(String.class, String.class)
+        );
+        Assertions.assertTrue(exception.getMessage().contains(String.class.getName()));
+    }
+
+}
@@ -0,0 +1,50 @@
+package top.xiajibagao.mybatis.plus.join;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import top.xiajibagao.mybatis.plus.join.metrics.LatencyHistogram;
+
+/**
+ * 耗时直方图的单元测试，无需连接数据库
+ *
+ * @author huangchengxing
+ * @date 2026/10/19 23:30
+ */
+class LatencyHistogramTests {
+
+    /**
+     * 百分位数的相对误差不超过1/32
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 23:30
+     */
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertArrayEquals(new long[]{0L, 0L}, histogram.getPercentiles(50, 99));
+
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-1);
+        Assertions.assertEquals(100_001, histogram.getCount());
+        Assertions.assertEquals(100_000L * 100_001L / 2, histogram.getSum());
+        Assertions.assertEquals(100_000, histogram.getMax());
+
+        long[] percentiles = histogram.getPercentiles(50, 99, 100);
+        Assertions.assertEquals(50_000, percentiles[0], 50_000 / 32D);
+        Assertions.assertEquals(99_000, percentiles[1], 99_000 / 32D);
+        // 不超过已记录的最大值
+        Assertions.assertEquals(100_000, percentiles[2]);
+        Assertions.assertTrue(percentiles[0] <= percentiles[1]);
+
+        // 小于32的数值没有误差
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.getCount());
+        for (long i = 0; i < 32; i++) {
+            histogram.record(i);
+        }
+        Assertions.assertArrayEquals(new long[]{15L, 31L}, histogram.getPercentiles(50, 100));
+    }
+
+}
@@ -9,15 +9,26 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import top.xiajibagao.mybatis.plus.join.constants.Condition;
+import top.xiajibagao.mybatis.plus.join.extend.ChunkProgress;
+import top.xiajibagao.mybatis.plus.join.extend.EstimatedPage;
+import top.xiajibagao.mybatis.plus.join.extend.JoinPageIterator;
 import top.xiajibagao.mybatis.plus.join.example.mapper.ScoreMapper;
 import top.xiajibagao.mybatis.plus.join.example.mapper.StudentMapper;
 import top.xiajibagao.mybatis.plus.join.example.model.*;
+import top.xiajibagao.mybatis.plus.join.helper.BatchUtils;
+import top.xiajibagao.mybatis.plus.join.interceptor.SlowJoinQueryInterceptor;
+import top.xiajibagao.mybatis.plus.join.metrics.SlowJoinQuery;
+import top.xiajibagao.mybatis.plus.join.metrics.SlowJoinQueryLog;
 import top.xiajibagao.mybatis.plus.join.wrapper.JoinWrapper;
 import top.xiajibagao.mybatis.plus.join.wrapper.column.Columns;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @SpringBootTest
 class MybatisPlusJoinTableApplicationTests {
@@ -28,6 +39,9 @@ class MybatisPlusJoinTableApplicationTests {
     @Autowired
     private ScoreMapper scoreMapper;
 
+    @Autowired
+    private SlowJoinQueryInterceptor slowJoinQueryInterceptor;
+
     @SneakyThrows
     protected void printObject(Object target) {
         System.out.println(JSON.toJSONString(target));
@@ -377,4 +391,284 @@ class MybatisPlusJoinTableApplicationTests {
         );
         Assertions.assertEquals(expected, actual);
     }
+
+    /**
+     * 近似总数分页
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 10:50
+     */
+    @Test
+    void testEstimatedPage() {
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class)
+            .selectAll()
+            .orderByAsc(ScoreDO::getId);
+
+        // 共9条，超过阈值时总数只统计到阈值
+        EstimatedPage<ExampleResult> page = scoreMapper.selectEstimatedPageJoin(new EstimatedPage<>(1, 3, 5), wrapper);
+        printObject(page);
+        Assertions.assertEquals(3, page.getRecords().size());
+        Assertions.assertEquals(5, page.getTotal());
+        Assertions.assertFalse(page.isExactTotal());
+
+        // 超过阈值时优先使用估算值
+        EstimatedPage<ExampleResult> estimatedPage = new EstimatedPage<>(1, 3, 5);
+        estimatedPage.setEstimator(w -> 100L);
+        Assertions.assertEquals(100, scoreMapper.selectEstimatedPageJoin(estimatedPage, wrapper).getTotal());
+
+        // 未超过阈值时为精确值
+        page = scoreMapper.selectEstimatedPageJoin(new EstimatedPage<>(1, 3, 20), wrapper);
+        Assertions.assertEquals(9, page.getTotal());
+        Assertions.assertTrue(page.isExactTotal());
+
+        // 最后一页未填满时直接由偏移量得出总数
+        page = scoreMapper.selectEstimatedPageJoin(new EstimatedPage<>(3, 4, 5), wrapper);
+        Assertions.assertEquals(1, page.getRecords().size());
+        Assertions.assertEquals(9, page.getTotal());
+        Assertions.assertTrue(page.isExactTotal());
+    }
+
+    /**
+     * 后台预读的分页遍历
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 14:00
+     */
+    @Test
+    void testPageIterator() {
+        // 按游标遍历：SELECT t1.* FROM score t1 WHERE (t1.id > ?) ORDER BY t1.id ASC LIMIT ?
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class).selectAll();
+        List<Integer> pageSizes = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        try (JoinPageIterator<ScoreDO, ExampleResult> pages = JoinPageIterator.keyset(scoreMapper, wrapper, ScoreDO::getId, ExampleResult::getId)
+            .setPageSize(4)) {
+            for (List<ExampleResult> page : pages) {
+                pageSizes.add(page.size());
+                page.forEach(r -> ids.add(r.getId()));
+            }
+        }
+        Assertions.assertEquals(Arrays.asList(4, 4, 1), pageSizes);
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9), ids);
+
+        // 按页码遍历，提前结束时停止后台查询
+        wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class).selectAll().orderByAsc(ScoreDO::getId);
+        try (Stream<ExampleResult> stream = JoinPageIterator.offset(scoreMapper, wrapper).setPageSize(2).setPrefetch(2).stream()) {
+            List<Integer> actual = stream.limit(3).map(ExampleResult::getId).collect(Collectors.toList());
+            Assertions.assertEquals(Arrays.asList(1, 2, 3), actual);
+        }
+    }
+
+    /**
+     * 按主键范围分块处理
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 15:00
+     */
+    @Test
+    void testForEachChunk() {
+        // SELECT t1.* FROM score t1 WHERE (t1.id > ?) ORDER BY t1.id ASC LIMIT ?
+        List<Integer> ids = new ArrayList<>();
+        ChunkProgress progress = scoreMapper.forEachChunk(
+            JoinWrapper.create(ScoreDO.class, ExampleResult.class).selectAll(), 4,
+            chunk -> chunk.forEach(r -> ids.add(r.getId()))
+        );
+        printObject(progress.toString());
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9), ids);
+        Assertions.assertEquals(3, progress.getChunks());
+        Assertions.assertEquals(9, progress.getRows());
+
+        // 并行处理
+        List<Integer> parallelIds = Collections.synchronizedList(new ArrayList<>());
+        List<Long> reported = Collections.synchronizedList(new ArrayList<>());
+        progress = scoreMapper.forEachChunk(
+            JoinWrapper.create(ScoreDO.class, ExampleResult.class).selectAll()
+                .whereIfNotNull(ScoreDO::getScore, Condition.GE, 60), 2, 3,
+            chunk -> chunk.forEach(r -> parallelIds.add(r.getId())),
+            p -> reported.add(p.getRows())
+        );
+        parallelIds.sort(Integer::compareTo);
+        Assertions.assertEquals(Arrays.asList(1, 2, 4, 5, 6, 8), parallelIds);
+        Assertions.assertEquals(3, progress.getChunks());
+        Assertions.assertEquals(3, reported.size());
+    }
+
+    /**
+     * 分页条件
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 16:40
+     */
+    @Test
+    void testLimit() {
+        // SELECT t1.* FROM score t1 ORDER BY t1.id ASC LIMIT ? OFFSET ?
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class)
+            .selectAll()
+            .orderByAsc(ScoreDO::getId)
+            .limit(3, 2);
+        List<Integer> actual = scoreMapper.selectListJoin(wrapper).stream().map(ExampleResult::getId).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(3, 4, 5), actual);
+        // 统计时忽略分页条件
+        Assertions.assertEquals(9, scoreMapper.selectCountJoin(JoinWrapper.create(ScoreDO.class, ExampleResult.class).limit(3)));
+
+        // 逻辑表中的分页条件与参数：SELECT t1.* FROM (SELECT t1.* FROM score t1 WHERE (t1.score >= ?) ORDER BY t1.score DESC LIMIT ?) t1
+        JoinWrapper<ScoreDO, ExampleResult> logicTable = JoinWrapper.create(ScoreDO.class, ExampleResult.class)
+            .selectAll()
+            .ge(ScoreDO::getScore, 60)
+            .orderByDesc(ScoreDO::getScore)
+            .limit(2);
+        actual = scoreMapper.selectListJoin(logicTable.toLogicTable().selectAll()).stream()
+            .map(ExampleResult::getId)
+            .collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(6, 1), actual);
+
+        // 子查询中的参数：SELECT t1.* FROM course t1 WHERE (t1.id IN (SELECT t1.course_id FROM score t1 WHERE (t1.score > ?)))
+        JoinWrapper<CourseDO, ExampleResult> courseWrapper = JoinWrapper.create(CourseDO.class, ExampleResult.class);
+        courseWrapper.selectAll()
+            .where(courseWrapper.toTableColumn(CourseDO::getId), Condition.IN, Columns.subQuery(
+                JoinWrapper.create(ScoreDO.class, ExampleResult.class)
+                    .select(ScoreDO::getCourseId)
+                    .gt(ScoreDO::getScore, 94)
+            ))
+            .orderByAsc(CourseDO::getId);
+        actual = scoreMapper.selectListJoin(courseWrapper).stream().map(ExampleResult::getId).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(1, 3), actual);
+    }
+
+    /**
+     * 窗口函数
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 17:30
+     */
+    @Test
+    void testWindowFunction() {
+        // 每个学生分数最高的科目：
+        // SELECT t1.* FROM (SELECT t1.*, ROW_NUMBER() OVER (PARTITION BY t1.student_id ORDER BY t1.score DESC) AS row_num FROM score t1) t1 WHERE (t1.row_num <= ?)
+        JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+        JoinWrapper<ExampleResult, ExampleResult> top = wrapper.topNPerGroup(ScoreDO::getStudentId, ScoreDO::getScore, false, 1)
+            .orderByAsc(ExampleResult::getId);
+        List<Integer> actual = scoreMapper.selectListJoin(top).stream().map(ExampleResult::getId).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(1, 6, 8), actual);
+
+        // 按科目排名：SELECT t1.id, RANK() OVER (PARTITION BY t1.course_id ORDER BY t1.score DESC) AS num FROM score t1
+        wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class)
+            .select(ScoreDO::getId)
+            .rank(ScoreDO::getCourseId, ScoreDO::getScore, false, ExampleResult::getNum)
+            .orderByAsc(ScoreDO::getId);
+        List<Integer> ranks = scoreMapper.selectListJoin(wrapper).stream().map(ExampleResult::getNum).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(1, 3, 2, 2, 1, 1, 3, 2, 3), ranks);
+
+        // 按学生累计分数：SELECT t1.id, SUM(t1.score) OVER (PARTITION BY t1.student_id ORDER BY t1.id ASC) AS score FROM score t1
+        wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class)
+            .select(ScoreDO::getId)
+            .sumOver(ScoreDO::getScore, ScoreDO::getStudentId, ScoreDO::getId, ExampleResult::getScore)
+            .orderByAsc(ScoreDO::getId);
+        List<Integer> sums = scoreMapper.selectListJoin(wrapper).stream().map(ExampleResult::getScore).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(95, 180, 233, 81, 174, 274, 59, 148, 200), sums);
+    }
+
+    /**
+     * 分块批量查询
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 17:50
+     */
+    @Test
+    void testSelectInChunks() {
+        // key去重并去除null值后分为[3, 1]与[2, 5]两块并行查询，结果按分块顺序合并
+        List<Integer> keys = Arrays.asList(3, 1, 3, null, 2, 5);
+        List<Integer> actual = BatchUtils.selectInChunks(keys, 2, 2, chunk -> scoreMapper.selectListJoin(
+            JoinWrapper.create(ScoreDO.class, ExampleResult.class)
+                .selectAll()
+                .in(ScoreDO::getId, chunk)
+                .orderByAsc(ScoreDO::getId)
+        )).stream().map(ExampleResult::getId).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(1, 3, 2, 5), actual);
+        Assertions.assertTrue(BatchUtils.selectInChunks(Collections.<Integer>emptyList(), 2, 2, chunk -> Collections.emptyList()).isEmpty());
+    }
+
+    /**
+     * 合并查询结果
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 20:00
+     */
+    @Test
+    void testUnion() {
+        // SELECT t1.id, t1.score FROM ((SELECT t1.id, t1.score FROM score t1 WHERE (t1.student_id = ? AND t1.score >= ?)) UNION ALL (...)) t1 ORDER BY t1.score DESC
+        JoinWrapper<ScoreDO, ScoreDO> first = JoinWrapper.create(ScoreDO.class, ScoreDO.class);
+        first.select(ScoreDO::getId)
+            .select(ScoreDO::getScore)
+            .eq(ScoreDO::getStudentId, 1)
+            .ge(ScoreDO::getScore, 85);
+        JoinWrapper<ScoreDO, ScoreDO> second = JoinWrapper.create(ScoreDO.class, ScoreDO.class);
+        second.select(ScoreDO::getId)
+            .select(ScoreDO::getScore)
+            .eq(ScoreDO::getStudentId, 2)
+            .ge(ScoreDO::getScore, 85);
+        JoinWrapper.UnionTable<ScoreDO> union = first.unionAll(second);
+        union.select(ScoreDO::getId)
+            .select(ScoreDO::getScore)
+            .orderByDesc(ScoreDO::getScore);
+
+        List<Integer> actual = scoreMapper.selectListJoin(union).stream().map(ScoreDO::getId).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(6, 1, 5, 2), actual);
+
+        Page<ScoreDO> page = scoreMapper.selectPageJoin(new Page<>(1, 2), union);
+        Assertions.assertEquals(4, page.getTotal());
+        Assertions.assertEquals(Arrays.asList(6, 1), page.getRecords().stream().map(ScoreDO::getId).collect(Collectors.toList()));
+
+        JoinWrapper<ScoreDO, ScoreDO> incompatible = JoinWrapper.create(ScoreDO.class, ScoreDO.class);
+        incompatible.select(ScoreDO::getId);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> first.union(incompatible));
+    }
+
+    /**
+     * 慢查询日志
+     *
+     * @author huangchengxing
+     * @date 2026/10/19 21:50
+     */
+    @Test
+    void testSlowJoinQuery() throws Exception {
+        SlowJoinQueryLog log = slowJoinQueryInterceptor.getLog();
+        log.clear();
+        slowJoinQueryInterceptor.setThresholdMillis(0);
+        slowJoinQueryInterceptor.setExplainIntervalMillis(0);
+        slowJoinQueryInterceptor.setMaskParameters(true);
+        try {
+            JoinWrapper<ScoreDO, ExampleResult> wrapper = JoinWrapper.create(ScoreDO.class, ExampleResult.class);
+            wrapper.selectAll()
+                .eq(ScoreDO::getStudentId, 1)
+                .leftJoin(CourseDO.class, w -> w
+                    .on(ScoreDO::getCourseId, Condition.EQ, CourseDO::getId)
+                    .select(CourseDO::getName, ExampleResult::getCourseName)
+                );
+            scoreMapper.selectListJoin(wrapper);
+            // 不含JoinWrapper的查询不会被记录
+            scoreMapper.selectById(1);
+
+            List<SlowJoinQuery> queries = log.getQueries();
+            Assertions.assertEquals(1, queries.size());
+            SlowJoinQuery query = queries.get(0);
+            Assertions.assertTrue(query.getStatementId().contains("ScoreMapper.selectListJoin"));
+            Assertions.assertEquals(wrapper.getShapeId(), query.getShapeId());
+            Assertions.assertTrue(query.getSql().contains("LEFT JOIN"));
+            Assertions.assertFalse(query.getParameters().isEmpty());
+            Assertions.assertTrue(query.getParameters().stream().allMatch(p -> Objects.isNull(p) || "******".equals(p)));
+            Assertions.assertTrue(query.getCallSite().contains("testSlowJoinQuery"));
+
+            // 执行计划异步获取
+            for (int i = 0; i < 50 && Objects.isNull(query.getExplain()); i++) {
+                Thread.sleep(100);
+            }
+            Assertions.assertNotNull(query.getExplain());
+            Assertions.assertFalse(query.getExplain().startsWith("获取执行计划失败"), query.getExplain());
+        } finally {
+            slowJoinQueryInterceptor.setThresholdMillis(SlowJoinQueryInterceptor.DEFAULT_THRESHOLD_MILLIS);
+            slowJoinQueryInterceptor.setExplainIntervalMillis(SlowJoinQueryInterceptor.DEFAULT_EXPLAIN_INTERVAL_MILLIS);
+            slowJoinQueryInterceptor.setMaskParameters(false);
+            log.clear();
+        }
+    }
 }
@@ -12,6 +12,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import top.xiajibagao.mybatis.plus.join.injector.JoinMethodInjector;
 import top.xiajibagao.mybatis.plus.join.interceptor.DynamicResultInterceptor;
+import top.xiajibagao.mybatis.plus.join.interceptor.EntityNearCacheInterceptor;
+import top.xiajibagao.mybatis.plus.join.interceptor.JoinIdentityMapInterceptor;
+import top.xiajibagao.mybatis.plus.join.interceptor.JoinMetricsInterceptor;
+import top.xiajibagao.mybatis.plus.join.interceptor.JoinResultCacheInterceptor;
+import top.xiajibagao.mybatis.plus.join.interceptor.JoinSingleFlightInterceptor;
+import top.xiajibagao.mybatis.plus.join.interceptor.MaterializedLogicTableInterceptor;
+import top.xiajibagao.mybatis.plus.join.interceptor.SlowJoinQueryInterceptor;
+import top.xiajibagao.mybatis.plus.join.interceptor.TempKeyTableInterceptor;
+import top.xiajibagao.mybatis.plus.join.metrics.JmxJoinMetricsExporter;
+import top.xiajibagao.mybatis.plus.join.metrics.JoinMetricsRegistry;
 
 import javax.sql.DataSource;
 
@@ -24,12 +34,23 @@ import javax.sql.DataSource;
 public class DefaultMybatisPlusExtendConfig {
 
     @Bean
-    public SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+    public JoinMetricsRegistry joinMetricsRegistry() {
+        return new JoinMetricsRegistry().addExporter(new JmxJoinMetricsExporter());
+    }
+
+    @Bean
+    public SlowJoinQueryInterceptor slowJoinQueryInterceptor() {
+        return new SlowJoinQueryInterceptor();
+    }
+
+    @Bean
+    public SqlSessionFactory sqlSessionFactory(
+        DataSource dataSource, JoinMetricsRegistry joinMetricsRegistry, SlowJoinQueryInterceptor slowJoinQueryInterceptor) throws Exception {
         MybatisSqlSessionFactoryBean sqlSessionFactory = new MybatisSqlSessionFactoryBean();
         sqlSessionFactory.setDataSource(dataSource);
 
         // 插件
-        sqlSessionFactory.setPlugins(new DynamicResultInterceptor());
+        sqlSessionFactory.setPlugins(new DynamicResultInterceptor(), new TempKeyTableInterceptor(), new JoinResultCacheInterceptor(), new JoinSingleFlightInterceptor(), new EntityNearCacheInterceptor(), new JoinIdentityMapInterceptor(), new MaterializedLogicTableInterceptor(), new JoinMetricsInterceptor(joinMetricsRegistry), slowJoinQueryInterceptor);
 
         MybatisConfiguration configuration = new MybatisConfiguration();
         GlobalConfig globalConfig = GlobalConfigUtils.getGlobalConfig(configuration);
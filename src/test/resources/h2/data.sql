@@ -0,0 +1,17 @@
+INSERT INTO course (id, classroom_id, name, type) VALUES (1, 1, '物理', '理科');
+INSERT INTO course (id, classroom_id, name, type) VALUES (2, 1, '数学', '理科');
+INSERT INTO course (id, classroom_id, name, type) VALUES (3, 2, '地理', '文科');
+
+INSERT INTO student (id, name) VALUES (1, '小明');
+INSERT INTO student (id, name) VALUES (2, '小红');
+INSERT INTO student (id, name) VALUES (3, '小雷');
+
+INSERT INTO score (id, student_id, course_id, score) VALUES (1, 1, 1, 95);
+INSERT INTO score (id, student_id, course_id, score) VALUES (2, 1, 2, 85);
+INSERT INTO score (id, student_id, course_id, score) VALUES (3, 1, 3, 53);
+INSERT INTO score (id, student_id, course_id, score) VALUES (4, 2, 1, 81);
+INSERT INTO score (id, student_id, course_id, score) VALUES (5, 2, 2, 93);
+INSERT INTO score (id, student_id, course_id, score) VALUES (6, 2, 3, 100);
+INSERT INTO score (id, student_id, course_id, score) VALUES (7, 3, 1, 59);
+INSERT INTO score (id, student_id, course_id, score) VALUES (8, 3, 2, 89);
+INSERT INTO score (id, student_id, course_id, score) VALUES (9, 3, 3, 52);
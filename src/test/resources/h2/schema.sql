@@ -0,0 +1,25 @@
+DROP TABLE IF EXISTS course;
+DROP TABLE IF EXISTS score;
+DROP TABLE IF EXISTS student;
+
+CREATE TABLE course (
+    id INT NOT NULL AUTO_INCREMENT,
+    classroom_id INT NULL DEFAULT NULL,
+    name VARCHAR(255) NULL DEFAULT NULL,
+    type VARCHAR(255) NULL DEFAULT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE score (
+    id INT NOT NULL AUTO_INCREMENT,
+    student_id INT NULL DEFAULT NULL,
+    course_id INT NULL DEFAULT NULL,
+    score INT NULL DEFAULT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE student (
+    id INT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NULL DEFAULT NULL,
+    PRIMARY KEY (id)
+);